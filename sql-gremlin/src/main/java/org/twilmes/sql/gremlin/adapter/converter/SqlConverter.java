@@ -19,6 +19,8 @@
 
 package org.twilmes.sql.gremlin.adapter.converter;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import lombok.Getter;
 import org.apache.calcite.avatica.util.Quoting;
@@ -62,11 +64,36 @@ public class SqlConverter {
             SqlParser.config().withLex(Lex.MYSQL).withQuoting(Quoting.DOUBLE_QUOTE);
     private static final Program PROGRAM =
             Programs.sequence(Programs.ofRules(Programs.RULE_SET), Programs.CALC_PROGRAM);
+    private static final int PLAN_CACHE_SIZE = 256;
+    // Plans only depend on the SQL and the schema. A refreshed schema is a new instance, so it gets a new cache and
+    // the weakly referenced cache of the old schema goes away with it.
+    private static final Cache<GremlinSchema, Cache<String, SqlGremlinQueryPlan>> PLAN_CACHES =
+            CacheBuilder.newBuilder().weakKeys().build();
+    // Plans of queries without an ORDER BY differ when the implicit order is disabled, so they are cached separately.
+    private static final Cache<GremlinSchema, Cache<String, SqlGremlinQueryPlan>> UNORDERED_PLAN_CACHES =
+            CacheBuilder.newBuilder().weakKeys().build();
     private final FrameworkConfig frameworkConfig;
     private final GremlinSchema gremlinSchema;
+    @Getter
+    private final boolean implicitOrder;
+    private final Cache<String, SqlGremlinQueryPlan> planCache;
 
     public SqlConverter(final GremlinSchema gremlinSchema) {
+        this(gremlinSchema, true);
+    }
+
+    /**
+     * Creates a converter for the given schema.
+     *
+     * @param gremlinSchema Schema to translate queries against.
+     * @param implicitOrder Whether queries without an ORDER BY are sorted by id. If false, rows are streamed in the
+     *                      order the traversal returns them instead of waiting for a sort of the whole result.
+     */
+    public SqlConverter(final GremlinSchema gremlinSchema, final boolean implicitOrder) {
         this.gremlinSchema = gremlinSchema;
+        this.implicitOrder = implicitOrder;
+        this.planCache = (implicitOrder ? PLAN_CACHES : UNORDERED_PLAN_CACHES).asMap().computeIfAbsent(gremlinSchema,
+                key -> CacheBuilder.newBuilder().maximumSize(PLAN_CACHE_SIZE).build());
         final SchemaPlus rootSchema = Frameworks.createRootSchema(true);
         this.frameworkConfig = Frameworks.newConfigBuilder()
                 .parserConfig(PARSER_CONFIG)
@@ -77,19 +104,97 @@ public class SqlConverter {
     }
 
     private GremlinSqlSelect getSelect(final GraphTraversalSource g, final String query) throws SQLException {
-        GremlinSqlFactory.setSqlMetadata(new SqlMetadata(gremlinSchema));
+        // Each query gets its own metadata, which tracks the renames of that query only.
+        final SqlMetadata sqlMetadata = new SqlMetadata(gremlinSchema, implicitOrder);
         final QueryPlanner queryPlanner = new QueryPlanner(frameworkConfig);
         queryPlanner.plan(query);
         final SqlNode sqlNode = queryPlanner.getValidate();
         if (sqlNode instanceof SqlSelect) {
-            return GremlinSqlFactory.createSelect((SqlSelect) sqlNode, g);
+            return GremlinSqlFactory.createSelect((SqlSelect) sqlNode, g, sqlMetadata);
         } else {
             throw SqlGremlinError.createNotSupported(SqlGremlinError.SQL_SELECT_ONLY);
         }
     }
 
     public SqlGremlinQueryResult executeQuery(final GraphTraversalSource g, final String query) throws SQLException {
-        return getSelect(g, query).executeTraversal();
+        return executeQuery(g, query, SqlGremlinQueryResult.DEFAULT_PAGE_SIZE, this);
+    }
+
+    /**
+     * Executes a query, reading its results from the traversal a page at a time.
+     *
+     * @param g        Traversal source to run the query on.
+     * @param query    SQL query.
+     * @param pageSize Number of rows read from the traversal at a time, the result buffers up to two pages.
+     * @param owner    Owner the reading of the results is scheduled fairly against, for example the connection.
+     * @return Result of the query.
+     * @throws SQLException if the query cannot be translated, or too many queries are waiting to read results.
+     */
+    public SqlGremlinQueryResult executeQuery(final GraphTraversalSource g, final String query, final int pageSize,
+                                              final Object owner) throws SQLException {
+        final String normalizedQuery = normalizeQuery(query);
+        final SqlGremlinQueryPlan cachedPlan = planCache.getIfPresent(normalizedQuery);
+        if (cachedPlan != null) {
+            try {
+                return cachedPlan.execute(cachedPlan.generateTraversal(g), pageSize, owner);
+            } catch (final RuntimeException e) {
+                // Translate the query again if the cached bytecode cannot be replayed on this traversal source.
+                LOGGER.debug("Failed to reuse cached plan, translating the query again.", e);
+                planCache.invalidate(normalizedQuery);
+            }
+        }
+        final GremlinSqlSelect gremlinSqlSelect = getSelect(g, query);
+        final GraphTraversal<?, ?> graphTraversal = gremlinSqlSelect.generateQueryTraversal();
+        final SqlGremlinQueryPlan plan = gremlinSqlSelect.generatePlan(graphTraversal);
+        planCache.put(normalizedQuery, plan);
+        return plan.execute(graphTraversal, pageSize, owner);
+    }
+
+    /**
+     * Normalizes a query for the plan cache by trimming it, removing comments and collapsing whitespace outside of
+     * quoted text. Comments are removed first, so that text after a line comment cannot end up in the query.
+     *
+     * @param query SQL query.
+     * @return Normalized query.
+     */
+    static String normalizeQuery(final String query) {
+        final StringBuilder normalized = new StringBuilder(query.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            final char next = (i + 1 < query.length()) ? query.charAt(i + 1) : 0;
+            if (quote == 0 && c == '-' && next == '-') {
+                final int end = query.indexOf('\n', i);
+                i = (end < 0) ? query.length() : end + 1;
+                pendingSpace = true;
+                continue;
+            }
+            if (quote == 0 && c == '/' && next == '*') {
+                final int end = query.indexOf("*/", i + 2);
+                i = (end < 0) ? query.length() : end + 2;
+                pendingSpace = true;
+                continue;
+            }
+            i++;
+            if (quote == 0 && Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            pendingSpace = false;
+            if (quote == 0 && (c == '\'' || c == '"' || c == '`')) {
+                quote = c;
+            } else if (c == quote) {
+                // A doubled quote inside quoted text toggles out and back in, which keeps it quoted.
+                quote = 0;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
     }
 
     private GraphTraversal<?, ?> getGraphTraversal(GraphTraversalSource g, final String query) throws SQLException {
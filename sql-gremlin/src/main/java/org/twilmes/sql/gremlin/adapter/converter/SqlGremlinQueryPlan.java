@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.twilmes.sql.gremlin.adapter.converter;
+
+import lombok.Getter;
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
+import org.twilmes.sql.gremlin.adapter.results.pagination.GetRowFromMap;
+import org.twilmes.sql.gremlin.adapter.results.pagination.Pagination;
+import org.twilmes.sql.gremlin.adapter.results.pagination.PaginationScheduler;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This module holds everything needed to run a translated SQL query again without Calcite: the Gremlin bytecode of
+ * the traversal, the output columns and their types, and the reader that turns traversal results into rows.
+ */
+@Getter
+public class SqlGremlinQueryPlan {
+    private final Bytecode bytecode;
+    private final List<String> columns;
+    private final List<String> columnTypes;
+    private final GetRowFromMap dataReader;
+
+    public SqlGremlinQueryPlan(final GraphTraversal<?, ?> graphTraversal, final List<String> columns,
+                               final List<String> columnTypes, final GetRowFromMap dataReader) {
+        // Copy the steps only, executing the traversal must not change the plan. Source options such as timeouts come
+        // from the traversal source the plan is run on.
+        this.bytecode = new Bytecode();
+        for (final Bytecode.Instruction instruction : graphTraversal.asAdmin().getBytecode().getStepInstructions()) {
+            bytecode.addStep(instruction.getOperator(), instruction.getArguments());
+        }
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        this.columnTypes = Collections.unmodifiableList(new ArrayList<>(columnTypes));
+        this.dataReader = dataReader;
+    }
+
+    /**
+     * Creates a new traversal of the plan on the given traversal source.
+     *
+     * @param g Traversal source to run the traversal on.
+     * @return Traversal of the plan.
+     */
+    public GraphTraversal<?, ?> generateTraversal(final GraphTraversalSource g) {
+        return (GraphTraversal<?, ?>) JavaTranslator.of(g).translate(bytecode);
+    }
+
+    /**
+     * Starts reading the results of a traversal of this plan in the background, on the driver-wide pagination
+     * scheduler.
+     *
+     * @param graphTraversal Traversal of the plan, created by the query translation or by generateTraversal.
+     * @param pageSize       Number of rows read from the traversal at a time.
+     * @param owner          Owner the pagination is scheduled fairly against, for example its connection.
+     * @return Result that rows are added to as they are read.
+     * @throws SQLException if too many queries are waiting to read their results.
+     */
+    public SqlGremlinQueryResult execute(final GraphTraversal<?, ?> graphTraversal, final int pageSize,
+                                         final Object owner) throws SQLException {
+        final SqlGremlinQueryResult sqlGremlinQueryResult = new SqlGremlinQueryResult(columns, columnTypes, pageSize);
+        final Pagination pagination = new Pagination(dataReader, graphTraversal, sqlGremlinQueryResult);
+        pagination.setResume(() -> {
+            try {
+                PaginationScheduler.getInstance().resume(owner, pagination);
+            } catch (final SQLException e) {
+                pagination.closeTraversal();
+                sqlGremlinQueryResult.setPaginationException(e);
+            }
+        });
+        try {
+            PaginationScheduler.getInstance().submit(owner, pagination);
+        } catch (final SQLException e) {
+            try {
+                graphTraversal.close();
+            } catch (final Exception ignored) {
+            }
+            throw e;
+        }
+        return sqlGremlinQueryResult;
+    }
+}
@@ -55,6 +55,8 @@ import static org.twilmes.sql.gremlin.adapter.util.SqlGremlinError.UNRECOGNIZED_
 public class SqlMetadata {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlMetadata.class);
     private final GremlinSchema gremlinSchema;
+    // Whether queries without an ORDER BY are sorted by id, which blocks streaming until every row was read.
+    private final boolean implicitOrder;
     private final Map<String, String> tableRenameMap = new HashMap<>();
     private final Map<String, String> columnRenameMap = new HashMap<>();
     private final Map<String, List<String>> columnOutputListMap = new HashMap<>();
@@ -65,7 +67,12 @@ public class SqlMetadata {
     private boolean doneFilters = false;
 
     public SqlMetadata(final GremlinSchema gremlinSchema) {
+        this(gremlinSchema, true);
+    }
+
+    public SqlMetadata(final GremlinSchema gremlinSchema, final boolean implicitOrder) {
         this.gremlinSchema = gremlinSchema;
+        this.implicitOrder = implicitOrder;
     }
 
     private static boolean isAggregate(final SqlNode sqlNode) {
@@ -51,9 +51,9 @@ public class GremlinSqlBasicCall extends GremlinSqlNode {
             throws SQLException {
         super(sqlBasicCall, sqlMetadata);
         this.sqlBasicCall = sqlBasicCall;
-        gremlinSqlOperator =
-                GremlinSqlFactory.createOperator(sqlBasicCall.getOperator(), sqlBasicCall.getOperandList());
-        gremlinSqlNodes = GremlinSqlFactory.createNodeList(sqlBasicCall.getOperandList());
+        gremlinSqlOperator = GremlinSqlFactory.createOperator(sqlBasicCall.getOperator(),
+                sqlBasicCall.getOperandList(), sqlMetadata);
+        gremlinSqlNodes = GremlinSqlFactory.createNodeList(sqlBasicCall.getOperandList(), sqlMetadata);
     }
 
     void validate() throws SQLException {
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.twilmes.sql.gremlin.adapter.converter.SqlGremlinQueryPlan;
 import org.twilmes.sql.gremlin.adapter.converter.SqlMetadata;
 import org.twilmes.sql.gremlin.adapter.converter.SqlTraversalEngine;
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.GremlinSqlNode;
@@ -33,6 +34,7 @@ import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operands.GremlinSqlId
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.GremlinSqlBasicCall;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
 import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
+import org.twilmes.sql.gremlin.adapter.results.pagination.GetRowFromMap;
 import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
 
 import java.sql.SQLException;
@@ -58,37 +60,63 @@ public abstract class GremlinSqlSelect extends GremlinSqlNode {
     }
 
     public SqlGremlinQueryResult executeTraversal() throws SQLException {
+        final GraphTraversal<?, ?> graphTraversal = generateQueryTraversal();
+        return generatePlan(graphTraversal).execute(graphTraversal, SqlGremlinQueryResult.DEFAULT_PAGE_SIZE, this);
+    }
+
+    /**
+     * Generates the traversal of the query, including DISTINCT, OFFSET and LIMIT.
+     *
+     * @return Traversal of the query.
+     * @throws SQLException If the query cannot be translated.
+     */
+    public GraphTraversal<?, ?> generateQueryTraversal() throws SQLException {
         GraphTraversal<?, ?> graphTraversal = null;
         try {
             sqlMetadata.checkAggregate(sqlSelect.getSelectList());
             sqlMetadata.checkGroupByNodeIsNull(sqlSelect.getGroup());
             graphTraversal = generateTraversal();
             applyDistinct(graphTraversal);
-            applyOffset(graphTraversal);
-            applyLimit(graphTraversal);
-            final SqlGremlinQueryResult sqlGremlinQueryResult = generateSqlGremlinQueryResult();
-            runTraversalExecutor(graphTraversal, sqlGremlinQueryResult);
-            return sqlGremlinQueryResult;
+            applyOffsetAndLimit(graphTraversal);
+            return graphTraversal;
         } catch (final SQLException e) {
-            if (graphTraversal != null) {
-                try {
-                    graphTraversal.close();
-                } catch (final Exception ignored) {
-                }
-            }
+            closeTraversal(graphTraversal);
             throw e;
         }
     }
 
-    private SqlGremlinQueryResult generateSqlGremlinQueryResult() throws SQLException {
-        final List<String> columns = new ArrayList<>();
-        sqlMetadata.getColumnOutputListMap().forEach((key, value) -> columns.addAll(value));
-        return new SqlGremlinQueryResult(columns, sqlMetadata);
+    /**
+     * Generates the plan of a traversal of this query, which can be run again without translating the query.
+     *
+     * @param graphTraversal Traversal of the query from generateQueryTraversal, closed if no plan can be made.
+     * @return Plan of the query.
+     * @throws SQLException If the output of the query cannot be read.
+     */
+    public SqlGremlinQueryPlan generatePlan(final GraphTraversal<?, ?> graphTraversal) throws SQLException {
+        try {
+            final List<String> columns = new ArrayList<>();
+            sqlMetadata.getColumnOutputListMap().forEach((key, value) -> columns.addAll(value));
+            final List<String> columnTypes = new ArrayList<>();
+            for (final String column : columns) {
+                columnTypes.add(sqlMetadata.getType(column));
+            }
+            return new SqlGremlinQueryPlan(graphTraversal, columns, columnTypes, createDataReader());
+        } catch (final SQLException e) {
+            closeTraversal(graphTraversal);
+            throw e;
+        }
+    }
 
+    private static void closeTraversal(final GraphTraversal<?, ?> graphTraversal) {
+        if (graphTraversal != null) {
+            try {
+                graphTraversal.close();
+            } catch (final Exception ignored) {
+            }
+        }
     }
 
-    protected abstract void runTraversalExecutor(GraphTraversal<?, ?> traversal,
-                                                 SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException;
+    protected abstract GetRowFromMap createDataReader() throws SQLException;
 
     public String getStringTraversal() throws SQLException {
         return GroovyTranslator.of("g").translate(generateTraversal().asAdmin().getBytecode());
@@ -148,22 +176,26 @@ public abstract class GremlinSqlSelect extends GremlinSqlNode {
         applyColumnRetrieval(graphTraversal, table, sqlNodeList, StepDirection.None);
     }
 
-    private void applyOffset(final GraphTraversal<?, ?> graphTraversal) throws SQLException {
-        // TODO: AN-885 implement OFFSET
-        // Gremlin doesn't seem to directly support offset,
-        // we probably need to inject numeric literal value
-        // into the pagination and have it know to jump the
-        // first X number of results.
-        if (sqlSelect.getOffset() != null) {
+    private void applyOffsetAndLimit(final GraphTraversal<?, ?> graphTraversal) throws SQLException {
+        final Long limit = (sqlSelect.getFetch() instanceof SqlNumericLiteral)
+                ? ((SqlNumericLiteral) sqlSelect.getFetch()).getValueAs(Long.class)
+                : null;
+        if (sqlSelect.getOffset() == null) {
+            if (limit != null) {
+                graphTraversal.limit(limit);
+            }
+            return;
+        }
+        if (!(sqlSelect.getOffset() instanceof SqlNumericLiteral)) {
             throw SqlGremlinError.createNotSupported(SqlGremlinError.OFFSET_NOT_SUPPORTED);
         }
-    }
 
-    private void applyLimit(final GraphTraversal<?, ?> graphTraversal) {
-        if (sqlSelect.getFetch() instanceof SqlNumericLiteral) {
-            final SqlNumericLiteral limit = (SqlNumericLiteral) sqlSelect.getFetch();
-            final Long limitValue = limit.getValueAs(Long.class);
-            graphTraversal.limit(limitValue);
+        // OFFSET and LIMIT apply to the rows after ORDER BY and DISTINCT, which the traversal skips with a range.
+        final long offset = ((SqlNumericLiteral) sqlSelect.getOffset()).getValueAs(Long.class);
+        if (limit == null || limit > Long.MAX_VALUE - offset) {
+            graphTraversal.range(offset, -1);
+        } else {
+            graphTraversal.range(offset, offset + limit);
         }
     }
 
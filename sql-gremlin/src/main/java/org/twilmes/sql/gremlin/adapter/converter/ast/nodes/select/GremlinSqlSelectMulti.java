@@ -19,7 +19,6 @@
 
 package org.twilmes.sql.gremlin.adapter.converter.ast.nodes.select;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.calcite.sql.JoinConditionType;
 import org.apache.calcite.sql.JoinType;
 import org.apache.calcite.sql.SqlJoin;
@@ -39,17 +38,15 @@ import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operands.GremlinSqlId
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.GremlinSqlAsOperator;
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.GremlinSqlBasicCall;
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.select.join.GremlinSqlJoinComparison;
+import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.select.join.GremlinSqlJoinFilter;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
-import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
+import org.twilmes.sql.gremlin.adapter.results.pagination.GetRowFromMap;
 import org.twilmes.sql.gremlin.adapter.results.pagination.JoinDataReader;
-import org.twilmes.sql.gremlin.adapter.results.pagination.Pagination;
 import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * This module is a GremlinSql equivalent of Calcite's SqlSelect for a JOIN operation.
@@ -74,17 +71,12 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
     }
 
     @Override
-    protected void runTraversalExecutor(final GraphTraversal<?, ?> graphTraversal,
-                                        final SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException {
-        // Launch thread to continue grabbing results.
-        final ExecutorService executor = Executors.newSingleThreadExecutor(
-                new ThreadFactoryBuilder().setNameFormat("Data-Insert-Thread-%d").setDaemon(true).build());
+    protected GetRowFromMap createDataReader() throws SQLException {
         final Map<String, List<String>> tableColumns = sqlMetadata.getColumnOutputListMap();
         if (tableColumns.keySet().size() > 2) {
             throw SqlGremlinError.create(SqlGremlinError.JOIN_TABLE_COUNT);
         }
-        executor.execute(new Pagination(new JoinDataReader(tableColumns), graphTraversal, sqlGremlinQueryResult));
-        executor.shutdown();
+        return new JoinDataReader(tableColumns);
     }
 
     @Override
@@ -93,11 +85,11 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
         final JoinConditionType conditionType = sqlJoin.getConditionType();
 
         final GremlinSqlBasicCall left =
-                GremlinSqlFactory.createNodeCheckType(sqlJoin.getLeft(), GremlinSqlBasicCall.class);
+                GremlinSqlFactory.createNodeCheckType(sqlJoin.getLeft(), GremlinSqlBasicCall.class, sqlMetadata);
         final GremlinSqlBasicCall right =
-                GremlinSqlFactory.createNodeCheckType(sqlJoin.getRight(), GremlinSqlBasicCall.class);
+                GremlinSqlFactory.createNodeCheckType(sqlJoin.getRight(), GremlinSqlBasicCall.class, sqlMetadata);
         final GremlinSqlJoinComparison gremlinSqlJoinComparison =
-                GremlinSqlFactory.createJoinEquality(sqlJoin.getCondition());
+                GremlinSqlFactory.createJoinEquality(sqlJoin.getCondition(), sqlMetadata);
 
         if (!joinType.name().equals(JoinType.INNER.name())) {
             throw SqlGremlinError.createNotSupported(SqlGremlinError.INNER_JOIN_ONLY);
@@ -198,9 +190,9 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
         final List<GremlinSqlNode> gremlinSqlNodesOut = new ArrayList<>();
         for (final SqlNode sqlNode : sqlSelect.getSelectList().getList()) {
             if (GremlinSqlFactory.isTable(sqlNode, inVRename)) {
-                gremlinSqlNodesIn.add(GremlinSqlFactory.createNode(sqlNode));
+                gremlinSqlNodesIn.add(GremlinSqlFactory.createNode(sqlNode, sqlMetadata));
             } else if (GremlinSqlFactory.isTable(sqlNode, outVRename)) {
-                gremlinSqlNodesOut.add(GremlinSqlFactory.createNode(sqlNode));
+                gremlinSqlNodesOut.add(GremlinSqlFactory.createNode(sqlNode, sqlMetadata));
             }
         }
 
@@ -209,11 +201,11 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
             graphTraversal = g.E().hasLabel(edgeLabel)
                     .where(__.inV().hasLabel(inVLabel))
                     .where(__.outV().hasLabel(outVLabel));
-            applyWhere(graphTraversal);
+            applyWhere(graphTraversal, inVRename, outVRename);
             applyGroupBy(graphTraversal, edgeLabel, inVRename, outVRename);
             applySelectValues(graphTraversal);
             applyOrderBy(graphTraversal, edgeLabel, inVRename, outVRename);
-            applyHaving(graphTraversal);
+            applyHaving(graphTraversal, inVRename, outVRename);
             SqlTraversalEngine.applyAggregateFold(sqlMetadata, graphTraversal);
             graphTraversal.project(inVRename, outVRename);
             sqlMetadata.setIsDoneFilters(true);
@@ -244,7 +236,8 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
         } else {
             final List<GremlinSqlIdentifier> gremlinSqlIdentifiers = new ArrayList<>();
             for (final SqlNode sqlNode : sqlSelect.getGroup().getList()) {
-                gremlinSqlIdentifiers.add(GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class));
+                gremlinSqlIdentifiers.add(
+                        GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata));
             }
             graphTraversal.group();
             final List<GraphTraversal> byUnion = new ArrayList<>();
@@ -276,14 +269,18 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
 
     protected void applyOrderBy(final GraphTraversal<?, ?> graphTraversal, final String edgeLabel,
                                 final String inVRename, final String outVRename) throws SQLException {
-        graphTraversal.order();
         if (sqlSelect.getOrderList() == null || sqlSelect.getOrderList().getList().isEmpty()) {
-            graphTraversal.by(__.unfold().id());
+            // Without an ORDER BY, rows are only sorted by id if implicit ordering is enabled so results can stream.
+            if (sqlMetadata.isImplicitOrder()) {
+                graphTraversal.order().by(__.unfold().id());
+            }
             return;
         }
+        graphTraversal.order();
         final List<GremlinSqlIdentifier> gremlinSqlIdentifiers = new ArrayList<>();
         for (final SqlNode sqlNode : sqlSelect.getOrderList().getList()) {
-            gremlinSqlIdentifiers.add(GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class));
+            gremlinSqlIdentifiers.add(
+                    GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata));
         }
         final GremlinTableBase outVTable = sqlMetadata.getGremlinTable(outVRename);
         final GremlinTableBase inVTable = sqlMetadata.getGremlinTable(inVRename);
@@ -306,17 +303,14 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
         }
     }
 
-    protected void applyHaving(final GraphTraversal<?, ?> graphTraversal) throws SQLException {
-        if (sqlSelect.getHaving() == null) {
-            return;
-        }
-        throw SqlGremlinError.createNotSupported(SqlGremlinError.JOIN_HAVING_UNSUPPORTED);
+    protected void applyHaving(final GraphTraversal<?, ?> graphTraversal, final String inVRename,
+                               final String outVRename) throws SQLException {
+        new GremlinSqlJoinFilter(sqlMetadata, inVRename, outVRename).applyHaving(graphTraversal, sqlSelect.getHaving());
     }
 
-    protected void applyWhere(final GraphTraversal<?, ?> graphTraversal) throws SQLException {
-        if (sqlSelect.getWhere() == null) {
-            return;
-        }
-        throw SqlGremlinError.createNotSupported(SqlGremlinError.JOIN_WHERE_UNSUPPORTED);
+    protected void applyWhere(final GraphTraversal<?, ?> graphTraversal, final String inVRename,
+                              final String outVRename) throws SQLException {
+        // Filtering the edges by their vertices before grouping keeps filtered out edges from being read.
+        new GremlinSqlJoinFilter(sqlMetadata, inVRename, outVRename).applyWhere(graphTraversal, sqlSelect.getWhere());
     }
 }
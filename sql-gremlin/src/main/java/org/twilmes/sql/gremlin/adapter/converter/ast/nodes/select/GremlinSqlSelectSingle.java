@@ -19,7 +19,6 @@
 
 package org.twilmes.sql.gremlin.adapter.converter.ast.nodes.select;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlKind;
@@ -45,16 +44,13 @@ import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.GremlinSqlPo
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.logic.GremlinSqlBinaryOperator;
 import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.logic.GremlinSqlLiteral;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
-import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
-import org.twilmes.sql.gremlin.adapter.results.pagination.Pagination;
+import org.twilmes.sql.gremlin.adapter.results.pagination.GetRowFromMap;
 import org.twilmes.sql.gremlin.adapter.results.pagination.SimpleDataReader;
 import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * This module is a GremlinSql equivalent of Calcite's SqlSelect for a non-JOIN operation.
@@ -79,19 +75,14 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
     }
 
     @Override
-    protected void runTraversalExecutor(final GraphTraversal<?, ?> graphTraversal,
-                                        final SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException {
-        // Launch thread to continue grabbing results.
-        final ExecutorService executor = Executors.newSingleThreadExecutor(
-                new ThreadFactoryBuilder().setNameFormat("Data-Insert-Thread-%d").setDaemon(true).build());
+    protected GetRowFromMap createDataReader() throws SQLException {
         final List<List<String>> columns = new ArrayList<>(sqlMetadata.getColumnOutputListMap().values());
         if (columns.size() != 1) {
             throw SqlGremlinError.create(SqlGremlinError.SINGLE_SELECT_MULTI_RETURN);
         }
-        executor.execute(new Pagination(new SimpleDataReader(
-                sqlMetadata.getRenameFromActual(sqlMetadata.getTables().iterator().next().getLabel()), columns.get(0)),
-                graphTraversal, sqlGremlinQueryResult));
-        executor.shutdown();
+        return new SimpleDataReader(
+                sqlMetadata.getRenameFromActual(sqlMetadata.getTables().iterator().next().getLabel()),
+                new ArrayList<>(columns.get(0)));
     }
 
     @Override
@@ -100,12 +91,13 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
             throw SqlGremlinError.create(SqlGremlinError.SELECT_NO_LIST);
         }
 
-        final GremlinSqlOperator gremlinSqlOperator =
-                GremlinSqlFactory.createOperator(sqlBasicCall.getOperator(), sqlBasicCall.getOperandList());
+        final GremlinSqlOperator gremlinSqlOperator = GremlinSqlFactory.createOperator(sqlBasicCall.getOperator(),
+                sqlBasicCall.getOperandList(), sqlMetadata);
         if (!(gremlinSqlOperator instanceof GremlinSqlAsOperator)) {
             throw SqlGremlinError.create(SqlGremlinError.UNEXPECTED_FROM_FORMAT);
         }
-        final List<GremlinSqlNode> gremlinSqlOperands = GremlinSqlFactory.createNodeList(sqlBasicCall.getOperandList());
+        final List<GremlinSqlNode> gremlinSqlOperands =
+                GremlinSqlFactory.createNodeList(sqlBasicCall.getOperandList(), sqlMetadata);
         final List<GremlinSqlIdentifier> gremlinSqlIdentifiers = new ArrayList<>();
         for (final GremlinSqlNode gremlinSqlOperand : gremlinSqlOperands) {
             if (!(gremlinSqlOperand instanceof GremlinSqlIdentifier)) {
@@ -160,7 +152,7 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
         final GraphTraversal<?, Map<String, ?>> graphTraversalDataPath = __.__();
         SqlTraversalEngine.addProjection(gremlinSqlIdentifiers, sqlMetadata, graphTraversalDataPath);
         applyColumnRetrieval(graphTraversalDataPath, projectLabel,
-                GremlinSqlFactory.createNodeList(sqlSelect.getSelectList().getList()));
+                GremlinSqlFactory.createNodeList(sqlSelect.getSelectList().getList(), sqlMetadata));
 
         SqlTraversalEngine.applyAggregateFold(sqlMetadata, graphTraversal);
         final GraphTraversal<?, ?> graphTraversalChoosePredicate = __.unfold();
@@ -183,7 +175,8 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
         } else {
             final List<GremlinSqlNode> gremlinSqlNodes = new ArrayList<>();
             for (final SqlNode sqlNode : sqlSelect.getGroup().getList()) {
-                gremlinSqlNodes.add(GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class));
+                gremlinSqlNodes.add(
+                        GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata));
             }
             graphTraversal.group();
             final List<GraphTraversal> byUnion = new ArrayList<>();
@@ -197,14 +190,17 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
     }
 
     protected void applyOrderBy(final GraphTraversal<?, ?> graphTraversal, final String table) throws SQLException {
-        graphTraversal.order();
         if (sqlSelect.getOrderList() == null || sqlSelect.getOrderList().getList().isEmpty()) {
-            graphTraversal.by(__.unfold().id());
+            // Without an ORDER BY, rows are only sorted by id if implicit ordering is enabled so results can stream.
+            if (sqlMetadata.isImplicitOrder()) {
+                graphTraversal.order().by(__.unfold().id());
+            }
             return;
         }
+        graphTraversal.order();
         final List<GremlinSqlNode> gremlinSqlIdentifiers = new ArrayList<>();
         for (final SqlNode sqlNode : sqlSelect.getOrderList().getList()) {
-            gremlinSqlIdentifiers.add(GremlinSqlFactory.createNode(sqlNode));
+            gremlinSqlIdentifiers.add(GremlinSqlFactory.createNode(sqlNode, sqlMetadata));
         }
         for (final GremlinSqlNode gremlinSqlNode : gremlinSqlIdentifiers) {
             appendByGraphTraversal(gremlinSqlNode, table, graphTraversal);
@@ -264,7 +260,8 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
             if (gremlinSqlLiteral.getValue() instanceof Number) {
                 final Number value = (Number) gremlinSqlLiteral.getValue();
                 if (sqlNodeList.size() <= value.intValue() || value.intValue() <= 0) {
-                    appendByGraphTraversal(GremlinSqlFactory.createNode(sqlNodeList.get(value.intValue() - 1)), table,
+                    appendByGraphTraversal(
+                            GremlinSqlFactory.createNode(sqlNodeList.get(value.intValue() - 1), sqlMetadata), table,
                             graphTraversal);
                 } else {
                     throw SqlGremlinError.create(SqlGremlinError.ORDER_BY_ORDINAL_VALUE);
@@ -299,19 +296,19 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
                     if (sqlBasicCall.getOperandList().size() == 1 && sqlBasicCall.operands.length == 1) {
                         GremlinSqlBinaryOperator.appendBooleanEquals(sqlMetadata, graphTraversal,
                                 GremlinSqlFactory.createNodeCheckType(sqlBasicCall.operands[0],
-                                        GremlinSqlIdentifier.class), false);
+                                        GremlinSqlIdentifier.class, sqlMetadata), false);
                         return;
                     }
                     throw SqlGremlinError.createNotSupported(SqlGremlinError.WHERE_NOT_ONLY_BOOLEAN);
                 }
                 throw SqlGremlinError.createNotSupported(SqlGremlinError.WHERE_UNSUPPORTED_PREFIX);
             }
-            GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlBasicCall.class)
+            GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlBasicCall.class, sqlMetadata)
                     .generateTraversal(graphTraversal);
             return;
         } else if (sqlNode instanceof SqlIdentifier) {
             GremlinSqlBinaryOperator.appendBooleanEquals(sqlMetadata, graphTraversal,
-                    GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class), true);
+                    GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata), true);
             return;
         }
         throw SqlGremlinError.createNotSupported(SqlGremlinError.WHERE_BASIC_LITERALS);
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.twilmes.sql.gremlin.adapter.converter.ast.nodes.select.join;
+
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.twilmes.sql.gremlin.adapter.converter.SqlMetadata;
+import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.GremlinSqlFactory;
+import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operands.GremlinSqlIdentifier;
+import org.twilmes.sql.gremlin.adapter.converter.ast.nodes.operator.logic.GremlinSqlLiteral;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
+import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * This module translates the WHERE and HAVING clauses of a JOIN into filters on the vertices connected by the edge.
+ *
+ * WHERE is applied to the edges before they are grouped, comparing properties of the in and out vertex with literals.
+ * HAVING is applied to the groups of edges, comparing aggregates of vertex properties with literals. Negations are
+ * pushed down to the comparisons, so that comparisons on missing properties stay false as they are in SQL.
+ */
+public class GremlinSqlJoinFilter {
+    private final SqlMetadata sqlMetadata;
+    private final String inVRename;
+    private final String outVRename;
+
+    public GremlinSqlJoinFilter(final SqlMetadata sqlMetadata, final String inVRename, final String outVRename) {
+        this.sqlMetadata = sqlMetadata;
+        this.inVRename = inVRename;
+        this.outVRename = outVRename;
+    }
+
+    /**
+     * Filters the edges of the join by a WHERE clause.
+     *
+     * @param graphTraversal Traversal of the edges of the join.
+     * @param where          WHERE clause, may be null.
+     * @throws SQLException if the clause cannot be translated.
+     */
+    public void applyWhere(final GraphTraversal<?, ?> graphTraversal, final SqlNode where) throws SQLException {
+        if (where != null) {
+            graphTraversal.where(generateFilter(where, false, false));
+        }
+    }
+
+    /**
+     * Filters the grouped edges of the join by a HAVING clause.
+     *
+     * @param graphTraversal Traversal of the groups of edges of the join.
+     * @param having         HAVING clause, may be null.
+     * @throws SQLException if the clause cannot be translated.
+     */
+    public void applyHaving(final GraphTraversal<?, ?> graphTraversal, final SqlNode having) throws SQLException {
+        if (having != null) {
+            graphTraversal.where(generateFilter(having, false, true));
+        }
+    }
+
+    private GraphTraversal<?, ?> generateFilter(final SqlNode sqlNode, final boolean negate, final boolean grouped)
+            throws SQLException {
+        if (sqlNode instanceof SqlIdentifier) {
+            // Boolean columns are used as filters directly.
+            return generateComparison(sqlNode, P.eq(true), negate, grouped);
+        }
+        if (!(sqlNode instanceof SqlBasicCall)) {
+            throw unsupported(grouped);
+        }
+        final SqlBasicCall sqlBasicCall = (SqlBasicCall) sqlNode;
+        final List<SqlNode> operands = sqlBasicCall.getOperandList();
+        final SqlKind kind = sqlBasicCall.getKind();
+        switch (kind) {
+            case AND:
+            case OR:
+                final GraphTraversal<?, ?>[] filters = new GraphTraversal[operands.size()];
+                for (int i = 0; i < operands.size(); i++) {
+                    filters[i] = generateFilter(operands.get(i), negate, grouped);
+                }
+                // NOT (a AND b) is (NOT a) OR (NOT b), and NOT (a OR b) is (NOT a) AND (NOT b).
+                return ((kind == SqlKind.AND) != negate) ? __.and(filters) : __.or(filters);
+            case NOT:
+                return generateFilter(operands.get(0), !negate, grouped);
+            case IS_NULL:
+            case IS_NOT_NULL:
+                return generateNullCheck(operands.get(0), (kind == SqlKind.IS_NULL) != negate, grouped);
+            case EQUALS:
+            case NOT_EQUALS:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                if (operands.size() != 2) {
+                    throw unsupported(grouped);
+                }
+                if (operands.get(1) instanceof SqlLiteral) {
+                    return generateComparison(operands.get(0), getPredicate(kind, getValue(operands.get(1))), negate,
+                            grouped);
+                } else if (operands.get(0) instanceof SqlLiteral) {
+                    // The literal is on the left, so the comparison is reversed, 1 < a is a > 1.
+                    return generateComparison(operands.get(1), getPredicate(kind.reverse(), getValue(operands.get(0))),
+                            negate, grouped);
+                }
+                throw unsupported(grouped);
+            default:
+                throw unsupported(grouped);
+        }
+    }
+
+    private GraphTraversal<?, ?> generateComparison(final SqlNode sqlNode, final P<?> predicate,
+                                                    final boolean negate, final boolean grouped)
+            throws SQLException {
+        final P<?> p = negate ? predicate.negate() : predicate;
+        if (sqlNode instanceof SqlIdentifier) {
+            final GremlinSqlIdentifier identifier =
+                    GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata);
+            final GraphTraversal<?, ?> vertex = getVertex(identifier, grouped);
+            final String column = getColumn(identifier, grouped);
+            return (column == null) ? vertex.hasId(p) : vertex.has(column, p);
+        } else if (grouped && sqlNode instanceof SqlBasicCall
+                && ((SqlBasicCall) sqlNode).getOperator() instanceof SqlAggFunction) {
+            return generateAggregate((SqlBasicCall) sqlNode).is(p);
+        }
+        throw unsupported(grouped);
+    }
+
+    private GraphTraversal<?, ?> generateNullCheck(final SqlNode sqlNode, final boolean isNull, final boolean grouped)
+            throws SQLException {
+        if (!(sqlNode instanceof SqlIdentifier)) {
+            throw unsupported(grouped);
+        }
+        final GremlinSqlIdentifier identifier =
+                GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlIdentifier.class, sqlMetadata);
+        final GraphTraversal<?, ?> vertex = getVertex(identifier, grouped);
+        final String column = getColumn(identifier, grouped);
+        if (column == null) {
+            // Ids are never null.
+            return isNull ? __.not(vertex) : vertex;
+        }
+        return isNull ? vertex.hasNot(column) : vertex.has(column);
+    }
+
+    private GraphTraversal<?, ?> generateAggregate(final SqlBasicCall sqlBasicCall) throws SQLException {
+        if (sqlBasicCall.getFunctionQuantifier() != null || sqlBasicCall.getOperandList().size() != 1
+                || !(sqlBasicCall.operand(0) instanceof SqlIdentifier)) {
+            throw unsupported(true);
+        }
+        final GremlinSqlIdentifier identifier =
+                GremlinSqlFactory.createNodeCheckType(sqlBasicCall.operand(0), GremlinSqlIdentifier.class, sqlMetadata);
+        final SqlKind kind = sqlBasicCall.getOperator().getKind();
+        final GraphTraversal<?, ?> graphTraversal;
+        if (identifier.isStar()) {
+            if (kind != SqlKind.COUNT) {
+                throw unsupported(true);
+            }
+            graphTraversal = __.unfold();
+        } else {
+            graphTraversal = getVertex(identifier, true);
+            final String column = getColumn(identifier, true);
+            if (column == null) {
+                graphTraversal.id();
+            } else {
+                graphTraversal.values(column);
+            }
+        }
+        switch (kind) {
+            case COUNT:
+                return graphTraversal.count();
+            case SUM:
+                return graphTraversal.sum();
+            case AVG:
+                return graphTraversal.mean();
+            case MIN:
+                return graphTraversal.min();
+            case MAX:
+                return graphTraversal.max();
+            default:
+                throw SqlGremlinError.create(SqlGremlinError.AGGREGATE_NOT_SUPPORTED, kind.sql);
+        }
+    }
+
+    private GraphTraversal<?, ?> getVertex(final GremlinSqlIdentifier identifier, final boolean grouped)
+            throws SQLException {
+        // Grouped rows are lists of edges.
+        final GraphTraversal<?, ?> graphTraversal = grouped ? __.unfold() : __.__();
+        return getRename(identifier).equals(inVRename) ? graphTraversal.inV() : graphTraversal.outV();
+    }
+
+    private String getColumn(final GremlinSqlIdentifier identifier, final boolean grouped) throws SQLException {
+        final GremlinTableBase table = sqlMetadata.getGremlinTable(getRename(identifier));
+        final String column = sqlMetadata.getActualColumnName(table, identifier.getColumn());
+        if (column.endsWith(GremlinTableBase.IN_ID) || column.endsWith(GremlinTableBase.OUT_ID)) {
+            throw unsupported(grouped);
+        }
+        // The id of the vertex itself has no property name.
+        return column.endsWith(GremlinTableBase.ID) ? null : column;
+    }
+
+    private String getRename(final GremlinSqlIdentifier identifier) throws SQLException {
+        if (identifier.getNameCount() == 2) {
+            final String table = identifier.getName(0);
+            if (table.equals(inVRename) || table.equals(outVRename)) {
+                return table;
+            }
+        } else if (identifier.getNameCount() == 1) {
+            if (sqlMetadata.getTableHasColumn(sqlMetadata.getGremlinTable(inVRename), identifier.getColumn())) {
+                return inVRename;
+            } else if (sqlMetadata.getTableHasColumn(sqlMetadata.getGremlinTable(outVRename),
+                    identifier.getColumn())) {
+                return outVRename;
+            }
+        }
+        throw SqlGremlinError.create(SqlGremlinError.NO_JOIN_COLUMN);
+    }
+
+    private Object getValue(final SqlNode sqlNode) throws SQLException {
+        return GremlinSqlFactory.createNodeCheckType(sqlNode, GremlinSqlLiteral.class, sqlMetadata).getValue();
+    }
+
+    private static P<?> getPredicate(final SqlKind kind, final Object value) {
+        switch (kind) {
+            case EQUALS:
+                return P.eq(value);
+            case NOT_EQUALS:
+                return P.neq(value);
+            case GREATER_THAN:
+                return P.gt(value);
+            case GREATER_THAN_OR_EQUAL:
+                return P.gte(value);
+            case LESS_THAN:
+                return P.lt(value);
+            default:
+                return P.lte(value);
+        }
+    }
+
+    private static SQLException unsupported(final boolean grouped) {
+        return SqlGremlinError.createNotSupported(
+                grouped ? SqlGremlinError.JOIN_HAVING_UNSUPPORTED : SqlGremlinError.JOIN_WHERE_UNSUPPORTED);
+    }
+}
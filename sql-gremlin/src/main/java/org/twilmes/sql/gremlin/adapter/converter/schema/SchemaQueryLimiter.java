@@ -0,0 +1,94 @@
+package org.twilmes.sql.gremlin.adapter.converter.schema;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the queries of one schema scan on a shared executor with at most a fixed number of them in flight. Queries over
+ * the limit wait in a queue without holding a thread and are started as running queries complete, so no query ever
+ * blocks on another.
+ */
+final class SchemaQueryLimiter {
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private int running = 0;
+    private boolean cancelled = false;
+
+    SchemaQueryLimiter(final Executor executor, final int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive.");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Submits a query, starting it right away if fewer than the maximum number of queries are running.
+     *
+     * @param query Query to run.
+     * @param <T>   Result type of the query.
+     * @return Future completed with the result of the query.
+     */
+    <T> CompletableFuture<T> submit(final Callable<T> query) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable task = () -> {
+            try {
+                if (!future.isDone()) {
+                    future.complete(query.call());
+                }
+            } catch (final Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                startNext();
+            }
+        };
+        synchronized (this) {
+            if (cancelled) {
+                future.cancel(false);
+                return future;
+            }
+            if (running >= maxConcurrency) {
+                pending.add(() -> {
+                    if (isCancelled()) {
+                        // Skipped by the task since its future is done, which moves on to the next pending query.
+                        future.cancel(false);
+                    }
+                    task.run();
+                });
+                return future;
+            }
+            running++;
+        }
+        executor.execute(task);
+        return future;
+    }
+
+    /**
+     * Drops every query that has not started yet, for example once the scan has failed. Running queries complete.
+     */
+    void cancel() {
+        synchronized (this) {
+            cancelled = true;
+        }
+    }
+
+    private synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void startNext() {
+        final Runnable next;
+        synchronized (this) {
+            next = pending.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+        executor.execute(next);
+    }
+}
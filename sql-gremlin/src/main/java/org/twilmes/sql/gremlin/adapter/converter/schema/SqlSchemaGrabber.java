@@ -2,16 +2,21 @@ package org.twilmes.sql.gremlin.adapter.converter.schema;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import org.apache.calcite.util.Pair;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinEdgeTable;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinProperty;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinVertexTable;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -23,12 +28,18 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class SqlSchemaGrabber {
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    public static final boolean DEFAULT_BATCHED = false;
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlSchemaGrabber.class);
     private static final Map<Class<?>, String> TYPE_MAP = new HashMap<>();
     private static final String VERTEX_EDGES_LABEL_QUERY = "g.V().hasLabel('%s').%sE().label().dedup()";
@@ -37,6 +48,17 @@ public final class SqlSchemaGrabber {
     private static final String LABELS_QUERY = "g.%s().label().dedup()";
     private static final String IN_OUT_VERTEX_QUERY =
             "g.E().hasLabel('%s').project('in','out').by(inV().label()).by(outV().label()).dedup()";
+    private static final String GROUPED_PROPERTY_KEY_QUERY =
+            "g.%s().group().by(label).by(properties().key().dedup().fold())";
+    private static final String GROUPED_VERTEX_EDGES_LABEL_QUERY =
+            "g.V().group().by(label).by(%sE().label().dedup().fold())";
+    private static final String GROUPED_PROPERTIES_VALUE_QUERY =
+            "g.%s().hasLabel('%s')%s.properties().group().by(key()).by(value().dedup()%s.fold())";
+    private static final String GROUPED_IN_OUT_VERTEX_QUERY = "g.E().group().by(label)"
+            + ".by(project('in','out').by(inV().label()).by(outV().label()).dedup().fold())";
+    // Shared by all scans, each scan bounds how many of its queries run at once.
+    private static final ExecutorService SCHEMA_QUERY_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("schema-query-%d").setDaemon(true).build());
 
     static {
         TYPE_MAP.put(String.class, "String");
@@ -54,29 +76,96 @@ public final class SqlSchemaGrabber {
     }
 
     public static GremlinSchema getSchema(final GraphTraversalSource g, final ScanType scanType) throws SQLException {
-        final ExecutorService executor = Executors.newFixedThreadPool(96,
-                new ThreadFactoryBuilder().setNameFormat("RxSessionRunner-%d").setDaemon(true).build());
+        return getSchema(g, scanType, null);
+    }
+
+    public static GremlinSchema getSchema(final GraphTraversalSource g, final ScanType scanType,
+                                          final GremlinSchema previousSchema) throws SQLException {
+        return getSchema(g, scanType, previousSchema, DEFAULT_MAX_CONCURRENCY, false);
+    }
+
+    /**
+     * Gets the schema of the graph, reusing the property types of a previous schema for every label whose property
+     * keys are unchanged. Labels with new property keys, and new labels, have their property types scanned again.
+     * Edge connections are always collected again.
+     *
+     * Queries of the scan run on a shared executor, with at most maxConcurrency of them sent to the server at a time.
+     * A batched scan collects labels, property keys and edge connections of all labels in a few grouped traversals
+     * and samples the property values of each label in one traversal, instead of running queries per label, per
+     * direction and per property.
+     *
+     * @param g              Traversal source of the graph.
+     * @param scanType       Scan type for property types.
+     * @param previousSchema Previous schema of the graph, null to scan every label.
+     * @param maxConcurrency Maximum number of schema queries that run at the same time.
+     * @param batched        Whether to use grouped traversals over many labels instead of queries per label.
+     * @return Schema of the graph.
+     * @throws SQLException If the schema cannot be collected.
+     */
+    public static GremlinSchema getSchema(final GraphTraversalSource g, final ScanType scanType,
+                                          final GremlinSchema previousSchema, final int maxConcurrency,
+                                          final boolean batched)
+            throws SQLException {
+        final Map<String, Map<String, GremlinProperty>> previousVertexColumns = new HashMap<>();
+        final Map<String, Map<String, GremlinProperty>> previousEdgeColumns = new HashMap<>();
+        if (previousSchema != null) {
+            previousSchema.getVertices().forEach(table -> {
+                final List<String> generatedColumns = new ArrayList<>();
+                generatedColumns.add(table.getLabel() + GremlinTableBase.ID);
+                table.getInEdges().forEach(label -> generatedColumns.add(label + GremlinTableBase.IN_ID));
+                table.getOutEdges().forEach(label -> generatedColumns.add(label + GremlinTableBase.OUT_ID));
+                previousVertexColumns.put(table.getLabel(), getPropertyColumns(table, generatedColumns));
+            });
+            previousSchema.getEdges().forEach(table -> {
+                final List<String> generatedColumns = new ArrayList<>();
+                generatedColumns.add(table.getLabel() + GremlinTableBase.ID);
+                table.getInOutVertexPairs().forEach(pair -> {
+                    generatedColumns.add(pair.getKey() + GremlinTableBase.IN_ID);
+                    generatedColumns.add(pair.getValue() + GremlinTableBase.OUT_ID);
+                });
+                previousEdgeColumns.put(table.getLabel(), getPropertyColumns(table, generatedColumns));
+            });
+        }
+        final long deadlineMillis = (scanType.getKind() == ScanType.Kind.TimeBudget)
+                ? System.currentTimeMillis() + scanType.getLimit() : Long.MAX_VALUE;
+        final SchemaQueryLimiter limiter = new SchemaQueryLimiter(SCHEMA_QUERY_EXECUTOR, maxConcurrency);
+        final CompletableFuture<List<GremlinVertexTable>> vertexTables;
+        final CompletableFuture<List<GremlinEdgeTable>> edgeTables;
+        if (batched) {
+            final BatchedSchemaCrawler crawler = new BatchedSchemaCrawler(g, scanType, deadlineMillis, limiter);
+            vertexTables = crawler.getVertexTables(previousVertexColumns);
+            edgeTables = crawler.getEdgeTables(previousEdgeColumns);
+        } else {
+            final SchemaCrawler crawler = new SchemaCrawler(g, scanType, deadlineMillis, limiter);
+            vertexTables = crawler.getVertexTables(previousVertexColumns);
+            edgeTables = crawler.getEdgeTables(previousEdgeColumns);
+        }
         try {
-            final Future<List<GremlinVertexTable>> gremlinVertexTablesFuture =
-                    executor.submit(new RunGremlinQueryVertices(g, executor, scanType));
-            final Future<List<GremlinEdgeTable>> gremlinEdgeTablesFuture =
-                    executor.submit(new RunGremlinQueryEdges(g, executor, scanType));
-            final GremlinSchema gremlinSchema =
-                    new GremlinSchema(gremlinVertexTablesFuture.get(), gremlinEdgeTablesFuture.get());
-            executor.shutdown();
+            final GremlinSchema gremlinSchema = new GremlinSchema(vertexTables.get(), edgeTables.get());
+            final long sampledCount = gremlinSchema.getAllTables().stream()
+                    .flatMap(table -> table.getColumns().values().stream())
+                    .filter(GremlinProperty::isSampled).count();
+            if (sampledCount > 0) {
+                LOGGER.info(String.format("Types of %d properties were inferred from a sample of their values "
+                        + "using scan type %s.", sampledCount, scanType));
+            }
             return gremlinSchema;
         } catch (final ExecutionException | InterruptedException e) {
-            e.printStackTrace();
-            executor.shutdown();
-            throw new SQLException("Error occurred during schema collection. '" + e.getMessage() + "'.");
+            // Do not start the queries still waiting for a slot, the scan failed as a whole.
+            limiter.cancel();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            LOGGER.error("Error occurred during schema collection.", cause);
+            throw new SQLException("Error occurred during schema collection. '" + cause.getMessage() + "'.");
         }
     }
 
-    private static String getType(final Set<?> data) {
-        final Set<String> types = new HashSet<>();
-        for (final Object d : data) {
-            types.add(TYPE_MAP.getOrDefault(d.getClass(), "String"));
-        }
+    private static String getType(final Set<String> types) {
         if (types.size() == 1) {
             return types.iterator().next();
         } else if (types.size() > 1) {
@@ -99,91 +188,267 @@ public final class SqlSchemaGrabber {
         return "String";
     }
 
-    public enum ScanType {
-        First("First"),
-        All("All");
+    // Columns of a previous table that hold properties, without its generated id columns.
+    private static Map<String, GremlinProperty> getPropertyColumns(final GremlinTableBase table,
+                                                                   final List<String> generatedColumns) {
+        final Map<String, GremlinProperty> propertyColumns = new HashMap<>(table.getColumns());
+        propertyColumns.keySet().removeAll(generatedColumns);
+        return propertyColumns;
+    }
 
-        private final String stringValue;
+    private static long getValueCap(final ScanType scanType) {
+        return (scanType.getKind() == ScanType.Kind.First || scanType.getKind() == ScanType.Kind.Sample)
+                ? scanType.getLimit() : Long.MAX_VALUE;
+    }
 
-        ScanType(@NonNull final String stringValue) {
-            this.stringValue = stringValue;
+    private static String getValueType(final Object value) {
+        return TYPE_MAP.getOrDefault(value.getClass(), "String");
+    }
+
+    /**
+     * How property values are scanned to infer property types. First reads one value per property, All reads every
+     * value, Sample(n) reads at most n values per property and TimeBudget(ms) reads values until the whole schema scan
+     * has run for the given number of milliseconds. Scanning a property always stops once its type widened to String.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @SuppressWarnings("checkstyle:ConstantName")
+    public static final class ScanType {
+        public static final ScanType First = new ScanType(Kind.First, 1);
+        public static final ScanType All = new ScanType(Kind.All, 0);
+        public static final int DEFAULT_SAMPLE_SIZE = 1000;
+        public static final long DEFAULT_TIME_BUDGET_MILLIS = 60000;
+        private static final Pattern SCAN_TYPE_PATTERN =
+                Pattern.compile("^\\s*([A-Za-z]+)\\s*(?:\\(\\s*(\\d+)\\s*\\))?\\s*$");
+
+        private final Kind kind;
+        // Values per property for Sample, milliseconds for TimeBudget.
+        private final long limit;
+
+        private ScanType(final Kind kind, final long limit) {
+            this.kind = kind;
+            this.limit = limit;
+        }
+
+        /**
+         * Creates a scan type that reads at most the given number of values per property.
+         *
+         * @param sampleSize Maximum number of values to read per property.
+         * @return The scan type.
+         */
+        public static ScanType sample(final long sampleSize) {
+            if (sampleSize <= 0) {
+                throw new IllegalArgumentException("Sample size must be positive.");
+            }
+            return new ScanType(Kind.Sample, sampleSize);
+        }
+
+        /**
+         * Creates a scan type that reads values until the schema scan has run for the given time.
+         *
+         * @param budgetMillis Time budget of the schema scan in milliseconds.
+         * @return The scan type.
+         */
+        public static ScanType timeBudget(final long budgetMillis) {
+            if (budgetMillis <= 0) {
+                throw new IllegalArgumentException("Time budget must be positive.");
+            }
+            return new ScanType(Kind.TimeBudget, budgetMillis);
         }
 
         /**
-         * Converts case-insensitive string to enum value.
+         * Converts case-insensitive string to a scan type, for example "All", "Sample(500)" or "TimeBudget(30000)".
          *
-         * @param in The case-insensitive string to be converted to enum.
-         * @return The enum value if string is recognized as a valid value, otherwise null.
+         * @param in The case-insensitive string to be converted.
+         * @return The scan type if string is recognized as a valid value, otherwise null.
          */
         public static ScanType fromString(@NonNull final String in) {
-            for (final ScanType scheme : ScanType.values()) {
-                if (scheme.stringValue.equalsIgnoreCase(in)) {
-                    return scheme;
+            final Matcher matcher = SCAN_TYPE_PATTERN.matcher(in);
+            if (!matcher.matches()) {
+                return null;
+            }
+            final String name = matcher.group(1);
+            final String argument = matcher.group(2);
+            try {
+                if (Kind.First.name().equalsIgnoreCase(name) && argument == null) {
+                    return First;
+                } else if (Kind.All.name().equalsIgnoreCase(name) && argument == null) {
+                    return All;
+                } else if (Kind.Sample.name().equalsIgnoreCase(name)) {
+                    return sample(argument == null ? DEFAULT_SAMPLE_SIZE : Long.parseLong(argument));
+                } else if (Kind.TimeBudget.name().equalsIgnoreCase(name)) {
+                    return timeBudget(argument == null ? DEFAULT_TIME_BUDGET_MILLIS : Long.parseLong(argument));
                 }
+            } catch (final IllegalArgumentException e) {
+                return null;
             }
             return null;
         }
 
         @Override
-        public java.lang.String toString() {
-            return this.stringValue;
+        public String toString() {
+            return (kind == Kind.Sample || kind == Kind.TimeBudget)
+                    ? String.format("%s(%d)", kind.name(), limit) : kind.name();
+        }
+
+        public enum Kind {
+            First,
+            All,
+            Sample,
+            TimeBudget
         }
     }
 
+    private static <T> CompletableFuture<List<T>> allOf(final List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Chains the queries of a schema scan so that every query is submitted once the queries it depends on complete,
+     * instead of a thread waiting for them.
+     */
     @AllArgsConstructor
-    static
-    class RunGremlinQueryVertices implements Callable<List<GremlinVertexTable>> {
+    private static class SchemaCrawler {
         private final GraphTraversalSource g;
-        private final ExecutorService service;
         private final ScanType scanType;
+        private final long deadlineMillis;
+        private final SchemaQueryLimiter limiter;
+
+        CompletableFuture<List<GremlinVertexTable>> getVertexTables(
+                final Map<String, Map<String, GremlinProperty>> previousColumns) {
+            return limiter.submit(new RunGremlinQueryLabels(true, g)).thenCompose(labels -> allOf(labels.stream()
+                    .map(label -> {
+                        final CompletableFuture<List<GremlinProperty>> columns =
+                                getColumns(true, label, previousColumns.get(label));
+                        final CompletableFuture<List<String>> inEdgeLabels =
+                                limiter.submit(new RunGremlinQueryVertexEdges(g, label, "in"));
+                        final CompletableFuture<List<String>> outEdgeLabels =
+                                limiter.submit(new RunGremlinQueryVertexEdges(g, label, "out"));
+                        return CompletableFuture.allOf(columns, inEdgeLabels, outEdgeLabels)
+                                .thenApply(ignored -> new GremlinVertexTable(label, columns.join(),
+                                        inEdgeLabels.join(), outEdgeLabels.join()));
+                    }).collect(Collectors.toList())));
+        }
 
-        @Override
-        public List<GremlinVertexTable> call() throws Exception {
-            final List<Future<List<GremlinProperty>>> gremlinProperties = new ArrayList<>();
-            final List<Future<List<String>>> gremlinVertexInEdgeLabels = new ArrayList<>();
-            final List<Future<List<String>>> gremlinVertexOutEdgeLabels = new ArrayList<>();
-            final List<String> labels = service.submit(new RunGremlinQueryLabels(true, g)).get();
-
-            for (final String label : labels) {
-                gremlinProperties.add(service.submit(
-                        new RunGremlinQueryPropertiesList(true, label, g, scanType, service)));
-                gremlinVertexInEdgeLabels.add(service.submit(new RunGremlinQueryVertexEdges(g, label, "in")));
-                gremlinVertexOutEdgeLabels.add(service.submit(new RunGremlinQueryVertexEdges(g, label, "out")));
-            }
+        CompletableFuture<List<GremlinEdgeTable>> getEdgeTables(
+                final Map<String, Map<String, GremlinProperty>> previousColumns) {
+            return limiter.submit(new RunGremlinQueryLabels(false, g)).thenCompose(labels -> allOf(labels.stream()
+                    .map(label -> {
+                        final CompletableFuture<List<GremlinProperty>> columns =
+                                getColumns(false, label, previousColumns.get(label));
+                        final CompletableFuture<List<Pair<String, String>>> inOutLabels =
+                                limiter.submit(new RunGremlinQueryInOutV(g, label));
+                        return columns.thenCombine(inOutLabels,
+                                (tableColumns, tableInOutLabels) ->
+                                        new GremlinEdgeTable(label, tableColumns, tableInOutLabels));
+                    }).collect(Collectors.toList())));
+        }
 
-            final List<GremlinVertexTable> gremlinVertexTables = new ArrayList<>();
-            for (int i = 0; i < labels.size(); i++) {
-                gremlinVertexTables.add(new GremlinVertexTable(labels.get(i), gremlinProperties.get(i).get(),
-                        gremlinVertexInEdgeLabels.get(i).get(), gremlinVertexOutEdgeLabels.get(i).get()));
-            }
-            return gremlinVertexTables;
+        private CompletableFuture<List<GremlinProperty>> getColumns(final boolean isVertex, final String label,
+                                                                    final Map<String, GremlinProperty> previous) {
+            return limiter.submit(new RunGremlinQueryPropertyKeys(isVertex, label, g)).thenCompose(properties -> {
+                if (previous != null && previous.keySet().equals(new HashSet<>(properties))) {
+                    // Property keys of the label are unchanged, skip scanning the values for their types.
+                    LOGGER.debug(String.format("Reusing property types of label '%s'.", label));
+                    final List<GremlinProperty> columns = new ArrayList<>();
+                    properties.forEach(property -> columns.add(previous.get(property)));
+                    return CompletableFuture.completedFuture(columns);
+                }
+                return allOf(properties.stream()
+                        .map(property -> limiter.submit(new RunGremlinQueryPropertyType(isVertex, label, property,
+                                g, scanType, deadlineMillis)))
+                        .collect(Collectors.toList()));
+            });
         }
     }
 
+    /**
+     * Collects the schema with grouped traversals. Labels, property keys and edge connections of all labels take one
+     * traversal each, property types take one traversal per label that needs them. Property values are deduplicated on
+     * the server, since only distinct values can change the inferred type. With First and Sample(n) the traversal of a
+     * label reads at most as many elements as values would be read per property, properties that none of them have
+     * are then scanned on their own. A time budget is checked before the values of each label are sampled, labels
+     * sampled after it ran out read a single element.
+     */
     @AllArgsConstructor
-    static class RunGremlinQueryEdges implements Callable<List<GremlinEdgeTable>> {
+    private static class BatchedSchemaCrawler {
         private final GraphTraversalSource g;
-        private final ExecutorService service;
         private final ScanType scanType;
+        private final long deadlineMillis;
+        private final SchemaQueryLimiter limiter;
+
+        CompletableFuture<List<GremlinVertexTable>> getVertexTables(
+                final Map<String, Map<String, GremlinProperty>> previousColumns) {
+            final CompletableFuture<Map<String, List<String>>> inEdgeLabels =
+                    limiter.submit(new RunGremlinQueryGroupedVertexEdges(g, "in"));
+            final CompletableFuture<Map<String, List<String>>> outEdgeLabels =
+                    limiter.submit(new RunGremlinQueryGroupedVertexEdges(g, "out"));
+            return limiter.submit(new RunGremlinQueryGroupedPropertyKeys(true, g)).thenCompose(propertyKeys -> {
+                final List<String> labels = new ArrayList<>(propertyKeys.keySet());
+                final CompletableFuture<List<List<GremlinProperty>>> columns = allOf(labels.stream()
+                        .map(label -> getColumns(true, label, propertyKeys.get(label), previousColumns.get(label)))
+                        .collect(Collectors.toList()));
+                return CompletableFuture.allOf(columns, inEdgeLabels, outEdgeLabels).thenApply(ignored -> {
+                    final List<GremlinVertexTable> gremlinVertexTables = new ArrayList<>();
+                    for (int i = 0; i < labels.size(); i++) {
+                        final String label = labels.get(i);
+                        gremlinVertexTables.add(new GremlinVertexTable(label, columns.join().get(i),
+                                inEdgeLabels.join().getOrDefault(label, new ArrayList<>()),
+                                outEdgeLabels.join().getOrDefault(label, new ArrayList<>())));
+                    }
+                    return gremlinVertexTables;
+                });
+            });
+        }
 
-        @Override
-        public List<GremlinEdgeTable> call() throws Exception {
-            final List<Future<List<GremlinProperty>>> futureTableColumns = new ArrayList<>();
-            final List<Future<List<Pair<String, String>>>> inOutLabels = new ArrayList<>();
-            final List<String> labels = service.submit(new RunGremlinQueryLabels(false, g)).get();
-
-            for (final String label : labels) {
-                futureTableColumns.add(service.submit(
-                        new RunGremlinQueryPropertiesList(false, label, g, scanType, service)));
-                inOutLabels.add(service.submit(new RunGremlinQueryInOutV(g, label)));
+        CompletableFuture<List<GremlinEdgeTable>> getEdgeTables(
+                final Map<String, Map<String, GremlinProperty>> previousColumns) {
+            final CompletableFuture<Map<String, List<Pair<String, String>>>> inOutLabels =
+                    limiter.submit(new RunGremlinQueryGroupedInOutV(g));
+            return limiter.submit(new RunGremlinQueryGroupedPropertyKeys(false, g)).thenCompose(propertyKeys -> {
+                final List<String> labels = new ArrayList<>(propertyKeys.keySet());
+                final CompletableFuture<List<List<GremlinProperty>>> columns = allOf(labels.stream()
+                        .map(label -> getColumns(false, label, propertyKeys.get(label), previousColumns.get(label)))
+                        .collect(Collectors.toList()));
+                return columns.thenCombine(inOutLabels, (labelColumns, labelInOutLabels) -> {
+                    final List<GremlinEdgeTable> gremlinEdgeTables = new ArrayList<>();
+                    for (int i = 0; i < labels.size(); i++) {
+                        gremlinEdgeTables.add(new GremlinEdgeTable(labels.get(i), labelColumns.get(i),
+                                labelInOutLabels.getOrDefault(labels.get(i), new ArrayList<>())));
+                    }
+                    return gremlinEdgeTables;
+                });
+            });
+        }
+
+        private CompletableFuture<List<GremlinProperty>> getColumns(final boolean isVertex, final String label,
+                                                                    final List<String> properties,
+                                                                    final Map<String, GremlinProperty> previous) {
+            if (previous != null && previous.keySet().equals(new HashSet<>(properties))) {
+                // Property keys of the label are unchanged, skip sampling the values for their types.
+                LOGGER.debug(String.format("Reusing property types of label '%s'.", label));
+                return CompletableFuture.completedFuture(
+                        properties.stream().map(previous::get).collect(Collectors.toList()));
             }
+            return limiter.submit(() -> {
+                final boolean outOfTime = System.currentTimeMillis() >= deadlineMillis;
+                return new RunGremlinQueryGroupedPropertyTypes(isVertex, label, g,
+                        outOfTime ? 1 : getValueCap(scanType), outOfTime).call();
+            }).thenCompose(propertyTypes -> allOf(properties.stream()
+                    .map(property -> getPropertyType(isVertex, label, property, propertyTypes))
+                    .collect(Collectors.toList())));
+        }
 
-            final List<GremlinEdgeTable> gremlinEdgeTables = new ArrayList<>();
-            for (int i = 0; i < labels.size(); i++) {
-                gremlinEdgeTables.add(new GremlinEdgeTable(labels.get(i), futureTableColumns.get(i).get(),
-                        inOutLabels.get(i).get()));
+        private CompletableFuture<GremlinProperty> getPropertyType(final boolean isVertex, final String label,
+                                                                   final String property,
+                                                                   final Map<String, GremlinProperty> propertyTypes) {
+            if (propertyTypes.containsKey(property)) {
+                return CompletableFuture.completedFuture(propertyTypes.get(property));
             }
-            return gremlinEdgeTables;
+            // Not set on any of the elements sampled for the label, its own values are read instead.
+            return limiter.submit(new RunGremlinQueryPropertyType(isVertex, label, property, g, scanType,
+                    deadlineMillis));
         }
     }
 
@@ -205,56 +470,167 @@ public final class SqlSchemaGrabber {
     }
 
     @AllArgsConstructor
-    static class RunGremlinQueryPropertyType implements Callable<String> {
+    static class RunGremlinQueryPropertyType implements Callable<GremlinProperty> {
         private final boolean isVertex;
         private final String label;
         private final String property;
         private final GraphTraversalSource g;
         private final ScanType strategy;
+        private final long deadlineMillis;
 
         @Override
-        public String call() {
+        public GremlinProperty call() {
+            // Properties queried after the time budget ran out read a single value, as in the batched crawler.
+            final long cap = (System.currentTimeMillis() >= deadlineMillis) ? 1 : getValueCap(strategy);
             final String query = String.format(PROPERTIES_VALUE_QUERY, isVertex ? "V" : "E", label, property,
-                    strategy.equals(ScanType.First) ? "next(1)" : "toSet()");
+                    (cap == Long.MAX_VALUE) ? "toList()" : String.format("limit(%d)", cap));
             LOGGER.debug(String.format("Start %s%n", query));
             final GraphTraversal<?, ?> graphTraversal = isVertex ? g.V() : g.E();
             graphTraversal.hasLabel(label).values(property);
-            final HashSet<?> data =
-                    new HashSet<>(strategy.equals(ScanType.First) ? graphTraversal.next(1) : graphTraversal.toList());
+            if (cap != Long.MAX_VALUE) {
+                graphTraversal.limit(cap);
+            }
+
+            final Set<String> types = new HashSet<>();
+            long count = 0;
+            boolean outOfTime = false;
+            while (graphTraversal.hasNext()) {
+                types.add(getValueType(graphTraversal.next()));
+                count++;
+                if ("String".equals(getType(types))) {
+                    // String is the widest type, more values cannot change it.
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadlineMillis) {
+                    outOfTime = graphTraversal.hasNext();
+                    break;
+                }
+            }
+            closeTraversal(graphTraversal);
+            final String type = getType(types);
+            final boolean sampled = !"String".equals(type) && (outOfTime || (cap != Long.MAX_VALUE && count >= cap));
             LOGGER.debug(String.format("End %s%n", query));
-            return getType(data);
+            return new GremlinProperty(property, type.toLowerCase(Locale.getDefault()), sampled);
+        }
+
+        private static void closeTraversal(final GraphTraversal<?, ?> graphTraversal) {
+            try {
+                graphTraversal.close();
+            } catch (final Exception e) {
+                LOGGER.debug("Failed to close property type traversal.", e);
+            }
         }
     }
 
     @AllArgsConstructor
-    static class RunGremlinQueryPropertiesList implements Callable<List<GremlinProperty>> {
+    static class RunGremlinQueryPropertyKeys implements Callable<List<String>> {
         private final boolean isVertex;
         private final String label;
         private final GraphTraversalSource g;
-        private final ScanType scanType;
-        private final ExecutorService service;
 
         @Override
-        public List<GremlinProperty> call() throws ExecutionException, InterruptedException {
+        public List<String> call() {
             final String query = String.format(PROPERTY_KEY_QUERY, isVertex ? "V" : "E", label);
             LOGGER.debug(String.format("Start %s%n", query));
             final List<String> properties = isVertex ?
                     g.V().hasLabel(label).properties().key().dedup().toList() :
                     g.E().hasLabel(label).properties().key().dedup().toList();
+            LOGGER.debug(String.format("End %s%n", query));
+            return properties;
+        }
+    }
 
-            final List<Future<String>> propertyTypes = new ArrayList<>();
-            for (final String property : properties) {
-                propertyTypes.add(service
-                        .submit(new RunGremlinQueryPropertyType(isVertex, label, property, g, scanType)));
-            }
+    @AllArgsConstructor
+    static class RunGremlinQueryGroupedPropertyKeys implements Callable<Map<String, List<String>>> {
+        private final boolean isVertex;
+        private final GraphTraversalSource g;
 
-            final List<GremlinProperty> columns = new ArrayList<>();
-            for (int i = 0; i < properties.size(); i++) {
-                columns.add(new GremlinProperty(properties.get(i), propertyTypes.get(i).get().toLowerCase(Locale.getDefault())));
-            }
+        @Override
+        public Map<String, List<String>> call() {
+            final String query = String.format(GROUPED_PROPERTY_KEY_QUERY, isVertex ? "V" : "E");
+            LOGGER.debug(String.format("Start %s%n", query));
+            final Map<String, List<String>> propertyKeys = (isVertex ? g.V() : g.E())
+                    .<String, List<String>>group().by(T.label).by(__.properties().key().dedup().fold())
+                    .tryNext().orElse(new HashMap<>());
+            LOGGER.debug(String.format("End %s%n", query));
+            return propertyKeys;
+        }
+    }
+
+    @AllArgsConstructor
+    static class RunGremlinQueryGroupedVertexEdges implements Callable<Map<String, List<String>>> {
+        private final GraphTraversalSource g;
+        private final String direction;
 
+        @Override
+        public Map<String, List<String>> call() {
+            final String query = String.format(GROUPED_VERTEX_EDGES_LABEL_QUERY, direction);
+            LOGGER.debug(String.format("Start %s%n", query));
+            final Map<String, List<String>> labels = g.V().<String, List<String>>group().by(T.label)
+                    .by("in".equals(direction) ? __.inE().label().dedup().fold() : __.outE().label().dedup().fold())
+                    .tryNext().orElse(new HashMap<>());
             LOGGER.debug(String.format("End %s%n", query));
-            return columns;
+            return labels;
+        }
+    }
+
+    @AllArgsConstructor
+    static class RunGremlinQueryGroupedPropertyTypes implements Callable<Map<String, GremlinProperty>> {
+        private final boolean isVertex;
+        private final String label;
+        private final GraphTraversalSource g;
+        private final long cap;
+        private final boolean outOfTime;
+
+        @Override
+        public Map<String, GremlinProperty> call() {
+            final String limit = (cap == Long.MAX_VALUE) ? "" : String.format(".limit(%d)", cap);
+            final String query = String.format(GROUPED_PROPERTIES_VALUE_QUERY, isVertex ? "V" : "E", label, limit,
+                    limit);
+            LOGGER.debug(String.format("Start %s%n", query));
+            final GraphTraversal<?, ?> elements = (isVertex ? g.V() : g.E()).hasLabel(label);
+            final Traversal<?, List<Object>> valueTraversal = (cap == Long.MAX_VALUE)
+                    ? __.value().dedup().fold() : __.value().dedup().limit(cap).fold();
+            if (cap != Long.MAX_VALUE) {
+                // group() is a barrier, so the elements are bounded before it rather than only the values in it.
+                elements.limit(cap);
+            }
+            final Map<String, List<Object>> propertyValues = elements.properties()
+                    .<String, List<Object>>group().by(__.key()).by(valueTraversal)
+                    .tryNext().orElse(new HashMap<>());
+
+            final Map<String, GremlinProperty> propertyTypes = new HashMap<>();
+            propertyValues.forEach((property, values) -> {
+                final Set<String> types = new HashSet<>();
+                values.forEach(value -> types.add(getValueType(value)));
+                final String type = getType(types);
+                // The label may have more elements than were read, so a bounded read is always a sample.
+                final boolean sampled = !"String".equals(type) && (outOfTime || cap != Long.MAX_VALUE);
+                propertyTypes.put(property, new GremlinProperty(property, type.toLowerCase(Locale.getDefault()),
+                        sampled));
+            });
+            LOGGER.debug(String.format("End %s%n", query));
+            return propertyTypes;
+        }
+    }
+
+    @AllArgsConstructor
+    static class RunGremlinQueryGroupedInOutV implements Callable<Map<String, List<Pair<String, String>>>> {
+        private final GraphTraversalSource g;
+
+        @Override
+        public Map<String, List<Pair<String, String>>> call() {
+            LOGGER.debug(String.format("Start %s%n", GROUPED_IN_OUT_VERTEX_QUERY));
+            final Map<String, List<Map<String, Object>>> result = g.E()
+                    .<String, List<Map<String, Object>>>group().by(T.label)
+                    .by(__.project("in", "out").by(__.inV().label()).by(__.outV().label()).dedup().fold())
+                    .tryNext().orElse(new HashMap<>());
+            final Map<String, List<Pair<String, String>>> labels = new HashMap<>();
+            result.forEach((label, inOutMaps) -> labels.put(label, inOutMaps.stream()
+                    .map(map -> new Pair<>(map.get("in").toString(), map.get("out").toString()))
+                    .collect(Collectors.toList())));
+            LOGGER.debug(String.format("End %s%n", GROUPED_IN_OUT_VERTEX_QUERY));
+            return labels;
         }
     }
 
@@ -31,4 +31,10 @@ import lombok.Getter;
 public class GremlinProperty {
     private final String name;
     private final String type;
+    // True if the type was inferred from part of the values and may be narrower than the data.
+    private final boolean sampled;
+
+    public GremlinProperty(final String name, final String type) {
+        this(name, type, false);
+    }
 }
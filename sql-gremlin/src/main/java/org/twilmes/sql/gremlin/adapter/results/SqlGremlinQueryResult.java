@@ -19,29 +19,78 @@
 
 package org.twilmes.sql.gremlin.adapter.results;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.twilmes.sql.gremlin.adapter.converter.SqlMetadata;
 import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
+import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Rows of a SQL query, added by the pagination and taken by the consumer.
+ *
+ * The queue holds at most a couple of pages of rows, so a slow consumer keeps the memory used by the result bounded
+ * instead of the whole result being read onto the heap. A pagination that finds the queue full parks and gives its
+ * thread back, it is resumed once the consumer has taken a page of rows. A consumer waits for the next row for at most
+ * the result timeout, if one is set.
+ */
 @Getter
 public class SqlGremlinQueryResult implements AutoCloseable {
     public static final String EMPTY_MESSAGE = "No more results.";
     public static final String NULL_VALUE = "$%#NULL#%$";
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+    // Number of pages the pagination can read ahead of the consumer.
+    private static final int BUFFERED_PAGES = 2;
     private final List<String> columns;
     private final List<String> columnTypes = new ArrayList<>();
+    private final int pageSize;
+    private final int capacity;
+    // Rows are only added while fewer than capacity are queued, the queue itself is unbounded so that the end of the
+    // result never waits for room.
     private final BlockingQueue<List<Object>> blockingQueueRows = new LinkedBlockingQueue<>();
+    @Getter(AccessLevel.NONE)
+    private final Object spaceLock = new Object();
+    @Getter(AccessLevel.NONE)
+    private boolean producerWaiting = false;
+    @Getter(AccessLevel.NONE)
+    private Runnable parkedProducer = null;
+    // 0 until a timeout is set, the consumer then waits for rows without a bound.
+    private volatile long resultTimeoutMillis = 0;
     private SQLException paginationException = null;
+    private volatile boolean cancelled = false;
+    private volatile boolean endReached = false;
+    private volatile Runnable cancelCallback = null;
 
     public SqlGremlinQueryResult(final List<String> columns, final SqlMetadata sqlMetadata) throws SQLException {
+        this(columns, getColumnTypes(columns, sqlMetadata), DEFAULT_PAGE_SIZE);
+    }
+
+    public SqlGremlinQueryResult(final List<String> columns, final List<String> columnTypes) {
+        this(columns, columnTypes, DEFAULT_PAGE_SIZE);
+    }
+
+    public SqlGremlinQueryResult(final List<String> columns, final List<String> columnTypes, final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
         this.columns = columns;
+        this.columnTypes.addAll(columnTypes);
+        this.pageSize = pageSize;
+        this.capacity = (int) Math.min((long) pageSize * BUFFERED_PAGES, Integer.MAX_VALUE);
+    }
+
+    private static List<String> getColumnTypes(final List<String> columns, final SqlMetadata sqlMetadata)
+            throws SQLException {
+        final List<String> columnTypes = new ArrayList<>();
         for (final String column : columns) {
             columnTypes.add(sqlMetadata.getType(column));
         }
+        return columnTypes;
     }
 
     public void setPaginationException(final SQLException e) {
@@ -49,31 +98,176 @@ public class SqlGremlinQueryResult implements AutoCloseable {
         close();
     }
 
+    /**
+     * Sets how long the consumer waits for the next row before the result fails, for example the query timeout.
+     * Without a result timeout the consumer waits for rows until the result ends or is cancelled.
+     *
+     * @param resultTimeoutMillis Timeout in milliseconds, must be positive.
+     */
+    public void setResultTimeoutMillis(final long resultTimeoutMillis) {
+        if (resultTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Result timeout must be positive.");
+        }
+        this.resultTimeoutMillis = resultTimeoutMillis;
+    }
+
+    /**
+     * Signals the consumer that no more rows will be added.
+     */
     @Override
     public void close() {
-        blockingQueueRows.add(new EmptyResult());
+        blockingQueueRows.offer(new EmptyResult());
     }
 
+    /**
+     * Cancels the result, for example when the statement is cancelled or the result set is closed before all rows
+     * were read. Buffered rows are dropped, the pagination is stopped and a consumer waiting for rows fails.
+     */
+    public void cancel() {
+        cancelled = true;
+        blockingQueueRows.clear();
+        synchronized (spaceLock) {
+            // A waiting producer sees the flag and stops, a parked one is never resumed.
+            spaceLock.notifyAll();
+            parkedProducer = null;
+        }
+        final Runnable callback = cancelCallback;
+        if (callback != null) {
+            callback.run();
+        }
+        // Wake up a consumer waiting for rows, it sees the flag and fails with a cancellation error.
+        blockingQueueRows.offer(new EmptyResult());
+    }
+
+    /**
+     * Sets the function that stops the producer of the rows when the result is cancelled.
+     *
+     * @param cancelCallback Function run by cancel.
+     */
+    public void setCancelCallback(final Runnable cancelCallback) {
+        this.cancelCallback = cancelCallback;
+    }
+
+    /**
+     * Checks whether the result is cancelled or all of its rows have been taken.
+     *
+     * @return true if no more rows will be returned, otherwise false.
+     */
+    public boolean isDone() {
+        return cancelled || endReached;
+    }
+
+    /**
+     * Adds rows to the result, blocking the calling thread while the queue is full.
+     *
+     * @param rows Rows to add.
+     */
     public void addResults(final List<List<Object>> rows) {
+        for (final List<Object> row : rows) {
+            if (!put(row)) {
+                return;
+            }
+        }
+    }
+
+    private boolean put(final List<Object> row) {
+        synchronized (spaceLock) {
+            while (!cancelled && blockingQueueRows.size() >= capacity) {
+                producerWaiting = true;
+                try {
+                    spaceLock.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            producerWaiting = false;
+        }
+        return offer(row);
+    }
+
+    /**
+     * Adds a row to the result without blocking.
+     *
+     * @param row Row to add.
+     * @return true if the row was added, false if the queue is full or the result is cancelled.
+     */
+    public boolean offer(final List<Object> row) {
+        if (cancelled || blockingQueueRows.size() >= capacity) {
+            return false;
+        }
         // This is a workaround for Gremlin null support not being in any version of Gremlin that is
         // widely supported by database vendors.
-        rows.forEach(row -> row.replaceAll(col -> (col instanceof String && col.equals(NULL_VALUE) ? null : col)));
-        blockingQueueRows.addAll(rows);
+        row.replaceAll(col -> (col instanceof String && col.equals(NULL_VALUE) ? null : col));
+        blockingQueueRows.offer(row);
+        return true;
+    }
+
+    /**
+     * Parks the producer of a full result instead of blocking its thread. The given function is run once the
+     * consumer has made room for a page of rows.
+     *
+     * @param resume Function that resumes the producer.
+     * @return true if the producer is parked, false if there is room again or the result is cancelled.
+     */
+    public boolean park(final Runnable resume) {
+        synchronized (spaceLock) {
+            if (cancelled || blockingQueueRows.size() < capacity) {
+                return false;
+            }
+            parkedProducer = resume;
+            return true;
+        }
+    }
+
+    private void releaseSpace() {
+        final Runnable resume;
+        synchronized (spaceLock) {
+            if (producerWaiting) {
+                spaceLock.notifyAll();
+            }
+            if (parkedProducer == null || blockingQueueRows.size() > capacity - pageSize) {
+                return;
+            }
+            resume = parkedProducer;
+            parkedProducer = null;
+        }
+        resume.run();
     }
 
     public List<Object> getResult() throws SQLException {
+        final long timeoutMillis = resultTimeoutMillis;
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
         while (true) {
+            final List<Object> result;
             try {
-                final List<Object> result = blockingQueueRows.take();
-
-                // If a pagination exception occurs, an EmptyResult Object will be inserted into the BlockingQueue.
-                // The pagination exception needs to be checked before returning.
-                if (paginationException != null) {
-                    throw paginationException;
-                }
-                return result;
+                result = (timeoutMillis == 0)
+                        ? blockingQueueRows.take()
+                        : blockingQueueRows.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
             } catch (final InterruptedException ignored) {
+                continue;
+            }
+            if (result == null) {
+                // The pagination did not start or stalled, for example behind other queries on the scheduler.
+                cancel();
+                throw SqlGremlinError.create(SqlGremlinError.RESULT_TIMED_OUT,
+                        TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+            }
+            if (cancelled) {
+                throw SqlGremlinError.create(SqlGremlinError.QUERY_CANCELED);
+            }
+
+            // If a pagination exception occurs, an EmptyResult Object will be inserted into the BlockingQueue.
+            // The pagination exception needs to be checked before returning.
+            if (paginationException != null) {
+                throw paginationException;
+            }
+            if (result instanceof EmptyResult) {
+                endReached = true;
+            } else {
+                releaseSpace();
             }
+            return result;
         }
     }
 
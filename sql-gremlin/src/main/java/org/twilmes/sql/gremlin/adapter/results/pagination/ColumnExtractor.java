@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.results.pagination;
+
+import java.util.Map;
+
+/**
+ * Reads one column of one table out of the nested maps returned by SQL traversals.
+ *
+ * The names in the SQL can differ in case from the keys in the results, but every row of a traversal uses the same
+ * keys. The first row that has a key resolves its exact name, after that each row is a plain map lookup. Readers are
+ * held by cached plans and shared between queries, resolving the same name twice is harmless.
+ */
+final class ColumnExtractor {
+    private final String table;
+    private final String column;
+    private volatile String tableKey = null;
+    private volatile String columnKey = null;
+
+    ColumnExtractor(final String table, final String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    private static String findKey(final Map<String, Object> map, final String name) {
+        if (map.containsKey(name)) {
+            return name;
+        }
+        for (final String key : map.keySet()) {
+            if (key.equalsIgnoreCase(name)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    Object extract(final Map<String, Object> map) {
+        String resolvedTableKey = tableKey;
+        if (resolvedTableKey == null) {
+            resolvedTableKey = findKey(map, table);
+            if (resolvedTableKey == null) {
+                return null;
+            }
+            tableKey = resolvedTableKey;
+        }
+        final Object tableValue = map.get(resolvedTableKey);
+        if (!(tableValue instanceof Map)) {
+            return null;
+        }
+
+        final Map<String, Object> columns = (Map<String, Object>) tableValue;
+        String resolvedColumnKey = columnKey;
+        if (resolvedColumnKey == null) {
+            resolvedColumnKey = findKey(columns, column);
+            if (resolvedColumnKey == null) {
+                return null;
+            }
+            columnKey = resolvedColumnKey;
+        }
+        return columns.get(resolvedColumnKey);
+    }
+}
@@ -21,6 +21,6 @@ package org.twilmes.sql.gremlin.adapter.results.pagination;
 
 import java.util.Map;
 
-interface GetRowFromMap {
+public interface GetRowFromMap {
     Object[] execute(Map<String, Object> input);
 }
@@ -19,7 +19,8 @@
 
 package org.twilmes.sql.gremlin.adapter.results.pagination;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GroovyTranslator;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.slf4j.Logger;
@@ -28,26 +29,65 @@ import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
-@AllArgsConstructor
+/**
+ * Reads the rows of a traversal into a result a page at a time. When the result is full the pagination parks and
+ * returns its thread to the scheduler, it is submitted again through its resume function once there is room.
+ */
+@RequiredArgsConstructor
 public class Pagination implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Pagination.class);
-    private static final int DEFAULT_PAGE_SIZE = 1000;
-    private final int pageSize = DEFAULT_PAGE_SIZE;
     private final GetRowFromMap getRowFromMap;
     private final GraphTraversal<?, ?> traversal;
     private final SqlGremlinQueryResult sqlGremlinQueryResult;
+    private final Object runnerLock = new Object();
+    // Rows read from the traversal that did not fit in the result yet.
+    private final Deque<List<Object>> pendingRows = new ArrayDeque<>();
+    // Thread running the pagination, only set while it runs so that cancelling never interrupts unrelated work.
+    private Thread runner = null;
+    private boolean started = false;
+    @Setter
+    private Runnable resume = null;
 
     @Override
     public void run() {
+        synchronized (runnerLock) {
+            runner = Thread.currentThread();
+        }
+        boolean parked = false;
         try {
-            LOGGER.info("Graph traversal: " +
-                    GroovyTranslator.of("g").translate(traversal.asAdmin().getBytecode()));
-            while (traversal.hasNext()) {
+            if (!started) {
+                started = true;
+                sqlGremlinQueryResult.setCancelCallback(this::cancel);
+                LOGGER.info("Graph traversal: " +
+                        GroovyTranslator.of("g").translate(traversal.asAdmin().getBytecode()));
+            }
+            final int pageSize = sqlGremlinQueryResult.getPageSize();
+            while (!sqlGremlinQueryResult.isCancelled()) {
+                if (!pendingRows.isEmpty()) {
+                    if (sqlGremlinQueryResult.offer(pendingRows.peek())) {
+                        pendingRows.poll();
+                    } else if (resume != null && sqlGremlinQueryResult.park(resume)) {
+                        parked = true;
+                        return;
+                    } else if (resume == null) {
+                        // Not run by the scheduler, wait for room on this thread.
+                        sqlGremlinQueryResult.addResults(new ArrayList<>(pendingRows));
+                        pendingRows.clear();
+                    }
+                    continue;
+                }
+                if (!traversal.hasNext()) {
+                    // If we run out of traversal data (or hit our limit), signal to the result that it is done.
+                    sqlGremlinQueryResult.close();
+                    break;
+                }
                 final List<Object> rows = new ArrayList<>();
                 traversal.next(pageSize).forEach(map -> {
                     // Our choose(<predicate>, <expected>, <empty>) returns an empty list.
@@ -56,19 +96,45 @@ public class Pagination implements Runnable {
                         rows.add(getRowFromMap.execute((Map<String, Object>) map));
                     }
                 });
-                convertAndInsertResult(sqlGremlinQueryResult, rows);
+                pendingRows.addAll(convertResult(rows));
             }
-            // If we run out of traversal data (or hit our limit), stop and signal to the result that it is done.
-            sqlGremlinQueryResult.close();
         } catch (final Exception e) {
+            if (sqlGremlinQueryResult.isCancelled()) {
+                // Closing the traversal or interrupting the thread makes the traversal fail, nobody reads the result.
+                LOGGER.debug("Pagination stopped because the query was cancelled.", e);
+                return;
+            }
             final StringWriter sw = new StringWriter();
             final PrintWriter pw = new PrintWriter(sw);
             e.printStackTrace(pw);
             LOGGER.error("Encountered exception", e);
             sqlGremlinQueryResult.setPaginationException(new SQLException(e + sw.toString()));
         } finally {
-            closeTraversal();
+            synchronized (runnerLock) {
+                // A parked pagination may already run again on another thread.
+                if (runner == Thread.currentThread()) {
+                    runner = null;
+                }
+                // Clear an interrupt from a cancel that raced with the end of the pagination.
+                Thread.interrupted();
+            }
+            if (!parked) {
+                closeTraversal();
+            }
+        }
+    }
+
+    /**
+     * Stops the pagination from another thread: the thread waiting on the traversal is interrupted and the traversal
+     * is closed, which releases the remote results it is iterating.
+     */
+    void cancel() {
+        synchronized (runnerLock) {
+            if (runner != null) {
+                runner.interrupt();
+            }
         }
+        closeTraversal();
     }
 
     void closeTraversal() {
@@ -79,19 +145,21 @@ public class Pagination implements Runnable {
     }
 
     /**
-     * converts input row results and insert them into sqlGremlinQueryResult
+     * converts input row results to the rows of sqlGremlinQueryResult
      */
-    void convertAndInsertResult(final SqlGremlinQueryResult sqlGremlinQueryResult, final List<Object> rows) {
-        final List<List<Object>> finalRowResult = new ArrayList<>();
+    private static List<List<Object>> convertResult(final List<Object> rows) {
+        final List<List<Object>> finalRowResult = new ArrayList<>(rows.size());
         for (final Object row : rows) {
-            final List<Object> convertedRow = new ArrayList<>();
+            final List<Object> convertedRow;
             if (row instanceof Object[]) {
-                convertedRow.addAll(Arrays.asList((Object[]) row));
+                // The array is created for this row only, wrap it instead of copying it.
+                convertedRow = Arrays.asList((Object[]) row);
             } else {
+                convertedRow = new ArrayList<>();
                 convertedRow.add(row);
             }
             finalRowResult.add(convertedRow);
         }
-        sqlGremlinQueryResult.addResults(finalRowResult);
+        return finalRowResult;
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.results.pagination;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver-wide scheduler for the paginations that read SQL results from their traversals.
+ *
+ * At most a fixed number of paginations run at a time, the rest wait in a bounded queue. Waiting paginations are
+ * started round-robin between their owners, usually connections, so that one connection issuing many queries does
+ * not starve the others. A pagination whose result is full parks instead of holding its thread, and is resumed
+ * through the scheduler once its consumer has read a page. Threads are reused between queries and exit once idle.
+ * On JDK 21+ the paginations can run on virtual threads instead.
+ *
+ * The defaults can be changed with the system properties below, or at runtime with configure.
+ */
+public final class PaginationScheduler {
+    public static final String MAX_THREADS_PROPERTY = "sqlgremlin.pagination.maxThreads";
+    public static final String MAX_QUEUED_PROPERTY = "sqlgremlin.pagination.maxQueued";
+    public static final String VIRTUAL_THREADS_PROPERTY = "sqlgremlin.pagination.virtualThreads";
+    public static final int DEFAULT_MAX_THREADS = 64;
+    public static final int DEFAULT_MAX_QUEUED = 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaginationScheduler.class);
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static PaginationScheduler instance = null;
+    private final ExecutorService executor;
+    private final int maxThreads;
+    private final int maxQueued;
+    private final Map<Object, Queue<Runnable>> pending = new HashMap<>();
+    private final Queue<Object> owners = new ArrayDeque<>();
+    private int running = 0;
+    private int queued = 0;
+
+    PaginationScheduler(final int maxThreads, final int maxQueued, final boolean virtualThreads) {
+        if (maxThreads <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Maximum threads must be positive and maximum queued not negative.");
+        }
+        this.maxThreads = maxThreads;
+        this.maxQueued = maxQueued;
+        final ExecutorService virtualThreadExecutor = virtualThreads ? createVirtualThreadExecutor() : null;
+        this.executor = (virtualThreadExecutor != null) ? virtualThreadExecutor : createThreadPool(maxThreads);
+    }
+
+    /**
+     * Gets the driver-wide scheduler, creating it from the system properties on first use.
+     *
+     * @return PaginationScheduler.
+     */
+    public static synchronized PaginationScheduler getInstance() {
+        if (instance == null) {
+            instance = new PaginationScheduler(
+                    Integer.getInteger(MAX_THREADS_PROPERTY, DEFAULT_MAX_THREADS),
+                    Integer.getInteger(MAX_QUEUED_PROPERTY, DEFAULT_MAX_QUEUED),
+                    Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY));
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the driver-wide scheduler. Paginations already running or waiting complete on the previous scheduler,
+     * whose threads exit once they are done. Parked paginations resume on the new scheduler.
+     *
+     * @param maxThreads     Maximum number of paginations running at a time.
+     * @param maxQueued      Maximum number of paginations waiting to run.
+     * @param virtualThreads Whether to run paginations on virtual threads, if the JVM supports them.
+     */
+    public static synchronized void configure(final int maxThreads, final int maxQueued,
+                                              final boolean virtualThreads) {
+        final PaginationScheduler previous = instance;
+        instance = new PaginationScheduler(maxThreads, maxQueued, virtualThreads);
+        if (previous != null) {
+            previous.executor.shutdown();
+        }
+    }
+
+    private static ExecutorService createThreadPool(final int maxThreads) {
+        final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("Data-Insert-Thread-%d").setDaemon(true).build());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not supported by this JVM, using a thread pool for pagination.");
+            return null;
+        }
+    }
+
+    /**
+     * Submits a pagination, starting it right away if fewer than the maximum number of paginations are running.
+     *
+     * @param owner      Owner the pagination is scheduled fairly against, for example its connection.
+     * @param pagination Pagination to run.
+     * @throws SQLException if the queue of waiting paginations is full.
+     */
+    public void submit(final Object owner, final Runnable pagination) throws SQLException {
+        submit(owner, pagination, true);
+    }
+
+    /**
+     * Resumes a parked pagination. It is not limited by the maximum number of queued paginations, since it was
+     * admitted when it was first submitted.
+     *
+     * @param owner      Owner the pagination is scheduled fairly against, for example its connection.
+     * @param pagination Pagination to resume.
+     * @throws SQLException if the scheduler is shut down.
+     */
+    public void resume(final Object owner, final Runnable pagination) throws SQLException {
+        submit(owner, pagination, false);
+    }
+
+    private void submit(final Object owner, final Runnable pagination, final boolean limitQueued)
+            throws SQLException {
+        synchronized (this) {
+            if (running >= maxThreads) {
+                if (limitQueued && queued >= maxQueued) {
+                    throw SqlGremlinError.create(SqlGremlinError.PAGINATION_QUEUE_FULL, maxQueued);
+                }
+                Queue<Runnable> ownerQueue = pending.get(owner);
+                if (ownerQueue == null) {
+                    ownerQueue = new ArrayDeque<>();
+                    pending.put(owner, ownerQueue);
+                    owners.add(owner);
+                }
+                ownerQueue.add(pagination);
+                queued++;
+                return;
+            }
+            running++;
+        }
+        try {
+            executor.execute(() -> runPaginations(pagination));
+        } catch (final RejectedExecutionException e) {
+            synchronized (this) {
+                running--;
+            }
+            throw SqlGremlinError.create(SqlGremlinError.PAGINATION_QUEUE_FULL, e, maxQueued);
+        }
+    }
+
+    /**
+     * Gets the number of paginations waiting to run.
+     *
+     * @return Number of queued paginations.
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    private void runPaginations(final Runnable first) {
+        // Keep the thread for the next waiting pagination instead of handing it over to a new task.
+        Runnable pagination = first;
+        while (pagination != null) {
+            try {
+                pagination.run();
+            } catch (final RuntimeException e) {
+                LOGGER.error("Pagination failed.", e);
+            }
+            pagination = next();
+        }
+    }
+
+    private synchronized Runnable next() {
+        final Object owner = owners.poll();
+        if (owner == null) {
+            running--;
+            return null;
+        }
+        final Queue<Runnable> ownerQueue = pending.get(owner);
+        final Runnable pagination = ownerQueue.poll();
+        queued--;
+        if (ownerQueue.isEmpty()) {
+            pending.remove(owner);
+        } else {
+            // Go to the back of the line, owners with waiting paginations take turns.
+            owners.add(owner);
+        }
+        return pagination;
+    }
+}
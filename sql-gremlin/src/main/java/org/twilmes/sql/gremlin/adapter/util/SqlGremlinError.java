@@ -92,7 +92,10 @@ public enum SqlGremlinError {
     UNSUPPORTED_LITERAL_EXPRESSION,
     CANNOT_JOIN_DIFFERENT_EDGES,
     UNSUPPORTED_OPERAND_TYPE,
-    UNRECOGNIZED_TYPE;
+    UNRECOGNIZED_TYPE,
+    QUERY_CANCELED,
+    PAGINATION_QUEUE_FULL,
+    RESULT_TIMED_OUT;
 
     private static final ResourceBundle RESOURCE;
 
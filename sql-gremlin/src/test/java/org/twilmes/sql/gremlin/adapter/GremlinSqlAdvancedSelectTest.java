@@ -333,6 +333,36 @@ public class GremlinSqlAdvancedSelectTest extends GremlinSqlBaseTest {
                 rows(r("Patty", 29), r("Pavel", 30), r("Phil", 31), r("Susan", 45), r("Juanita", 50)));
     }
 
+    @Test
+    void testOffset() throws SQLException {
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age LIMIT 2 OFFSET 1",
+                columns("name", "age"),
+                rows(r("Pavel", 30), r("Phil", 31)));
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age OFFSET 2 ROWS FETCH NEXT 2 ROWS ONLY",
+                columns("name", "age"),
+                rows(r("Phil", 31), r("Tom", 35)));
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age OFFSET 4",
+                columns("name", "age"),
+                rows(r("Susan", 45), r("Juanita", 50)));
+        runQueryTestResults(
+                String.format("SELECT name, age FROM person ORDER BY age LIMIT %d OFFSET 4", Long.MAX_VALUE),
+                columns("name", "age"),
+                rows(r("Susan", 45), r("Juanita", 50)));
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age LIMIT 2 OFFSET 6",
+                columns("name", "age"),
+                rows());
+
+        // OFFSET applies after DISTINCT and aggregates.
+        runQueryTestResults("SELECT DISTINCT wentToSpace FROM person ORDER BY wentToSpace OFFSET 1",
+                columns("wentToSpace"),
+                rows(r(true)));
+        runQueryTestResults("SELECT wentToSpace, COUNT(age) FROM person GROUP BY wentToSpace LIMIT 1 OFFSET 1",
+                columns("wentToSpace", "COUNT(age)"),
+                rows(r(true, 3L)));
+        runQueryTestResults("SELECT COUNT(*) FROM person OFFSET 0", columns("COUNT(*)"), rows(r(6L)));
+        runQueryTestResults("SELECT COUNT(*) FROM person OFFSET 1", columns("COUNT(*)"), rows());
+    }
+
     @Test
     void testSingleComparisonOperator() throws SQLException {
         runQueryTestResults(
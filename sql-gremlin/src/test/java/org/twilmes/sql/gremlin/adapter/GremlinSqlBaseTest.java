@@ -46,12 +46,13 @@ import java.util.stream.Collectors;
 public abstract class GremlinSqlBaseTest {
     private final Graph graph;
     private final GraphTraversalSource g;
+    private final GremlinSchema gremlinSchema;
     private final SqlConverter converter;
 
     GremlinSqlBaseTest() throws SQLException {
         graph = TestGraphFactory.createGraph(getDataSet());
         g = graph.traversal();
-        final GremlinSchema gremlinSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All);
+        gremlinSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All);
         converter = new SqlConverter(gremlinSchema);
     }
 
@@ -104,6 +105,22 @@ public abstract class GremlinSqlBaseTest {
         }
     }
 
+    protected SqlGremlinTestResult runQuery(final String query) throws SQLException {
+        return new SqlGremlinTestResult(converter.executeQuery(g, query));
+    }
+
+    protected String getStringTraversal(final String query) throws SQLException {
+        return converter.getStringTraversal(g, query);
+    }
+
+    protected SqlGremlinTestResult runQuery(final String query, final boolean implicitOrder) throws SQLException {
+        return new SqlGremlinTestResult(new SqlConverter(gremlinSchema, implicitOrder).executeQuery(g, query));
+    }
+
+    protected String getStringTraversal(final String query, final boolean implicitOrder) throws SQLException {
+        return new SqlConverter(gremlinSchema, implicitOrder).getStringTraversal(g, query);
+    }
+
     protected void runQueryTestResults(final String query, final List<String> columnNames,
                                        final List<List<?>> rows)
             throws SQLException {
@@ -20,6 +20,7 @@
 package org.twilmes.sql.gremlin.adapter;
 
 import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.twilmes.sql.gremlin.adapter.graphs.GraphConstants;
 import java.sql.SQLException;
@@ -75,6 +76,25 @@ public class GremlinSqlBasicSelectTest extends GremlinSqlBaseTest {
         runQueryTestResults("SELECT \"key\" FROM datetype", columns("key"), rows(r(GraphConstants.DATE_VALUE)));
     }
 
+    @Test
+    void testCachedPlanQuery() throws SQLException {
+        // The second query only differs in whitespace and runs from the plan cached by the first.
+        runQueryTestResults("SELECT \"key\" FROM stringtype", columns("key"), rows(r(GraphConstants.STRING_VALUE)));
+        runQueryTestResults("SELECT  \"key\"\n FROM stringtype ", columns("key"),
+                rows(r(GraphConstants.STRING_VALUE)));
+    }
+
+    @Test
+    void testUnorderedQuery() throws SQLException {
+        // Without implicit ordering only an explicit ORDER BY sorts the rows.
+        final String query = "SELECT \"key\" FROM stringtype";
+        Assertions.assertTrue(getStringTraversal(query, true).contains("order()"));
+        Assertions.assertFalse(getStringTraversal(query, false).contains("order()"));
+        Assertions.assertTrue(getStringTraversal(query + " ORDER BY \"key\"", false).contains("order()"));
+        assertRows(runQuery(query, false).getRows(), rows(r(GraphConstants.STRING_VALUE)));
+        assertRows(runQuery("SELECT key FROM stringtypeedge", false).getRows(), rows(r(GraphConstants.STRING_VALUE)));
+    }
+
     @Test
     void testEdgeQueries() throws SQLException {
         runQueryTestResults("SELECT key FROM stringtypeedge", columns("key"), rows(r(GraphConstants.STRING_VALUE)));
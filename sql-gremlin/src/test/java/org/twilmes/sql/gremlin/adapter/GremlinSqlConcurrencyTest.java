@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class GremlinSqlConcurrencyTest extends GremlinSqlBaseTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int ITERATIONS = 25;
+    // Queries with different table renames, so translations that share state would mix up their renames.
+    private static final List<String> QUERIES = ImmutableList.of(
+            "SELECT name FROM person",
+            "SELECT p.name, p.age FROM gremlin.person p WHERE p.age > 30",
+            "SELECT s.model FROM gremlin.spaceship s",
+            "SELECT person.name AS name1, person1.name AS name2 FROM gremlin.person person " +
+                    "INNER JOIN gremlin.person person1 ON (person.friendsWith_OUT_ID = person1.friendsWith_IN_ID)",
+            "SELECT person.name, spaceship.model FROM gremlin.person person " +
+                    "INNER JOIN gremlin.spaceship spaceship ON (person.pilots_OUT_ID = spaceship.pilots_IN_ID)");
+
+    GremlinSqlConcurrencyTest() throws SQLException {
+    }
+
+    @Override
+    protected DataSet getDataSet() {
+        return DataSet.SPACE;
+    }
+
+    @Test
+    void testConcurrentTranslation() throws Exception {
+        final Map<String, String> expected = new HashMap<>();
+        for (final String query : QUERIES) {
+            expected.put(query, getStringTraversal(query));
+        }
+        runConcurrently(query -> Assertions.assertEquals(expected.get(query), getStringTraversal(query)));
+    }
+
+    @Test
+    void testConcurrentExecution() throws Exception {
+        final Map<String, Set<List<?>>> expected = new HashMap<>();
+        for (final String query : QUERIES) {
+            expected.put(query, new HashSet<>(runQuery(query).getRows()));
+        }
+        runConcurrently(query ->
+                Assertions.assertEquals(expected.get(query), new HashSet<>(runQuery(query).getRows())));
+    }
+
+    private void runConcurrently(final QueryCheck check) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT * ITERATIONS; i++) {
+                final String query = QUERIES.get(i % QUERIES.size());
+                final Callable<Void> task = () -> {
+                    start.await();
+                    check.run(query);
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (final Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface QueryCheck {
+        void run(String query) throws SQLException;
+    }
+}
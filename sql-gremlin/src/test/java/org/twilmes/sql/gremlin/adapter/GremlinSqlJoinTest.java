@@ -108,15 +108,63 @@ public class GremlinSqlJoinTest extends GremlinSqlBaseTest {
                 SqlGremlinError.CANNOT_JOIN_DIFFERENT_EDGES, "worksFor", "pilots");
     }
 
+    @Test
+    void testJoinWhere() throws SQLException {
+        runJoinQueryTestResults("SELECT person.name AS name1, person1.name AS name2 FROM gremlin.person person " +
+                        "INNER JOIN gremlin.person person1 ON (person.friendsWith_OUT_ID = person1.friendsWith_IN_ID) " +
+                        "WHERE person.name = 'Tom'",
+                columns("name1", "name2"),
+                rows(r("Tom", "Patty")));
+        runJoinQueryTestResults("SELECT person.name AS name1, person1.name AS name2 FROM gremlin.person person " +
+                        "INNER JOIN gremlin.person person1 ON (person.friendsWith_OUT_ID = person1.friendsWith_IN_ID) " +
+                        "WHERE person1.age > 30",
+                columns("name1", "name2"),
+                rows(r("Patty", "Juanita"), r("Phil", "Susan")));
+        runJoinQueryTestResults("SELECT person.name AS name1, person1.name AS name2 FROM gremlin.person person " +
+                        "INNER JOIN gremlin.person person1 ON (person.friendsWith_OUT_ID = person1.friendsWith_IN_ID) " +
+                        "WHERE person.name = 'Tom' OR 'Pavel' = person1.name",
+                columns("name1", "name2"),
+                rows(r("Tom", "Patty"), r("Susan", "Pavel")));
+        runJoinQueryTestResults("SELECT person.name AS name1, person1.name AS name2 FROM gremlin.person person " +
+                        "INNER JOIN gremlin.person person1 ON (person.friendsWith_OUT_ID = person1.friendsWith_IN_ID) " +
+                        "WHERE NOT (person.age < 35)",
+                columns("name1", "name2"),
+                rows(r("Tom", "Patty"), r("Susan", "Pavel")));
+        runJoinQueryTestResults("SELECT person.name, spaceship.model FROM gremlin.person person " +
+                        "INNER JOIN gremlin.spaceship spaceship ON (person.pilots_OUT_ID = spaceship.pilots_IN_ID) " +
+                        "WHERE spaceship.model = 'delta 3' AND person.age >= 30",
+                columns("name", "model"),
+                rows(r("Juanita", "delta 3"), r("Pavel", "delta 3")));
+    }
+
+    @Test
+    void testJoinHaving() throws SQLException {
+        runJoinQueryTestResults("SELECT person.name AS name1 FROM gremlin.person person " +
+                        "INNER JOIN gremlin.person person1 ON person.friendsWith_OUT_ID = person1.friendsWith_IN_ID " +
+                        "GROUP BY person.name HAVING COUNT(person.name) > 0",
+                columns("name1"),
+                rows(r("Tom"), r("Patty"), r("Phil"), r("Susan")));
+        runJoinQueryTestResults("SELECT spaceship.model FROM gremlin.person person " +
+                        "INNER JOIN gremlin.spaceship spaceship ON (person.pilots_OUT_ID = spaceship.pilots_IN_ID) " +
+                        "GROUP BY spaceship.model HAVING COUNT(person.name) > 1",
+                columns("model"),
+                rows(r("delta 1"), r("delta 3")));
+        runJoinQueryTestResults("SELECT spaceship.model FROM gremlin.person person " +
+                        "INNER JOIN gremlin.spaceship spaceship ON (person.pilots_OUT_ID = spaceship.pilots_IN_ID) " +
+                        "WHERE person.age > 30 GROUP BY spaceship.model HAVING COUNT(*) > 1",
+                columns("model"),
+                rows(r("delta 1")));
+    }
+
     @Test
     void testJoinHavingWhereThrow() {
         runNotSupportedQueryTestThrows("SELECT person.name AS name1 FROM gremlin.person person " +
                         "INNER JOIN gremlin.person person1 ON person.friendsWith_OUT_ID = person1.friendsWith_IN_ID " +
-                        "GROUP BY person.name HAVING COUNT(person.name) > 0",
+                        "GROUP BY person.name HAVING COUNT(person.name) > COUNT(person1.name)",
                 SqlGremlinError.JOIN_HAVING_UNSUPPORTED);
         runNotSupportedQueryTestThrows("SELECT person.name AS name1 FROM gremlin.person person " +
                         "INNER JOIN gremlin.person person1 ON person.friendsWith_OUT_ID = person1.friendsWith_IN_ID " +
-                        "WHERE person.name = 'foo'",
+                        "WHERE person.name = person1.name",
                 SqlGremlinError.JOIN_WHERE_UNSUPPORTED);
     }
 }
@@ -33,13 +33,6 @@ public class GremlinSqlNotSupportedTest extends GremlinSqlBaseTest {
         return DataSet.SPACE;
     }
 
-    @Test
-    public void testOffset() throws SQLException {
-        // OFFSET testing - currently not implemented.
-        runNotSupportedQueryTestThrows("SELECT name FROM person OFFSET 1", SqlGremlinError.OFFSET_NOT_SUPPORTED);
-
-    }
-
     @Test
     public void testSubQuery() throws SQLException {
         // Sub Query testing = currently caught by generic catch-all
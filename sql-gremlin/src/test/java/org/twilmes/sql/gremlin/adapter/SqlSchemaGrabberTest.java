@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.twilmes.sql.gremlin.adapter;
+
+import org.apache.calcite.util.Pair;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
+import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinEdgeTable;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinProperty;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinVertexTable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SqlSchemaGrabberTest {
+
+    private static GremlinTableBase getTable(final GremlinSchema schema, final String label) {
+        return schema.getAllTables().stream().filter(table -> table.getLabel().equals(label)).findFirst()
+                .orElseThrow(() -> new AssertionError("Missing table " + label));
+    }
+
+    @Test
+    void testIncrementalSchema() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        final Vertex person = graph.addVertex("person");
+        person.property("name", "Alice");
+        final Vertex planet = graph.addVertex("planet");
+        planet.property("name", "Earth");
+        person.addEdge("visits", planet).property("times", 3);
+
+        // Previous schema with a type that does not match the graph, so reuse can be observed.
+        final GremlinSchema previousSchema = new GremlinSchema(
+                new ArrayList<>(Collections.singletonList(new GremlinVertexTable("person",
+                        new ArrayList<>(Collections.singletonList(new GremlinProperty("name", "double"))),
+                        new ArrayList<>(), new ArrayList<>(Collections.singletonList("visits"))))),
+                new ArrayList<>(Collections.singletonList(new GremlinEdgeTable("visits",
+                        new ArrayList<>(Collections.singletonList(new GremlinProperty("times", "integer"))),
+                        new ArrayList<>(Collections.singletonList(new Pair<>("planet", "person")))))));
+
+        // Planet is a new label and visits gains a property key, both are scanned.
+        graph.edges().next().property("note", "first");
+        final GremlinSchema schema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All, previousSchema);
+
+        Assertions.assertEquals("double", getTable(schema, "person").getColumn("name").getType());
+        Assertions.assertEquals("string", getTable(schema, "planet").getColumn("name").getType());
+        Assertions.assertEquals("string", getTable(schema, "visits").getColumn("note").getType());
+        Assertions.assertEquals("integer", getTable(schema, "visits").getColumn("times").getType());
+
+        // Without a previous schema every label is scanned.
+        final GremlinSchema fullSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All);
+        Assertions.assertEquals("string", getTable(fullSchema, "person").getColumn("name").getType());
+    }
+
+    @Test
+    void testIncrementalSchemaRemovedPropertyKey() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        graph.addVertex("person").property("name", "Alice");
+
+        // The previous schema has a property key that is gone from the graph.
+        final GremlinSchema previousSchema = new GremlinSchema(
+                new ArrayList<>(Collections.singletonList(new GremlinVertexTable("person",
+                        new ArrayList<>(Arrays.asList(new GremlinProperty("name", "double"),
+                                new GremlinProperty("age", "integer"))),
+                        new ArrayList<>(), new ArrayList<>()))),
+                new ArrayList<>());
+
+        for (final boolean batched : new boolean[] {false, true}) {
+            final GremlinSchema schema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All, previousSchema,
+                    SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, batched);
+            final GremlinTableBase person = getTable(schema, "person");
+            Assertions.assertEquals("string", person.getColumn("name").getType());
+            Assertions.assertFalse(person.hasColumn("age"));
+        }
+    }
+
+    @Test
+    void testSampleScanType() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        for (int i = 0; i < 10; i++) {
+            graph.addVertex("number").property("value", i);
+        }
+        graph.addVertex("number").property("value", "ten");
+        graph.addVertex("word").property("text", "a");
+        graph.addVertex("word").property("text", 1);
+
+        final GremlinSchema sampledSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.sample(5));
+        final GremlinProperty sampledValue = getTable(sampledSchema, "number").getColumn("value");
+        Assertions.assertEquals("integer", sampledValue.getType());
+        Assertions.assertTrue(sampledValue.isSampled());
+        // Reaching String is final, so it is not reported as sampled.
+        Assertions.assertFalse(getTable(sampledSchema, "word").getColumn("text").isSampled());
+
+        final GremlinSchema fullSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All);
+        final GremlinProperty fullValue = getTable(fullSchema, "number").getColumn("value");
+        Assertions.assertEquals("string", fullValue.getType());
+        Assertions.assertFalse(fullValue.isSampled());
+
+        final GremlinSchema budgetSchema =
+                SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.timeBudget(60000));
+        Assertions.assertEquals("string", getTable(budgetSchema, "number").getColumn("value").getType());
+    }
+
+    @Test
+    void testScanTypeFromString() {
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.All, SqlSchemaGrabber.ScanType.fromString("all"));
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.First, SqlSchemaGrabber.ScanType.fromString("FIRST"));
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.sample(25),
+                SqlSchemaGrabber.ScanType.fromString("Sample( 25 )"));
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.sample(SqlSchemaGrabber.ScanType.DEFAULT_SAMPLE_SIZE),
+                SqlSchemaGrabber.ScanType.fromString("sample"));
+        Assertions.assertEquals("TimeBudget(100)", SqlSchemaGrabber.ScanType.fromString("timebudget(100)").toString());
+        Assertions.assertNull(SqlSchemaGrabber.ScanType.fromString("sample(-1)"));
+        Assertions.assertNull(SqlSchemaGrabber.ScanType.fromString("unknown"));
+    }
+
+    @Test
+    void testConcurrencyLimitedSchema() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        for (int i = 0; i < 20; i++) {
+            final Vertex vertex = graph.addVertex("label" + i);
+            vertex.property("name", "name" + i);
+            vertex.property("age", i);
+            vertex.addEdge("edge" + (i % 3), vertex).property("weight", 1.0);
+        }
+
+        final GremlinSchema serialSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All, null, 1);
+        Assertions.assertEquals(20, serialSchema.getVertices().size());
+        Assertions.assertEquals(3, serialSchema.getEdges().size());
+        Assertions.assertEquals("integer", getTable(serialSchema, "label7").getColumn("age").getType());
+        Assertions.assertEquals("double", getTable(serialSchema, "edge1").getColumn("weight").getType());
+        Assertions.assertEquals(Collections.singletonList("edge1"),
+                ((GremlinVertexTable) getTable(serialSchema, "label7")).getInEdges());
+    }
+
+    @Test
+    void testBatchedSchema() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        final Vertex earth = graph.addVertex(T.label, "planet", "name", "earth", "moons", 1);
+        final Vertex mars = graph.addVertex(T.label, "planet", "name", "mars", "moons", 2L);
+        final Vertex person = graph.addVertex(T.label, "person", "name", "ada", "age", 36);
+        graph.addVertex(T.label, "empty");
+        person.addEdge("visits", earth, "times", 3);
+        person.addEdge("visits", mars);
+        earth.addEdge("orbits", mars, "distance", 0.5);
+
+        final GremlinSchema perLabelSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All, null,
+                SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, false);
+        final GremlinSchema batchedSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.All, null,
+                SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, true);
+        Assertions.assertEquals(perLabelSchema.getVertices().size(), batchedSchema.getVertices().size());
+        Assertions.assertEquals(perLabelSchema.getEdges().size(), batchedSchema.getEdges().size());
+        for (final GremlinTableBase table : perLabelSchema.getAllTables()) {
+            final GremlinTableBase batchedTable = getTable(batchedSchema, table.getLabel());
+            Assertions.assertEquals(table.getColumns().keySet(), batchedTable.getColumns().keySet());
+            for (final String column : table.getColumns().keySet()) {
+                Assertions.assertEquals(table.getColumn(column).getType(), batchedTable.getColumn(column).getType());
+            }
+        }
+        Assertions.assertEquals("long", getTable(batchedSchema, "planet").getColumn("moons").getType());
+        Assertions.assertEquals(Collections.singletonList("visits"),
+                ((GremlinVertexTable) getTable(batchedSchema, "person")).getOutEdges());
+        Assertions.assertEquals(Collections.singletonList(new Pair<>("planet", "person")),
+                ((GremlinEdgeTable) getTable(batchedSchema, "visits")).getInOutVertexPairs());
+
+        // A sample of one value per property only sees one of the moons values.
+        final GremlinSchema sampledSchema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.First, null,
+                SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, true);
+        Assertions.assertTrue(getTable(sampledSchema, "planet").getColumn("moons").isSampled());
+        Assertions.assertFalse(getTable(sampledSchema, "planet").getColumn("name").isSampled());
+    }
+
+    @Test
+    void testBatchedSampleReadsBoundedElements() throws SQLException {
+        final Graph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        graph.addVertex(T.label, "item", "name", "first");
+        for (int i = 0; i < 10; i++) {
+            graph.addVertex(T.label, "item", "name", "item" + i, "value", 1);
+        }
+        graph.addVertex(T.label, "item", "name", "last", "value", "one", "rare", 5);
+
+        final GremlinSchema schema = SqlSchemaGrabber.getSchema(g, SqlSchemaGrabber.ScanType.sample(3), null,
+                SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, true);
+        final GremlinTableBase item = getTable(schema, "item");
+        // Only the first 3 items are read, so the string value of the last one is not seen.
+        Assertions.assertEquals("integer", item.getColumn("value").getType());
+        Assertions.assertTrue(item.getColumn("value").isSampled());
+        // A property none of the items read has is scanned on its own.
+        Assertions.assertEquals("integer", item.getColumn("rare").getType());
+        Assertions.assertEquals("string", item.getColumn("name").getType());
+    }
+}
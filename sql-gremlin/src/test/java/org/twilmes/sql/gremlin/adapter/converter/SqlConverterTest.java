@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.converter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SqlConverterTest {
+    @Test
+    void testNormalizeQuery() {
+        Assertions.assertEquals("SELECT \"key\" FROM stringtype",
+                SqlConverter.normalizeQuery("  SELECT \t\"key\"\n  FROM stringtype  "));
+        Assertions.assertEquals("SELECT * FROM t WHERE \"a  b\" = 'c   d'",
+                SqlConverter.normalizeQuery("SELECT *\nFROM t WHERE \"a  b\"  =  'c   d'"));
+        Assertions.assertEquals("SELECT * FROM t WHERE a = 'it''s  here'",
+                SqlConverter.normalizeQuery("SELECT * FROM t WHERE a = 'it''s  here'"));
+    }
+
+    @Test
+    void testNormalizeQueryComments() {
+        // Text after a line comment is commented out only up to the end of the line.
+        Assertions.assertEquals("SELECT * FROM t WHERE a=1",
+                SqlConverter.normalizeQuery("SELECT * FROM t -- x\nWHERE a=1"));
+        Assertions.assertEquals("SELECT * FROM t",
+                SqlConverter.normalizeQuery("SELECT * FROM t -- x WHERE a=1"));
+        Assertions.assertEquals("SELECT * FROM t WHERE a=1",
+                SqlConverter.normalizeQuery("/* x */ SELECT *\nFROM t /* y\n */WHERE a=1"));
+        Assertions.assertEquals("SELECT * FROM t WHERE a = '-- x /* y */'",
+                SqlConverter.normalizeQuery("SELECT * FROM t WHERE a = '-- x /* y */'"));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.twilmes.sql.gremlin.adapter.converter.schema;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinProperty;
+
+public class RunGremlinQueryPropertyTypeTest {
+    @Test
+    void testTimeBudgetSpent() {
+        final Graph graph = TinkerGraph.open();
+        graph.addVertex("number").property("value", 1);
+        graph.addVertex("number").property("value", "two");
+
+        // The whole budget is left, every value is read.
+        final GremlinProperty scanned = new SqlSchemaGrabber.RunGremlinQueryPropertyType(true, "number", "value",
+                graph.traversal(), SqlSchemaGrabber.ScanType.timeBudget(60000), Long.MAX_VALUE).call();
+        Assertions.assertEquals("string", scanned.getType());
+        Assertions.assertFalse(scanned.isSampled());
+
+        // The budget ran out before the query was sent, only one value is read.
+        final GremlinProperty sampled = new SqlSchemaGrabber.RunGremlinQueryPropertyType(true, "number", "value",
+                graph.traversal(), SqlSchemaGrabber.ScanType.timeBudget(60000), 0).call();
+        Assertions.assertEquals("integer", sampled.getType());
+        Assertions.assertTrue(sampled.isSampled());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.twilmes.sql.gremlin.adapter.converter.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SchemaQueryLimiterTest {
+    @Test
+    void testConcurrencyLimit() throws ExecutionException, InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final SchemaQueryLimiter limiter = new SchemaQueryLimiter(executor, 2);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final int value = i;
+                futures.add(limiter.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return value;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assertions.assertEquals(i, futures.get(i).get());
+            }
+            Assertions.assertTrue(maxRunning.get() <= 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNestedSubmitDoesNotStarve() throws ExecutionException, InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            // Queries submitted from the completion of another query must not wait on a slot held by their parent.
+            final SchemaQueryLimiter limiter = new SchemaQueryLimiter(executor, 1);
+            final CompletableFuture<Integer> result = limiter.submit(() -> 1)
+                    .thenCompose(first -> limiter.submit(() -> first + 1))
+                    .thenCompose(second -> limiter.submit(() -> second + 1));
+            Assertions.assertEquals(3, result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final SchemaQueryLimiter limiter = new SchemaQueryLimiter(executor, 1);
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CompletableFuture<Integer> running = limiter.submit(() -> {
+                started.countDown();
+                release.await();
+                return 1;
+            });
+            final AtomicInteger pendingRuns = new AtomicInteger();
+            final CompletableFuture<Integer> pending = limiter.submit(pendingRuns::incrementAndGet);
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            limiter.cancel();
+            release.countDown();
+
+            Assertions.assertEquals(1, running.join());
+            Assertions.assertThrows(Exception.class, pending::join);
+            Assertions.assertTrue(pending.isCancelled());
+            Assertions.assertEquals(0, pendingRuns.get());
+            Assertions.assertTrue(limiter.submit(() -> 1).isCancelled());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SchemaQueryLimiter(Runnable::run, 0));
+    }
+}
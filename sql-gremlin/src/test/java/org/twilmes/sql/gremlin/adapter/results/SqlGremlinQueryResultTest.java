@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.results;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.twilmes.sql.gremlin.adapter.util.SqlGremlinError;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SqlGremlinQueryResultTest {
+    private static final int PAGE_SIZE = 2;
+    private static final int ROW_COUNT = 20;
+
+    private static List<List<Object>> rows(final int count) {
+        final List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new ArrayList<>(Collections.singletonList(i)));
+        }
+        return rows;
+    }
+
+    private static Thread startProducer(final SqlGremlinQueryResult result) {
+        final Thread producer = new Thread(() -> {
+            result.addResults(rows(ROW_COUNT));
+            result.close();
+        });
+        producer.setDaemon(true);
+        producer.start();
+        return producer;
+    }
+
+    private static void waitForBlocked(final Thread thread) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!isWaiting(thread) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(isWaiting(thread));
+    }
+
+    private static boolean isWaiting(final Thread thread) {
+        // Consumers with a result timeout wait for rows in a timed wait.
+        return thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING;
+    }
+
+    @Test
+    void testBackPressure() throws Exception {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        final Thread producer = startProducer(result);
+
+        // The producer fills the buffer of two pages and waits for the consumer.
+        waitForBlocked(producer);
+        Assertions.assertEquals(2 * PAGE_SIZE, result.getBlockingQueueRows().size());
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(ImmutableList.of(i), result.getResult());
+        }
+        Assertions.assertTrue(result.getResult() instanceof SqlGremlinQueryResult.EmptyResult);
+        producer.join(10000);
+        Assertions.assertFalse(producer.isAlive());
+    }
+
+    @Test
+    void testCancelUnblocksProducer() throws Exception {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        final Thread producer = startProducer(result);
+        waitForBlocked(producer);
+
+        result.cancel();
+        producer.join(10000);
+        Assertions.assertFalse(producer.isAlive());
+        Assertions.assertTrue(result.isCancelled());
+        Assertions.assertTrue(result.isDone());
+        Assertions.assertThrows(SQLException.class, result::getResult);
+    }
+
+    @Test
+    void testCancelUnblocksConsumer() throws Exception {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        final AtomicBoolean callbackRun = new AtomicBoolean(false);
+        result.setCancelCallback(() -> callbackRun.set(true));
+        final AtomicReference<Throwable> consumerError = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                result.getResult();
+            } catch (final SQLException e) {
+                consumerError.set(e);
+            }
+        });
+        consumer.setDaemon(true);
+        consumer.start();
+        waitForBlocked(consumer);
+
+        result.cancel();
+        consumer.join(10000);
+        Assertions.assertFalse(consumer.isAlive());
+        Assertions.assertTrue(callbackRun.get());
+        Assertions.assertEquals(SqlGremlinError.getMessage(SqlGremlinError.QUERY_CANCELED),
+                consumerError.get().getMessage());
+    }
+
+    @Test
+    void testResultTimeout() {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        result.setResultTimeoutMillis(1000);
+        final SQLException e = Assertions.assertThrows(SQLException.class, result::getResult);
+        Assertions.assertEquals(SqlGremlinError.getMessage(SqlGremlinError.RESULT_TIMED_OUT, 1L), e.getMessage());
+        Assertions.assertTrue(result.isCancelled());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> result.setResultTimeoutMillis(0));
+    }
+
+    @Test
+    void testNoResultTimeoutByDefault() throws Exception {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        final AtomicReference<Object> consumerResult = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                consumerResult.set(result.getResult());
+            } catch (final SQLException e) {
+                consumerResult.set(e);
+            }
+        });
+        consumer.setDaemon(true);
+        consumer.start();
+        // A slow query without a query timeout keeps the consumer waiting rather than failing it.
+        waitForBlocked(consumer);
+        Assertions.assertEquals(Thread.State.WAITING, consumer.getState());
+
+        final List<Object> row = rows(1).get(0);
+        Assertions.assertTrue(result.offer(row));
+        consumer.join(10000);
+        Assertions.assertEquals(row, consumerResult.get());
+    }
+
+    @Test
+    void testParkedProducerResumesAfterPage() throws SQLException {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), PAGE_SIZE);
+        final AtomicBoolean resumed = new AtomicBoolean(false);
+        Assertions.assertFalse(result.park(() -> resumed.set(true)));
+        for (final List<Object> row : rows(2 * PAGE_SIZE)) {
+            Assertions.assertTrue(result.offer(row));
+        }
+        Assertions.assertFalse(result.offer(rows(1).get(0)));
+        Assertions.assertTrue(result.park(() -> resumed.set(true)));
+
+        // The producer is resumed once a page of rows has been taken.
+        result.getResult();
+        Assertions.assertFalse(resumed.get());
+        result.getResult();
+        Assertions.assertTrue(resumed.get());
+    }
+
+    @Test
+    void testInvalidPageSize() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), 0));
+    }
+
+    @Test
+    void testNullValue() throws SQLException {
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("string"), PAGE_SIZE);
+        final List<List<Object>> rows = new ArrayList<>();
+        rows.add(new ArrayList<>(Collections.singletonList(SqlGremlinQueryResult.NULL_VALUE)));
+        result.addResults(rows);
+        result.close();
+        Assertions.assertEquals(Collections.singletonList(null), result.getResult());
+        Assertions.assertTrue(result.getResult() instanceof SqlGremlinQueryResult.EmptyResult);
+    }
+}
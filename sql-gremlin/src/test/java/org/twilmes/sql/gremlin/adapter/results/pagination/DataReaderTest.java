@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.results.pagination;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DataReaderTest {
+    private static Map<String, Object> row(final String table, final Map<String, Object> columns) {
+        final Map<String, Object> row = new HashMap<>();
+        row.put(table, columns);
+        return row;
+    }
+
+    @Test
+    void testSimpleDataReader() {
+        final SimpleDataReader reader = new SimpleDataReader("person", ImmutableList.of("NAME", "age", "missing"));
+        // Keys differ in case from the SQL names, and not every row has every column.
+        Assertions.assertArrayEquals(new Object[] {"Tom", 35, null},
+                reader.execute(row("Person", ImmutableMap.of("name", "Tom", "Age", 35))));
+        Assertions.assertArrayEquals(new Object[] {"Patty", null, null},
+                reader.execute(row("Person", ImmutableMap.of("name", "Patty"))));
+        Assertions.assertArrayEquals(new Object[] {null, null, null},
+                reader.execute(new HashMap<>()));
+    }
+
+    @Test
+    void testJoinDataReader() {
+        final Map<String, List<String>> tablesColumns = new LinkedHashMap<>();
+        tablesColumns.put("person", ImmutableList.of("name"));
+        tablesColumns.put("spaceship", ImmutableList.of("model"));
+        final JoinDataReader reader = new JoinDataReader(tablesColumns);
+
+        final Map<String, Object> row = new HashMap<>();
+        row.put("person", ImmutableMap.of("name", "Tom"));
+        row.put("Spaceship", ImmutableMap.of("MODEL", "delta 1"));
+        Assertions.assertArrayEquals(new Object[] {"Tom", "delta 1"}, reader.execute(row));
+        Assertions.assertArrayEquals(new Object[] {"Patty", null},
+                reader.execute(row("person", ImmutableMap.of("name", "Patty"))));
+    }
+}
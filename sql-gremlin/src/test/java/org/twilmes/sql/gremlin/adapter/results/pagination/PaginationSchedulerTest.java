@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.twilmes.sql.gremlin.adapter.results.pagination;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PaginationSchedulerTest {
+    @Test
+    void testFairness() throws Exception {
+        final PaginationScheduler scheduler = new PaginationScheduler(1, 10, false);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(5);
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final Object connection1 = new Object();
+        final Object connection2 = new Object();
+
+        // Holds the only thread until all other paginations are queued.
+        scheduler.submit(connection1, () -> {
+            awaitQuietly(release);
+            done.countDown();
+        });
+        for (final String name : ImmutableList.of("a1", "a2", "a3")) {
+            scheduler.submit(connection1, () -> {
+                order.add(name);
+                done.countDown();
+            });
+        }
+        scheduler.submit(connection2, () -> {
+            order.add("b1");
+            done.countDown();
+        });
+        Assertions.assertEquals(4, scheduler.getQueued());
+
+        release.countDown();
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        // The second connection does not wait for every query of the first one.
+        Assertions.assertEquals(ImmutableList.of("a1", "b1", "a2", "a3"), order);
+        Assertions.assertEquals(0, scheduler.getQueued());
+    }
+
+    @Test
+    void testQueueFull() throws Exception {
+        final PaginationScheduler scheduler = new PaginationScheduler(1, 1, false);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        final Runnable pagination = () -> {
+            awaitQuietly(release);
+            done.countDown();
+        };
+        scheduler.submit(this, pagination);
+        scheduler.submit(this, pagination);
+        Assertions.assertThrows(SQLException.class, () -> scheduler.submit(this, pagination));
+
+        release.countDown();
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testConcurrencyLimit() throws Exception {
+        final int maxThreads = 3;
+        final PaginationScheduler scheduler = new PaginationScheduler(maxThreads, 100, false);
+        final CountDownLatch done = new CountDownLatch(30);
+        final List<Integer> running = new CopyOnWriteArrayList<>();
+        final int[] current = {0};
+        for (int i = 0; i < 30; i++) {
+            scheduler.submit(i % 4, () -> {
+                synchronized (current) {
+                    running.add(++current[0]);
+                }
+                sleepQuietly();
+                synchronized (current) {
+                    current[0]--;
+                }
+                done.countDown();
+            });
+        }
+        Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+        Assertions.assertTrue(running.stream().allMatch(count -> count <= maxThreads));
+    }
+
+    @Test
+    void testParkedPaginationReleasesThread() throws Exception {
+        final PaginationScheduler scheduler = new PaginationScheduler(1, 10, false);
+        final SqlGremlinQueryResult result =
+                new SqlGremlinQueryResult(ImmutableList.of("col"), ImmutableList.of("integer"), 1);
+        final AtomicInteger produced = new AtomicInteger();
+        final CountDownLatch otherRan = new CountDownLatch(1);
+        final Runnable[] producer = new Runnable[1];
+        producer[0] = () -> {
+            while (produced.get() < 5) {
+                if (result.offer(new ArrayList<>(Collections.singletonList(produced.get())))) {
+                    produced.incrementAndGet();
+                } else if (result.park(() -> resumeQuietly(scheduler, producer[0]))) {
+                    return;
+                }
+            }
+            result.close();
+        };
+        scheduler.submit(this, producer[0]);
+        // The producer fills the result and parks, so the only thread runs the next pagination.
+        scheduler.submit(this, otherRan::countDown);
+        Assertions.assertTrue(otherRan.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, produced.get());
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(ImmutableList.of(i), result.getResult());
+        }
+        Assertions.assertTrue(result.getResult() instanceof SqlGremlinQueryResult.EmptyResult);
+    }
+
+    @Test
+    void testResumeIgnoresQueueLimit() throws Exception {
+        final PaginationScheduler scheduler = new PaginationScheduler(1, 0, false);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        scheduler.submit(this, () -> {
+            awaitQuietly(release);
+            done.countDown();
+        });
+        Assertions.assertThrows(SQLException.class, () -> scheduler.submit(this, done::countDown));
+        scheduler.resume(this, done::countDown);
+
+        release.countDown();
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testConfigureShutsDownPreviousScheduler() {
+        final PaginationScheduler previous = PaginationScheduler.getInstance();
+        try {
+            PaginationScheduler.configure(2, 10, false);
+            Assertions.assertNotSame(previous, PaginationScheduler.getInstance());
+            Assertions.assertThrows(SQLException.class, () -> previous.submit(this, () -> { }));
+        } finally {
+            PaginationScheduler.configure(PaginationScheduler.DEFAULT_MAX_THREADS,
+                    PaginationScheduler.DEFAULT_MAX_QUEUED, false);
+        }
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PaginationScheduler(0, 1, false));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PaginationScheduler(1, -1, false));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void resumeQuietly(final PaginationScheduler scheduler, final Runnable pagination) {
+        try {
+            scheduler.resume(PaginationSchedulerTest.class, pagination);
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(5);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package software.aws.neptune.common.gremlindatamodel;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
@@ -27,25 +29,35 @@ import software.aws.neptune.common.gremlindatamodel.resultset.ResultSetGetColumn
 import software.aws.neptune.common.gremlindatamodel.resultset.ResultSetGetTables;
 import software.aws.neptune.gremlin.GremlinConnectionProperties;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.ConnectionProperties;
 import software.aws.neptune.opencypher.OpenCypherConnectionProperties;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class MetadataCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(MetadataCache.class);
     private static final Object LOCK = new Object();
     private static final int SCHEMA_CACHE_SIZE = 3;
-    private static final Map<String, GremlinSchema> GREMLIN_SCHEMAS =
-            new LinkedHashMap<String, GremlinSchema>() {
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry eldest) {
-            return size() > SCHEMA_CACHE_SIZE;
-        }
-    };
+    private static final Set<String> SCHEMA_REFRESHES = ConcurrentHashMap.newKeySet();
+    private static final Map<String, ScheduledFuture<?>> SCHEMA_REFRESH_TASKS = new HashMap<>();
+    private static final ScheduledExecutorService SCHEMA_REFRESH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("schema-refresh-%d").setDaemon(true).build());
+    // Replaced as a whole under LOCK on every change, so readers see a consistent map without taking LOCK.
+    private static volatile Map<String, GremlinSchema> gremlinSchemas = Collections.emptyMap();
 
     /**
      * Function to update the cache of the metadata.
@@ -60,14 +72,196 @@ public class MetadataCache {
     public static void updateCache(final String endpoint, final int port, final boolean useIam, final boolean useSsl,
                                    final PathType pathType, final SqlSchemaGrabber.ScanType scanType)
             throws SQLException {
+        updateCache(endpoint, port, useIam, useSsl, pathType, scanType, null, 0);
+    }
+
+    /**
+     * Function to update the cache of the metadata, using the on-disk schema snapshot when one is available.
+     *
+     * @param endpoint          Endpoint of target database.
+     * @param port              Port of target database.
+     * @param useIam            Flag to use IAM or not.
+     * @param useSsl            Flag to use SSL.
+     * @param pathType          Path type.
+     * @param scanType          Scan type.
+     * @param snapshotDirectory Directory of schema snapshots, null to disable snapshots.
+     * @param ttlMillis         Time to live of schema snapshots in milliseconds.
+     * @throws SQLException Thrown if error occurs during update.
+     */
+    public static void updateCache(final String endpoint, final int port, final boolean useIam, final boolean useSsl,
+                                   final PathType pathType, final SqlSchemaGrabber.ScanType scanType,
+                                   final Path snapshotDirectory, final long ttlMillis)
+            throws SQLException {
+        updateCache(new SchemaSource(endpoint, port, useIam, useSsl, pathType, scanType), snapshotDirectory,
+                ttlMillis);
+    }
+
+    private static void updateCache(final SchemaSource schemaSource, final Path snapshotDirectory,
+                                    final long ttlMillis) throws SQLException {
+        final String endpoint = schemaSource.endpoint;
+        synchronized (LOCK) {
+            if (gremlinSchemas.containsKey(endpoint) || loadSnapshot(schemaSource, snapshotDirectory, ttlMillis)) {
+                return;
+            }
+            final GremlinSchema gremlinSchema = schemaSource.getGraphSchema(null);
+            putSchema(endpoint, gremlinSchema);
+            if (snapshotDirectory != null) {
+                SchemaSnapshot.of(gremlinSchema, schemaSource.getFingerprint())
+                        .write(SchemaSnapshot.getSnapshotFile(snapshotDirectory, endpoint));
+            }
+        }
+    }
+
+    /**
+     * Function to load the schema snapshot of an endpoint into the cache if a matching one exists on disk. An expired
+     * snapshot is still loaded so the connection can start right away, and a rescan is started in the background.
+     *
+     * @param endpoint          Endpoint of target database.
+     * @param port              Port of target database.
+     * @param useIam            Flag to use IAM or not.
+     * @param useSsl            Flag to use SSL.
+     * @param pathType          Path type.
+     * @param scanType          Scan type.
+     * @param snapshotDirectory Directory of schema snapshots, null to disable snapshots.
+     * @param ttlMillis         Time to live of schema snapshots in milliseconds.
+     * @return True if the schema is cached after the call, false otherwise.
+     */
+    public static boolean loadSnapshot(final String endpoint, final int port, final boolean useIam,
+                                       final boolean useSsl, final PathType pathType,
+                                       final SqlSchemaGrabber.ScanType scanType, final Path snapshotDirectory,
+                                       final long ttlMillis) {
+        return loadSnapshot(new SchemaSource(endpoint, port, useIam, useSsl, pathType, scanType), snapshotDirectory,
+                ttlMillis);
+    }
+
+    private static boolean loadSnapshot(final SchemaSource schemaSource, final Path snapshotDirectory,
+                                        final long ttlMillis) {
+        final String endpoint = schemaSource.endpoint;
+        if (snapshotDirectory == null) {
+            return isMetadataCached(endpoint);
+        }
+        synchronized (LOCK) {
+            if (gremlinSchemas.containsKey(endpoint)) {
+                return true;
+            }
+            final Path snapshotFile = SchemaSnapshot.getSnapshotFile(snapshotDirectory, endpoint);
+            final SchemaSnapshot snapshot = SchemaSnapshot.read(snapshotFile);
+            if (snapshot == null || !schemaSource.getFingerprint().equals(snapshot.getFingerprint())) {
+                return false;
+            }
+            LOGGER.info(String.format("Loaded schema snapshot for '%s' from '%s'.", endpoint, snapshotFile));
+            putSchema(endpoint, snapshot.toGremlinSchema());
+            if (snapshot.isExpired(ttlMillis)) {
+                LOGGER.info(String.format("Schema snapshot for '%s' is expired, refreshing it in the background.",
+                        endpoint));
+                SCHEMA_REFRESH_EXECUTOR.execute(() -> refreshSchema(schemaSource, snapshotFile));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Function to rescan the schema of an endpoint on a fixed interval while it is cached. Every refresh reuses the
+     * property types of labels whose property keys did not change and swaps the new schema in without blocking readers.
+     *
+     * @param endpoint          Endpoint of target database.
+     * @param port              Port of target database.
+     * @param useIam            Flag to use IAM or not.
+     * @param useSsl            Flag to use SSL.
+     * @param pathType          Path type.
+     * @param scanType          Scan type.
+     * @param snapshotDirectory Directory of schema snapshots to update on refresh, null to disable snapshots.
+     * @param intervalMillis    Refresh interval in milliseconds, 0 to disable refreshing.
+     */
+    public static void scheduleRefresh(final String endpoint, final int port, final boolean useIam,
+                                       final boolean useSsl, final PathType pathType,
+                                       final SqlSchemaGrabber.ScanType scanType, final Path snapshotDirectory,
+                                       final long intervalMillis) {
+        scheduleRefresh(new SchemaSource(endpoint, port, useIam, useSsl, pathType, scanType), snapshotDirectory,
+                intervalMillis);
+    }
+
+    private static void scheduleRefresh(final SchemaSource schemaSource, final Path snapshotDirectory,
+                                        final long intervalMillis) {
+        final String endpoint = schemaSource.endpoint;
+        if (intervalMillis <= 0) {
+            return;
+        }
+        synchronized (LOCK) {
+            if (!gremlinSchemas.containsKey(endpoint) || SCHEMA_REFRESH_TASKS.containsKey(endpoint)) {
+                return;
+            }
+            final Path snapshotFile = (snapshotDirectory == null)
+                    ? null : SchemaSnapshot.getSnapshotFile(snapshotDirectory, endpoint);
+            SCHEMA_REFRESH_TASKS.put(endpoint, SCHEMA_REFRESH_EXECUTOR.scheduleWithFixedDelay(
+                    () -> refreshSchema(schemaSource, snapshotFile),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Function to check whether the schema of an endpoint is refreshed on an interval.
+     *
+     * @param endpoint Endpoint of target database.
+     * @return True if a refresh is scheduled, false otherwise.
+     */
+    public static boolean isRefreshScheduled(final String endpoint) {
+        synchronized (LOCK) {
+            return SCHEMA_REFRESH_TASKS.containsKey(endpoint);
+        }
+    }
+
+    private static void refreshSchema(final SchemaSource schemaSource, final Path snapshotFile) {
+        final String endpoint = schemaSource.endpoint;
+        if (!SCHEMA_REFRESHES.add(endpoint)) {
+            return;
+        }
+        try {
+            final GremlinSchema previousSchema = gremlinSchemas.get(endpoint);
+            if (previousSchema == null) {
+                // Evicted from the cache, it is scanned again on next use.
+                cancelRefresh(endpoint);
+                return;
+            }
+            // Scan outside the lock, the previous schema keeps serving readers until the new one is ready.
+            final GremlinSchema gremlinSchema = schemaSource.getGraphSchema(previousSchema);
+            synchronized (LOCK) {
+                if (gremlinSchemas.containsKey(endpoint)) {
+                    putSchema(endpoint, gremlinSchema);
+                }
+            }
+            if (snapshotFile != null) {
+                SchemaSnapshot.of(gremlinSchema, schemaSource.getFingerprint()).write(snapshotFile);
+            }
+            LOGGER.info(String.format("Refreshed schema for '%s'.", endpoint));
+        } catch (final SQLException | RuntimeException e) {
+            LOGGER.warn(String.format("Failed to refresh schema for '%s'.", endpoint), e);
+        } finally {
+            SCHEMA_REFRESHES.remove(endpoint);
+        }
+    }
+
+    private static void cancelRefresh(final String endpoint) {
         synchronized (LOCK) {
-            if (!GREMLIN_SCHEMAS.containsKey(endpoint)) {
-                GREMLIN_SCHEMAS.put(endpoint, SchemaHelperGremlinDataModel.getGraphSchema(
-                                endpoint, port, useIam, useSsl, pathType, scanType));
+            final ScheduledFuture<?> refreshTask = SCHEMA_REFRESH_TASKS.remove(endpoint);
+            if (refreshTask != null) {
+                refreshTask.cancel(false);
             }
         }
     }
 
+    private static void putSchema(final String endpoint, final GremlinSchema gremlinSchema) {
+        final Map<String, GremlinSchema> updatedSchemas = new LinkedHashMap<>(gremlinSchemas);
+        updatedSchemas.put(endpoint, gremlinSchema);
+        final Iterator<String> iterator = updatedSchemas.keySet().iterator();
+        while (updatedSchemas.size() > SCHEMA_CACHE_SIZE) {
+            final String evictedEndpoint = iterator.next();
+            iterator.remove();
+            cancelRefresh(evictedEndpoint);
+        }
+        gremlinSchemas = Collections.unmodifiableMap(updatedSchemas);
+    }
+
     /**
      * Function to update the cache of the metadata.
      *
@@ -77,10 +271,10 @@ public class MetadataCache {
     public static void updateCacheIfNotUpdated(final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
         if (!isMetadataCached(gremlinConnectionProperties.getContactPoint())) {
-            updateCache(gremlinConnectionProperties.getContactPoint(), gremlinConnectionProperties.getPort(),
-                    (gremlinConnectionProperties.getAuthScheme() == AuthScheme.IAMSigV4),
-                    gremlinConnectionProperties.getEnableSsl(),
-                    MetadataCache.PathType.Gremlin, gremlinConnectionProperties.getScanType());
+            updateCache(new SchemaSource(gremlinConnectionProperties),
+                    getSnapshotDirectory(gremlinConnectionProperties),
+                    getSnapshotTtlMillis(gremlinConnectionProperties));
+            scheduleRefresh(gremlinConnectionProperties);
         }
     }
 
@@ -93,22 +287,76 @@ public class MetadataCache {
     public static void updateCacheIfNotUpdated(final OpenCypherConnectionProperties openCypherConnectionProperties)
             throws SQLException {
         if (!isMetadataCached(openCypherConnectionProperties.getEndpoint())) {
-            updateCache(openCypherConnectionProperties.getEndpoint(), openCypherConnectionProperties.getPort(),
-                    (openCypherConnectionProperties.getAuthScheme() == AuthScheme.IAMSigV4),
-                    openCypherConnectionProperties.getUseEncryption(),
-                    PathType.Bolt, openCypherConnectionProperties.getScanType());
+            updateCache(new SchemaSource(openCypherConnectionProperties),
+                    getSnapshotDirectory(openCypherConnectionProperties),
+                    getSnapshotTtlMillis(openCypherConnectionProperties));
+            scheduleRefresh(openCypherConnectionProperties);
+        }
+    }
+
+    /**
+     * Function to load the schema snapshot for the connection, if snapshots are enabled and one exists.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties to use.
+     */
+    public static void loadSnapshotIfEnabled(final GremlinConnectionProperties gremlinConnectionProperties) {
+        final Path snapshotDirectory = getSnapshotDirectory(gremlinConnectionProperties);
+        if (snapshotDirectory != null) {
+            loadSnapshot(new SchemaSource(gremlinConnectionProperties), snapshotDirectory,
+                    getSnapshotTtlMillis(gremlinConnectionProperties));
+            scheduleRefresh(gremlinConnectionProperties);
         }
     }
 
+    /**
+     * Function to load the schema snapshot for the connection, if snapshots are enabled and one exists.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties to use.
+     * @throws SQLException Thrown if the port cannot be obtained from the endpoint.
+     */
+    public static void loadSnapshotIfEnabled(final OpenCypherConnectionProperties openCypherConnectionProperties)
+            throws SQLException {
+        final Path snapshotDirectory = getSnapshotDirectory(openCypherConnectionProperties);
+        if (snapshotDirectory != null) {
+            loadSnapshot(new SchemaSource(openCypherConnectionProperties), snapshotDirectory,
+                    getSnapshotTtlMillis(openCypherConnectionProperties));
+            scheduleRefresh(openCypherConnectionProperties);
+        }
+    }
+
+    private static void scheduleRefresh(final GremlinConnectionProperties gremlinConnectionProperties) {
+        scheduleRefresh(new SchemaSource(gremlinConnectionProperties),
+                getSnapshotDirectory(gremlinConnectionProperties),
+                getRefreshIntervalMillis(gremlinConnectionProperties));
+    }
+
+    private static void scheduleRefresh(final OpenCypherConnectionProperties openCypherConnectionProperties)
+            throws SQLException {
+        scheduleRefresh(new SchemaSource(openCypherConnectionProperties),
+                getSnapshotDirectory(openCypherConnectionProperties),
+                getRefreshIntervalMillis(openCypherConnectionProperties));
+    }
+
+    private static Path getSnapshotDirectory(final ConnectionProperties connectionProperties) {
+        final String schemaCachePath = connectionProperties.getSchemaCachePath();
+        return StringUtils.isBlank(schemaCachePath) ? null : ConnectionProperties.getPath(schemaCachePath);
+    }
+
+    private static long getSnapshotTtlMillis(final ConnectionProperties connectionProperties) {
+        return TimeUnit.SECONDS.toMillis(connectionProperties.getSchemaCacheTtlSeconds());
+    }
+
+    private static long getRefreshIntervalMillis(final ConnectionProperties connectionProperties) {
+        return TimeUnit.SECONDS.toMillis(connectionProperties.getSchemaRefreshIntervalSeconds());
+    }
+
     /**
      * Function to return whether cache is valid.
      *
      * @return True if cache is valid, false otherwise.
      */
     public static boolean isMetadataCached(final String endpoint) {
-        synchronized (LOCK) {
-            return GREMLIN_SCHEMAS.containsKey(endpoint);
-        }
+        return gremlinSchemas.containsKey(endpoint);
     }
 
     /**
@@ -119,33 +367,32 @@ public class MetadataCache {
      */
     public static GremlinSchema getFilteredCacheNodeColumnInfos(final String nodeFilter, final String endpoint)
             throws SQLException {
-        synchronized (LOCK) {
-            if (!getGremlinSchemas().containsKey(endpoint)) {
-                throw new SQLException("Error, cache must be updated before filtered cache can be retrieved.");
-            } else if (nodeFilter == null || "%".equals(nodeFilter)) {
-                return getGremlinSchemas().get(endpoint);
-            }
-            LOGGER.info("Getting vertices.");
-            final List<GremlinVertexTable> vertices = getGremlinSchemas().get(endpoint).getVertices();
-            LOGGER.info("Getting edges.");
-            final List<GremlinEdgeTable> edges = getGremlinSchemas().get(endpoint).getEdges();
-            final List<GremlinVertexTable> filteredGremlinVertexTables = vertices.stream().filter(
-                    table -> Arrays.stream(nodeFilter.split(":")).allMatch(f -> table.getLabel().equals(f)))
-                    .collect(Collectors.toList());
-            final List<GremlinEdgeTable> filteredGremlinEdgeTables = edges.stream().filter(
-                    table -> Arrays.stream(nodeFilter.split(":")).allMatch(f -> table.getLabel().equals(f)))
-                    .collect(Collectors.toList());
-            return new GremlinSchema(filteredGremlinVertexTables, filteredGremlinEdgeTables);
+        final GremlinSchema gremlinSchema = getGremlinSchemas().get(endpoint);
+        if (gremlinSchema == null) {
+            throw new SQLException("Error, cache must be updated before filtered cache can be retrieved.");
+        } else if (nodeFilter == null || "%".equals(nodeFilter)) {
+            return gremlinSchema;
         }
+        LOGGER.info("Getting vertices.");
+        final List<GremlinVertexTable> vertices = gremlinSchema.getVertices();
+        LOGGER.info("Getting edges.");
+        final List<GremlinEdgeTable> edges = gremlinSchema.getEdges();
+        final List<GremlinVertexTable> filteredGremlinVertexTables = vertices.stream().filter(
+                table -> Arrays.stream(nodeFilter.split(":")).allMatch(f -> table.getLabel().equals(f)))
+                .collect(Collectors.toList());
+        final List<GremlinEdgeTable> filteredGremlinEdgeTables = edges.stream().filter(
+                table -> Arrays.stream(nodeFilter.split(":")).allMatch(f -> table.getLabel().equals(f)))
+                .collect(Collectors.toList());
+        return new GremlinSchema(filteredGremlinVertexTables, filteredGremlinEdgeTables);
     }
 
     /**
-     * Helper function to get GREMLIN_SCHEMAS.
+     * Helper function to get the cached Gremlin Schemas.
      *
      * @return A map of Gremlin Schemas.
      */
     static Map<String, GremlinSchema> getGremlinSchemas() {
-        return GREMLIN_SCHEMAS;
+        return gremlinSchemas;
     }
 
     /**
@@ -182,7 +429,70 @@ public class MetadataCache {
      * @return GremlinSchema Object.
      */
     public static GremlinSchema getGremlinSchema(final String endpoint) {
-        return GREMLIN_SCHEMAS.get(endpoint);
+        return gremlinSchemas.get(endpoint);
+    }
+
+    private static final class SchemaSource {
+        private final String endpoint;
+        private final int port;
+        private final boolean useIam;
+        private final boolean useSsl;
+        private final PathType pathType;
+        private final SqlSchemaGrabber.ScanType scanType;
+        private final int scanConcurrency;
+        private final boolean batched;
+        // Set for Gremlin connections, whose schema is scanned over the client shared with their queries.
+        private final GremlinConnectionProperties gremlinConnectionProperties;
+
+        SchemaSource(final String endpoint, final int port, final boolean useIam, final boolean useSsl,
+                     final PathType pathType, final SqlSchemaGrabber.ScanType scanType) {
+            this(endpoint, port, useIam, useSsl, pathType, scanType, SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY,
+                    SqlSchemaGrabber.DEFAULT_BATCHED, null);
+        }
+
+        SchemaSource(final GremlinConnectionProperties gremlinConnectionProperties) {
+            this(gremlinConnectionProperties.getContactPoint(), gremlinConnectionProperties.getPort(),
+                    (gremlinConnectionProperties.getAuthScheme() == AuthScheme.IAMSigV4),
+                    gremlinConnectionProperties.getEnableSsl(), PathType.Gremlin,
+                    gremlinConnectionProperties.getScanType(), gremlinConnectionProperties.getSchemaScanConcurrency(),
+                    gremlinConnectionProperties.getSchemaScanBatched(), gremlinConnectionProperties);
+        }
+
+        SchemaSource(final OpenCypherConnectionProperties openCypherConnectionProperties) throws SQLException {
+            this(openCypherConnectionProperties.getEndpoint(), openCypherConnectionProperties.getPort(),
+                    (openCypherConnectionProperties.getAuthScheme() == AuthScheme.IAMSigV4),
+                    openCypherConnectionProperties.getUseEncryption(), PathType.Bolt,
+                    openCypherConnectionProperties.getScanType(),
+                    openCypherConnectionProperties.getSchemaScanConcurrency(),
+                    openCypherConnectionProperties.getSchemaScanBatched(), null);
+        }
+
+        private SchemaSource(final String endpoint, final int port, final boolean useIam, final boolean useSsl,
+                             final PathType pathType, final SqlSchemaGrabber.ScanType scanType,
+                             final int scanConcurrency, final boolean batched,
+                             final GremlinConnectionProperties gremlinConnectionProperties) {
+            this.endpoint = endpoint;
+            this.port = port;
+            this.useIam = useIam;
+            this.useSsl = useSsl;
+            this.pathType = pathType;
+            this.scanType = scanType;
+            this.scanConcurrency = scanConcurrency;
+            this.batched = batched;
+            this.gremlinConnectionProperties = gremlinConnectionProperties;
+        }
+
+        String getFingerprint() {
+            return SchemaSnapshot.fingerprint(endpoint, port, pathType, scanType, batched);
+        }
+
+        GremlinSchema getGraphSchema(final GremlinSchema previousSchema) throws SQLException {
+            if (gremlinConnectionProperties != null) {
+                return SchemaHelperGremlinDataModel.getGraphSchema(gremlinConnectionProperties, previousSchema);
+            }
+            return SchemaHelperGremlinDataModel.getGraphSchema(endpoint, port, useIam, useSsl, pathType, scanType,
+                    previousSchema, scanConcurrency, batched);
+        }
     }
 
     public enum PathType {
@@ -24,6 +24,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
 import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
+import software.aws.neptune.gremlin.GremlinClusterRegistry;
+import software.aws.neptune.gremlin.GremlinConnectionProperties;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
 import java.sql.SQLException;
@@ -32,18 +34,18 @@ import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalS
 
 public class SchemaHelperGremlinDataModel {
     private static final Logger LOGGER = LoggerFactory.getLogger(SchemaHelperGremlinDataModel.class);
-    private static final int MIN_CONNECTION_POOL_SIZE = 32;
-    private static final int MAX_CONNECTION_POOL_SIZE = 96;
     private static final int CONNECTION_TIMEOUT = 180 * 1000;
 
-    private static Client getClient(final String endpoint, final int port, final boolean useIam, final boolean useSsl) {
+    private static Client getClient(final String endpoint, final int port, final boolean useIam, final boolean useSsl,
+                                    final int maxConcurrency) {
         final Cluster.Builder builder = Cluster.build();
         builder.addContactPoint(endpoint);
         builder.port(port);
         builder.enableSsl(useSsl);
         builder.maxWaitForConnection(CONNECTION_TIMEOUT);
-        builder.maxConnectionPoolSize(MAX_CONNECTION_POOL_SIZE);
-        builder.minConnectionPoolSize(MIN_CONNECTION_POOL_SIZE);
+        // The scan never has more than maxConcurrency queries in flight, so it needs no more connections than that.
+        builder.maxConnectionPoolSize(maxConcurrency);
+        builder.minConnectionPoolSize(1);
         if (useIam) {
             builder.channelizer(SigV4WebSocketChannelizer.class);
         }
@@ -84,9 +86,66 @@ public class SchemaHelperGremlinDataModel {
                                                final MetadataCache.PathType pathType,
                                                final SqlSchemaGrabber.ScanType scanType)
             throws SQLException {
+        return getGraphSchema(endpoint, port, useIAM, useSsl, pathType, scanType, null,
+                SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY, SqlSchemaGrabber.DEFAULT_BATCHED);
+    }
+
+    /**
+     * Function to get the schema of the graph over a cluster opened for the scan, only rescanning property types of
+     * labels that changed since the previous schema.
+     *
+     * @param endpoint       Endpoint of database.
+     * @param port           Port of database.
+     * @param useIAM         Boolean for whether or not to use IAM.
+     * @param useSsl         Boolean for whether or not to use SSL.
+     * @param pathType       Type of path.
+     * @param scanType       Scan type.
+     * @param previousSchema Previous schema of the graph, null to scan every label.
+     * @param maxConcurrency Maximum number of schema queries that run at the same time.
+     * @param batched        Whether to use grouped traversals over many labels instead of queries per label.
+     * @return Graph Schema.
+     * @throws SQLException If graph schema cannot be obtained.
+     */
+    public static GremlinSchema getGraphSchema(final String endpoint, final int port, final boolean useIAM,
+                                               final boolean useSsl,
+                                               final MetadataCache.PathType pathType,
+                                               final SqlSchemaGrabber.ScanType scanType,
+                                               final GremlinSchema previousSchema,
+                                               final int maxConcurrency, final boolean batched)
+            throws SQLException {
         final String adjustedEndpoint = getAdjustedEndpoint(endpoint, pathType);
-        return SqlSchemaGrabber.getSchema(
-                traversal().withRemote(DriverRemoteConnection.using(getClient(adjustedEndpoint, port, useIAM, useSsl))),
-                scanType);
+        final Client client = getClient(adjustedEndpoint, port, useIAM, useSsl, maxConcurrency);
+        try {
+            return SqlSchemaGrabber.getSchema(traversal().withRemote(DriverRemoteConnection.using(client)), scanType,
+                    previousSchema, maxConcurrency, batched);
+        } finally {
+            // Schema scans are repeated by the refresh scheduler, do not leak a cluster per scan.
+            client.getCluster().close();
+        }
+    }
+
+    /**
+     * Function to get the schema of the graph over the shared client of a Gremlin connection, only rescanning property
+     * types of labels that changed since the previous schema.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
+     * @param previousSchema              Previous schema of the graph, null to scan every label.
+     * @return Graph Schema.
+     * @throws SQLException If graph schema cannot be obtained.
+     */
+    public static GremlinSchema getGraphSchema(final GremlinConnectionProperties gremlinConnectionProperties,
+                                               final GremlinSchema previousSchema)
+            throws SQLException {
+        // Hold a reference so the cluster is not evicted as idle in the middle of the scan.
+        GremlinClusterRegistry.retain(gremlinConnectionProperties);
+        try {
+            final Client client = GremlinClusterRegistry.getClient(gremlinConnectionProperties);
+            return SqlSchemaGrabber.getSchema(traversal().withRemote(DriverRemoteConnection.using(client)),
+                    gremlinConnectionProperties.getScanType(), previousSchema,
+                    gremlinConnectionProperties.getSchemaScanConcurrency(),
+                    gremlinConnectionProperties.getSchemaScanBatched());
+        } finally {
+            GremlinClusterRegistry.release(gremlinConnectionProperties);
+        }
     }
 }
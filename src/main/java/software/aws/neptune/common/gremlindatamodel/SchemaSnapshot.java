@@ -0,0 +1,273 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.common.gremlindatamodel;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.Getter;
+import org.apache.calcite.util.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
+import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinEdgeTable;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinProperty;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinVertexTable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializable snapshot of a GremlinSchema, stored as gzipped JSON so a new JVM can start without rescanning the graph.
+ *
+ * Only the discovered properties and edge connections are stored, the generated id columns are added back by the
+ * table constructors when the snapshot is loaded.
+ */
+public class SchemaSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaSnapshot.class);
+    private static final Gson GSON = new Gson();
+    // Version 2 added whether each property type was inferred from a sample.
+    private static final int FORMAT_VERSION = 2;
+    private static final String FILE_SUFFIX = ".schema.json.gz";
+
+    private int version;
+    @Getter
+    private String fingerprint;
+    @Getter
+    private long createdMillis;
+    private List<VertexTableSnapshot> vertices;
+    private List<EdgeTableSnapshot> edges;
+
+    /**
+     * Function to create a snapshot of a schema.
+     *
+     * @param gremlinSchema GremlinSchema to snapshot.
+     * @param fingerprint   Fingerprint of the settings the schema was created with.
+     * @return SchemaSnapshot Object.
+     */
+    public static SchemaSnapshot of(final GremlinSchema gremlinSchema, final String fingerprint) {
+        final SchemaSnapshot snapshot = new SchemaSnapshot();
+        snapshot.version = FORMAT_VERSION;
+        snapshot.fingerprint = fingerprint;
+        snapshot.createdMillis = System.currentTimeMillis();
+        snapshot.vertices = new ArrayList<>();
+        for (final GremlinVertexTable vertex : gremlinSchema.getVertices()) {
+            final Set<String> generated = new HashSet<>();
+            generated.add(vertex.getLabel() + GremlinTableBase.ID);
+            vertex.getInEdges().forEach(edge -> generated.add(edge + GremlinTableBase.IN_ID));
+            vertex.getOutEdges().forEach(edge -> generated.add(edge + GremlinTableBase.OUT_ID));
+            snapshot.vertices.add(new VertexTableSnapshot(vertex.getLabel(),
+                    getProperties(vertex.getColumns(), generated), vertex.getInEdges(), vertex.getOutEdges()));
+        }
+        snapshot.edges = new ArrayList<>();
+        for (final GremlinEdgeTable edge : gremlinSchema.getEdges()) {
+            final Set<String> generated = new HashSet<>();
+            generated.add(edge.getLabel() + GremlinTableBase.ID);
+            final List<List<String>> inOutVertexPairs = new ArrayList<>();
+            for (final Pair<String, String> pair : edge.getInOutVertexPairs()) {
+                generated.add(pair.getKey() + GremlinTableBase.IN_ID);
+                generated.add(pair.getValue() + GremlinTableBase.OUT_ID);
+                inOutVertexPairs.add(Arrays.asList(pair.getKey(), pair.getValue()));
+            }
+            snapshot.edges.add(new EdgeTableSnapshot(edge.getLabel(),
+                    getProperties(edge.getColumns(), generated), inOutVertexPairs));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Function to compute the fingerprint of the settings a schema is created with. A snapshot is only reused when the
+     * fingerprint matches, so changing the scan type, the scan mode or the snapshot format forces a rescan.
+     *
+     * @param endpoint Endpoint of target database.
+     * @param port     Port of target database.
+     * @param pathType Path type.
+     * @param scanType Scan type.
+     * @param batched  Whether the schema is scanned with grouped traversals.
+     * @return Fingerprint String.
+     */
+    public static String fingerprint(final String endpoint, final int port, final MetadataCache.PathType pathType,
+                                     final SqlSchemaGrabber.ScanType scanType, final boolean batched) {
+        return Hashing.sha256().hashString(String.join("|", String.valueOf(FORMAT_VERSION), endpoint,
+                String.valueOf(port), String.valueOf(pathType), String.valueOf(scanType), String.valueOf(batched)),
+                StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Function to get the snapshot file for an endpoint in the given directory.
+     *
+     * @param directory Snapshot directory.
+     * @param endpoint  Endpoint of target database.
+     * @return Path of the snapshot file.
+     */
+    public static Path getSnapshotFile(final Path directory, final String endpoint) {
+        return directory.resolve(endpoint.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX);
+    }
+
+    /**
+     * Function to read a snapshot from a file.
+     *
+     * @param file Snapshot file.
+     * @return SchemaSnapshot Object, or null if the file does not exist or cannot be read.
+     */
+    public static SchemaSnapshot read(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)),
+                StandardCharsets.UTF_8)) {
+            final SchemaSnapshot snapshot = GSON.fromJson(reader, SchemaSnapshot.class);
+            if (snapshot == null || snapshot.version != FORMAT_VERSION
+                    || snapshot.vertices == null || snapshot.edges == null) {
+                LOGGER.info(String.format("Ignoring schema snapshot '%s' with unsupported format.", file));
+                return null;
+            }
+            return snapshot;
+        } catch (final IOException | JsonParseException e) {
+            LOGGER.warn(String.format("Failed to read schema snapshot '%s'.", file), e);
+            return null;
+        }
+    }
+
+    /**
+     * Function to write the snapshot to a file. The file is replaced atomically so concurrent readers never see a
+     * partial snapshot.
+     *
+     * @param file Snapshot file.
+     */
+    public void write(final Path file) {
+        Path temp = null;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            temp = Files.createTempFile(file.toAbsolutePath().getParent(), "schema", ".tmp");
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temp)),
+                    StandardCharsets.UTF_8)) {
+                GSON.toJson(this, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn(String.format("Failed to write schema snapshot '%s'.", file), e);
+        } finally {
+            deleteTemp(temp);
+        }
+    }
+
+    private static void deleteTemp(final Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            // Only still there if the snapshot was not moved into place.
+            Files.deleteIfExists(temp);
+        } catch (final IOException e) {
+            LOGGER.warn(String.format("Failed to delete temporary schema snapshot '%s'.", temp), e);
+        }
+    }
+
+    /**
+     * Function to check if the snapshot is older than the time to live.
+     *
+     * @param ttlMillis Time to live in milliseconds.
+     * @return True if the snapshot is expired, false otherwise.
+     */
+    public boolean isExpired(final long ttlMillis) {
+        return (System.currentTimeMillis() - createdMillis) >= ttlMillis;
+    }
+
+    /**
+     * Function to convert the snapshot back into a GremlinSchema.
+     *
+     * @return GremlinSchema Object.
+     */
+    public GremlinSchema toGremlinSchema() {
+        final List<GremlinVertexTable> vertexTables = new ArrayList<>();
+        for (final VertexTableSnapshot vertex : vertices) {
+            vertexTables.add(new GremlinVertexTable(vertex.label, toGremlinProperties(vertex.properties),
+                    new ArrayList<>(vertex.inEdges), new ArrayList<>(vertex.outEdges)));
+        }
+        final List<GremlinEdgeTable> edgeTables = new ArrayList<>();
+        for (final EdgeTableSnapshot edge : edges) {
+            final List<Pair<String, String>> inOutVertexPairs = new ArrayList<>();
+            edge.inOutVertexPairs.forEach(pair -> inOutVertexPairs.add(new Pair<>(pair.get(0), pair.get(1))));
+            edgeTables.add(new GremlinEdgeTable(edge.label, toGremlinProperties(edge.properties), inOutVertexPairs));
+        }
+        return new GremlinSchema(vertexTables, edgeTables);
+    }
+
+    private static List<List<String>> getProperties(final Map<String, GremlinProperty> columns,
+                                                    final Set<String> generated) {
+        final List<List<String>> properties = new ArrayList<>();
+        for (final GremlinProperty property : columns.values()) {
+            if (!generated.contains(property.getName())) {
+                properties.add(Arrays.asList(property.getName(), property.getType(),
+                        String.valueOf(property.isSampled())));
+            }
+        }
+        return properties;
+    }
+
+    private static List<GremlinProperty> toGremlinProperties(final List<List<String>> properties) {
+        final List<GremlinProperty> gremlinProperties = new ArrayList<>();
+        properties.forEach(property -> gremlinProperties.add(new GremlinProperty(property.get(0), property.get(1),
+                property.size() > 2 && Boolean.parseBoolean(property.get(2)))));
+        return gremlinProperties;
+    }
+
+    private static class VertexTableSnapshot {
+        private final String label;
+        private final List<List<String>> properties;
+        private final List<String> inEdges;
+        private final List<String> outEdges;
+
+        VertexTableSnapshot(final String label, final List<List<String>> properties, final List<String> inEdges,
+                            final List<String> outEdges) {
+            this.label = label;
+            this.properties = properties;
+            this.inEdges = inEdges;
+            this.outEdges = outEdges;
+        }
+    }
+
+    private static class EdgeTableSnapshot {
+        private final String label;
+        private final List<List<String>> properties;
+        private final List<List<String>> inOutVertexPairs;
+
+        EdgeTableSnapshot(final String label, final List<List<String>> properties,
+                          final List<List<String>> inOutVertexPairs) {
+            this.label = label;
+            this.properties = properties;
+            this.inOutVertexPairs = inOutVertexPairs;
+        }
+    }
+}
@@ -181,6 +181,9 @@ public abstract class ResultSetGetColumns extends ResultSet
                 map.put("SQL_DATA_TYPE", jdbcType);
 
                 map.put("COLUMN_NAME", property.getKey());
+                if (property.getValue().isSampled()) {
+                    map.put("REMARKS", "Type inferred from a sample of the property values.");
+                }
                 map.put("NULLABLE", DatabaseMetaData.columnNullable);
                 map.put("IS_NULLABLE", "YES");
 
@@ -0,0 +1,275 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of Gremlin clusters and clients, keyed by connection properties.
+ *
+ * Connections with the same properties share one cluster and client, which stay open while any connection holds a
+ * reference. Once the last reference is released the cluster is kept warm for an idle period before it is closed.
+ * Clusters are created and closed outside of the registry lock, so that a slow endpoint only holds up the connections
+ * waiting for its own cluster.
+ */
+public final class GremlinClusterRegistry {
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinClusterRegistry.class);
+    private static final Object LOCK = new Object();
+    private static final Map<Map<Object, Object>, ClusterEntry> CLUSTERS = new HashMap<>();
+    private static long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private static ScheduledExecutorService evictionExecutor = null;
+
+    private GremlinClusterRegistry() {
+    }
+
+    /**
+     * Function to take a reference on the cluster for the given properties, keeping it open until released.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
+     */
+    public static void retain(final GremlinConnectionProperties gremlinConnectionProperties) {
+        synchronized (LOCK) {
+            getEntry(gremlinConnectionProperties).referenceCount++;
+        }
+    }
+
+    /**
+     * Function to release a reference on the cluster for the given properties.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
+     */
+    public static void release(final GremlinConnectionProperties gremlinConnectionProperties) {
+        synchronized (LOCK) {
+            final ClusterEntry entry = CLUSTERS.get(getKey(gremlinConnectionProperties));
+            if (entry == null || entry.referenceCount == 0) {
+                return;
+            }
+            if (--entry.referenceCount == 0) {
+                entry.idleSinceMillis = System.currentTimeMillis();
+                scheduleEviction();
+            }
+        }
+    }
+
+    /**
+     * Function to get the shared client for the given properties, creating the cluster if it is not open yet.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
+     * @return Initialized Client.
+     * @throws SQLException if the cluster cannot be created from the properties.
+     */
+    public static Client getClient(final GremlinConnectionProperties gremlinConnectionProperties)
+            throws SQLException {
+        final ClusterEntry entry;
+        final CompletableFuture<Client> client;
+        Cluster downCluster = null;
+        Client downClient = null;
+        boolean create = false;
+        synchronized (LOCK) {
+            entry = getEntry(gremlinConnectionProperties);
+            if (entry.cluster != null && entry.cluster.availableHosts().isEmpty()) {
+                // All hosts went down while the cluster was kept open, start over instead of waiting for reconnects.
+                LOGGER.info("No available hosts in cached Gremlin cluster, recreating it.");
+                downCluster = entry.cluster;
+                downClient = entry.client.getNow(null);
+                entry.cluster = null;
+                entry.client = null;
+            }
+            if (entry.client == null) {
+                // Other connections for the same properties wait on the future instead of creating a cluster too.
+                entry.client = new CompletableFuture<>();
+                create = true;
+            } else {
+                entry.reuseCount++;
+            }
+            if (entry.referenceCount == 0) {
+                // Used without a connection holding a reference, let it be evicted once idle.
+                entry.idleSinceMillis = System.currentTimeMillis();
+                if (entry.reuseCount == 0) {
+                    scheduleEviction();
+                }
+            }
+            client = entry.client;
+        }
+        close(downCluster, downClient);
+        if (create) {
+            createClient(gremlinConnectionProperties, entry, client);
+        }
+        try {
+            return client.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.CONNECTION_FAILURE,
+                    SqlError.CONN_FAILED, e.getCause());
+        }
+    }
+
+    private static void createClient(final GremlinConnectionProperties gremlinConnectionProperties,
+                                     final ClusterEntry entry, final CompletableFuture<Client> client) {
+        Cluster cluster = null;
+        try {
+            cluster = GremlinQueryExecutor.createClusterBuilder(gremlinConnectionProperties).create();
+            final Client newClient = cluster.connect().init();
+            synchronized (LOCK) {
+                entry.cluster = cluster;
+            }
+            client.complete(newClient);
+        } catch (final SQLException | RuntimeException e) {
+            close(cluster, null);
+            synchronized (LOCK) {
+                // Let the next call try again.
+                if (entry.client == client) {
+                    entry.client = null;
+                }
+            }
+            client.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Function to get the number of times the client for the given properties was reused instead of created.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
+     * @return Reuse count, 0 if there is no cluster for the properties.
+     */
+    public static long getReuseCount(final GremlinConnectionProperties gremlinConnectionProperties) {
+        synchronized (LOCK) {
+            final ClusterEntry entry = CLUSTERS.get(getKey(gremlinConnectionProperties));
+            return (entry == null) ? 0 : entry.reuseCount;
+        }
+    }
+
+    /**
+     * Function to get the number of clusters in the registry.
+     *
+     * @return Number of clusters.
+     */
+    public static int size() {
+        synchronized (LOCK) {
+            return CLUSTERS.size();
+        }
+    }
+
+    /**
+     * Function to set how long an unreferenced cluster is kept open.
+     *
+     * @param idleTimeout Idle timeout in milliseconds.
+     */
+    public static void setIdleTimeoutMillis(final long idleTimeout) {
+        synchronized (LOCK) {
+            idleTimeoutMillis = idleTimeout;
+        }
+    }
+
+    /**
+     * Function to close every unreferenced cluster that has been idle for longer than the idle timeout.
+     */
+    public static void evictIdle() {
+        final List<ClusterEntry> evicted = new ArrayList<>();
+        synchronized (LOCK) {
+            final long now = System.currentTimeMillis();
+            boolean idleRemaining = false;
+            final Iterator<ClusterEntry> iterator = CLUSTERS.values().iterator();
+            while (iterator.hasNext()) {
+                final ClusterEntry entry = iterator.next();
+                if (entry.referenceCount == 0) {
+                    final boolean creating = entry.client != null && !entry.client.isDone();
+                    if (!creating && (now - entry.idleSinceMillis) >= idleTimeoutMillis) {
+                        evicted.add(entry);
+                        iterator.remove();
+                    } else {
+                        idleRemaining = true;
+                    }
+                }
+            }
+            if (idleRemaining) {
+                // Entries that were used again since eviction was scheduled are checked once their idle time is up.
+                scheduleEviction();
+            } else if (CLUSTERS.isEmpty() && evictionExecutor != null) {
+                evictionExecutor.shutdown();
+                evictionExecutor = null;
+            }
+        }
+        for (final ClusterEntry entry : evicted) {
+            close(entry.cluster, (entry.client == null) ? null : entry.client.getNow(null));
+        }
+    }
+
+    private static Map<Object, Object> getKey(final GremlinConnectionProperties gremlinConnectionProperties) {
+        return ImmutableMap.copyOf(gremlinConnectionProperties.getProperties());
+    }
+
+    private static ClusterEntry getEntry(final GremlinConnectionProperties gremlinConnectionProperties) {
+        return CLUSTERS.computeIfAbsent(getKey(gremlinConnectionProperties), key -> new ClusterEntry());
+    }
+
+    private static void close(final Cluster cluster, final Client client) {
+        try {
+            if (client != null) {
+                client.close();
+            }
+            if (cluster != null) {
+                cluster.close();
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to close idle Gremlin cluster.", e);
+        }
+    }
+
+    private static void scheduleEviction() {
+        if (evictionExecutor == null) {
+            evictionExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("gremlin-cluster-eviction-%d").setDaemon(true).build());
+        }
+        evictionExecutor.schedule(GremlinClusterRegistry::evictIdle, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static class ClusterEntry {
+        // Set once the client is connected, while the future is pending the cluster is being created.
+        private Cluster cluster = null;
+        private CompletableFuture<Client> client = null;
+        private int referenceCount = 0;
+        private long reuseCount = 0;
+        private long idleSinceMillis = 0;
+    }
+}
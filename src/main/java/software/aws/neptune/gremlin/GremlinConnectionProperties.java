@@ -76,10 +76,12 @@ public class GremlinConnectionProperties extends ConnectionProperties {
     public static final String VALIDATION_REQUEST_KEY = "validationRequest";
     public static final String RECONNECT_INTERVAL_KEY = "reconnectInterval";
     public static final String LOAD_BALANCING_STRATEGY_KEY = "loadBalancingStrategy";
+    public static final String SQL_IMPLICIT_ORDER_KEY = "sqlImplicitOrder";
     public static final String DEFAULT_PATH = "/gremlin";
     public static final int DEFAULT_PORT = 8182;
     public static final boolean DEFAULT_ENABLE_SSL = true;
     public static final boolean DEFAULT_SSL_SKIP_VALIDATION = false;
+    public static final boolean DEFAULT_SQL_IMPLICIT_ORDER = true;
     public static final Serializers DEFAULT_SERIALIZER = Serializers.GRAPHBINARY_V1D0;
     public static final Map<String, Object> DEFAULT_PROPERTIES_MAP = new HashMap<>();
     private static final List<String> SUPPORTED_PROPERTIES_LIST = ImmutableList.<String>builder()
@@ -115,6 +117,7 @@ public class GremlinConnectionProperties extends ConnectionProperties {
             .add(VALIDATION_REQUEST_KEY)
             .add(RECONNECT_INTERVAL_KEY)
             .add(LOAD_BALANCING_STRATEGY_KEY)
+            .add(SQL_IMPLICIT_ORDER_KEY)
             .build();
     private static final Map<String, ConnectionProperties.PropertyConverter<?>> PROPERTY_CONVERTER_MAP =
             new HashMap<>();
@@ -140,6 +143,7 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         PROPERTY_CONVERTER_MAP.put(MAX_CONTENT_LENGTH_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(RECONNECT_INTERVAL_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(SSL_SKIP_VALIDATION_KEY, ConnectionProperties::toBoolean);
+        PROPERTY_CONVERTER_MAP.put(SQL_IMPLICIT_ORDER_KEY, ConnectionProperties::toBoolean);
     }
 
     static {
@@ -149,6 +153,7 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         DEFAULT_PROPERTIES_MAP.put(ENABLE_SSL_KEY, DEFAULT_ENABLE_SSL);
         DEFAULT_PROPERTIES_MAP.put(SSL_SKIP_VALIDATION_KEY, DEFAULT_SSL_SKIP_VALIDATION);
         DEFAULT_PROPERTIES_MAP.put(SERIALIZER_KEY, DEFAULT_SERIALIZER);
+        DEFAULT_PROPERTIES_MAP.put(SQL_IMPLICIT_ORDER_KEY, DEFAULT_SQL_IMPLICIT_ORDER);
         // Set to maximum value by default. Apparently max value is 1 GB.
         // https://stackoverflow.com/questions/58055662/aws-neptune-io-netty-handler-codec-corruptedframeexception
         DEFAULT_PROPERTIES_MAP.put(MAX_CONTENT_LENGTH_KEY, 1024 * 1024 * 1024);
@@ -1092,6 +1097,25 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         put(LOAD_BALANCING_STRATEGY_KEY, strategy);
     }
 
+    /**
+     * Gets whether SQL queries without an ORDER BY are sorted by element id.
+     *
+     * @return The SQL implicit order flag.
+     */
+    public boolean getSqlImplicitOrder() {
+        return (boolean) get(SQL_IMPLICIT_ORDER_KEY);
+    }
+
+    /**
+     * Sets whether SQL queries without an ORDER BY are sorted by element id. Without the sort, rows are streamed in
+     * the order the database returns them.
+     *
+     * @param sqlImplicitOrder The SQL implicit order flag.
+     */
+    public void setSqlImplicitOrder(final boolean sqlImplicitOrder) {
+        put(SQL_IMPLICIT_ORDER_KEY, sqlImplicitOrder);
+    }
+
     /**
      * Validate the supported properties.
      */
@@ -20,6 +20,7 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.RequestOptions;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.driver.SigV4WebSocketChannelizer;
 import org.slf4j.Logger;
@@ -32,7 +33,9 @@ import software.aws.neptune.gremlin.resultset.GremlinResultSetGetSchemas;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTableTypes;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTables;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTypeInfo;
+import software.aws.neptune.gremlin.resultset.GremlinRowBuffer;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
@@ -41,11 +44,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -54,12 +60,12 @@ import java.util.stream.Collectors;
  */
 public class GremlinQueryExecutor extends QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinQueryExecutor.class);
-    private static final Object CLUSTER_LOCK = new Object();
-    private static Cluster cluster = null;
-    private static GremlinConnectionProperties previousGremlinConnectionProperties = null;
+    // Parameters of prepared queries are bound to the script as _p1, _p2, ...
+    private static final String BINDING_PREFIX = "_p";
     private final Object completableFutureLock = new Object();
     private final GremlinConnectionProperties gremlinConnectionProperties;
     private CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> completableFuture;
+    private CompletableFuture<List<Result>> resultsFuture;
 
     /**
      * GremlinQueryExecutor constructor.
@@ -193,34 +199,18 @@ public class GremlinQueryExecutor extends QueryExecutor {
         return builder;
     }
 
-    protected static Cluster getCluster(final GremlinConnectionProperties gremlinConnectionProperties)
-            throws SQLException {
-        if (cluster == null ||
-                !propertiesEqual(previousGremlinConnectionProperties, gremlinConnectionProperties)) {
-            previousGremlinConnectionProperties = gremlinConnectionProperties;
-            return createClusterBuilder(gremlinConnectionProperties).create();
-        }
-        return cluster;
-    }
-
     /**
-     * Function to close down the cluster.
+     * Function to release the connection's reference on its cluster, the cluster is closed once it is idle.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
      */
-    public static void close() {
-        synchronized (CLUSTER_LOCK) {
-            if (cluster != null) {
-                cluster.close();
-                cluster = null;
-            }
-        }
+    public static void close(final GremlinConnectionProperties gremlinConnectionProperties) {
+        GremlinClusterRegistry.release(gremlinConnectionProperties);
     }
 
     protected static Client getClient(final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
-        synchronized (CLUSTER_LOCK) {
-            cluster = getCluster(gremlinConnectionProperties);
-            return cluster.connect().init();
-        }
+        return GremlinClusterRegistry.getClient(gremlinConnectionProperties);
     }
 
     /**
@@ -276,17 +266,61 @@ public class GremlinQueryExecutor extends QueryExecutor {
     @Override
     public ResultSet executeQuery(final String sql, final Statement statement) throws SQLException {
         LOGGER.info("GremlinQueryExecutor executeQuery");
-        final Constructor<?> constructor;
+        return runCancellableQuery(getResultSetConstructor(), statement, sql);
+    }
+
+    @Override
+    public PreparedQuery prepareQuery(final String sql) {
+        return PreparedQuery.parse(sql, PreparedQuery.Syntax.GROOVY);
+    }
+
+    /**
+     * Function to execute a prepared query, its parameters are sent as bindings of the script so the server compiles
+     * the script once for all values of the parameters.
+     *
+     * @param query      Prepared query to execute.
+     * @param parameters Values of the parameters, by index starting at 1.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if a parameter is not set, query execution fails, or it was cancelled.
+     */
+    @Override
+    public ResultSet executeQuery(final PreparedQuery query, final Map<Integer, Object> parameters,
+                                  final Statement statement) throws SQLException {
+        LOGGER.info("GremlinQueryExecutor executeQuery");
+        final Map<String, Object> bindings = query.getParameters(parameters, BINDING_PREFIX);
+        // The serializers write java.util.Date, not the java.sql date and time types derived from it.
+        bindings.replaceAll((name, value) -> (value instanceof java.util.Date)
+                ? new java.util.Date(((java.util.Date) value).getTime())
+                : value);
+        return runCancellableQuery(getResultSetConstructor(), statement, query.getQuery(BINDING_PREFIX), bindings);
+    }
+
+    /**
+     * Function to execute query without blocking the calling thread, using the asynchronous Gremlin client.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return Future completed with the java.sql.ResultSet of the query, cancelling it cancels the query.
+     * @throws SQLException if the query cannot be started.
+     */
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql, final Statement statement)
+            throws SQLException {
+        LOGGER.info("GremlinQueryExecutor executeQueryAsync");
+        return runCancellableQueryAsync(getResultSetConstructor(), statement, sql);
+    }
+
+    private Constructor<?> getResultSetConstructor() throws SQLException {
         try {
-            constructor = GremlinResultSet.class
-                    .getConstructor(java.sql.Statement.class, GremlinResultSet.ResultSetInfoWithRows.class);
+            return GremlinResultSet.class.getConstructor(java.sql.Statement.class, getResultSetInfoClass(
+                    GremlinResultSet.ResultSetInfoWithStream.class, GremlinResultSet.ResultSetInfoWithRows.class));
         } catch (final NoSuchMethodException e) {
             throw SqlError.createSQLException(
                     LOGGER,
                     SqlState.INVALID_QUERY_EXPRESSION,
                     SqlError.QUERY_FAILED, e);
         }
-        return runCancellableQuery(constructor, statement, sql);
     }
 
     /**
@@ -389,64 +423,166 @@ public class GremlinQueryExecutor extends QueryExecutor {
         return new GremlinResultSetGetTypeInfo(statement);
     }
 
+    @Override
+    protected <T> T runQuery(final String query) throws SQLException {
+        return getQueryResult(submit(query, Collections.emptyMap()));
+    }
+
+    @Override
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        if (parameters.isEmpty()) {
+            return runQuery(query);
+        }
+        return getQueryResult(submit(query, parameters));
+    }
+
     @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private <T> T getQueryResult(final CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submitted)
+            throws SQLException {
+        final org.apache.tinkerpop.gremlin.driver.ResultSet resultSet = submitted.get();
+        if (isFetchSizeSet()) {
+            return (T) getStreamedResultSetInfo(resultSet);
+        }
+        return (T) getResultSetInfo(getAllResults(resultSet).get());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
-    protected <T> T runQuery(final String query) throws SQLException {
+    protected <T> CompletableFuture<T> runQueryAsync(final String query) throws SQLException {
+        if (isFetchSizeSet()) {
+            // Streamed results are read from a blocking iterator, starting with the first batch.
+            return super.runQueryAsync(query);
+        }
+        return submit(query, Collections.emptyMap())
+                .thenCompose(this::getAllResults)
+                .thenApply(results -> {
+                    try {
+                        return (T) getResultSetInfo(results);
+                    } catch (final SQLException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    private CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submit(
+            final String query, final Map<String, Object> bindings) throws SQLException {
         final Client client = getClient(gremlinConnectionProperties);
+        synchronized (completableFutureLock) {
+            if (!isQueryTimeoutSet() && bindings.isEmpty()) {
+                completableFuture = client.submitAsync(query);
+                return completableFuture;
+            }
+            final RequestOptions.Builder options = RequestOptions.build();
+            if (isQueryTimeoutSet()) {
+                // The query timeout becomes the evaluation timeout of the request, so the server stops the query.
+                options.timeout(getQueryTimeoutMillis());
+            }
+            bindings.forEach(options::addParameter);
+            completableFuture = client.submitAsync(query, options.create());
+            return completableFuture;
+        }
+    }
 
+    private CompletableFuture<List<Result>> getAllResults(
+            final org.apache.tinkerpop.gremlin.driver.ResultSet resultSet) {
+        final CompletableFuture<List<Result>> allResults = resultSet.all();
         synchronized (completableFutureLock) {
-            completableFuture = client.submitAsync(query);
+            resultsFuture = allResults;
+        }
+        return allResults;
+    }
+
+    private GremlinResultSet.ResultSetInfoWithRows getResultSetInfo(final List<Result> results)
+            throws SQLException {
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
+        final Map<String, Class<?>> columns = new HashMap<>();
+        addResults(results.stream().map(Result::getObject).collect(Collectors.toList()), rows, columns, false);
+
+        final List<String> listColumns = new ArrayList<>(columns.keySet());
+        return new GremlinResultSet.ResultSetInfoWithRows(rows, columns, listColumns);
+    }
+
+    /**
+     * Function to read the first batch of a streamed query and discover the columns from it.
+     *
+     * @param resultSet Gremlin driver ResultSet to stream from.
+     * @return ResultSetInfoWithStream with the first batch of rows and the remaining results.
+     * @throws SQLException if a result cannot be converted to a row.
+     */
+    private GremlinResultSet.ResultSetInfoWithStream getStreamedResultSetInfo(
+            final org.apache.tinkerpop.gremlin.driver.ResultSet resultSet) throws SQLException {
+        final Iterator<Result> resultIterator = resultSet.iterator();
+        final List<Object> prefix = new ArrayList<>();
+        while (prefix.size() < getFetchSize() && resultIterator.hasNext()) {
+            prefix.add(resultIterator.next().getObject());
         }
 
-        final List<Result> results = completableFuture.get().all().get();
-        final List<Map<String, Object>> rows = new ArrayList<>();
+        // Columns are discovered from the first batch only, anything that shows up later is bounded by them.
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
         final Map<String, Class<?>> columns = new HashMap<>();
+        final String scalarColumn = addResults(prefix, rows, columns, true);
+
+        final List<String> listColumns = new ArrayList<>(columns.keySet());
+        return new GremlinResultSet.ResultSetInfoWithStream(rows, resultIterator, getFetchSize(), scalarColumn,
+                columns, listColumns);
+    }
+
+    /**
+     * Function to convert Gremlin results to rows and collect their columns.
+     *
+     * @param results            Results to convert.
+     * @param rows               Buffer of rows to add the converted results to.
+     * @param columns            Map of columns to their types, widened as values of other types are found.
+     * @param singleScalarColumn If true all scalar results share one generated column, whose type is widened across
+     *                           them, otherwise each scalar gets its own column typed by its value.
+     * @return The generated scalar column key, or null if no scalar results were found.
+     * @throws SQLException if no more scalar column keys can be generated.
+     */
+    private String addResults(final List<Object> results, final GremlinRowBuffer rows,
+                              final Map<String, Class<?>> columns, final boolean singleScalarColumn)
+            throws SQLException {
         long unnamedColumnIndex = 0L;
-        for (final Object result : results.stream().map(Result::getObject).collect(Collectors.toList())) {
+        String scalarColumn = null;
+        for (final Object result : results) {
             if (result instanceof LinkedHashMap) {
                 // We don't know key or value types, so pull it out raw.
                 final Map<?, ?> uncastedRow = (LinkedHashMap<?, ?>) result;
+                rows.addRow();
 
-                // Convert generic key types to string and insert in new map with corresponding value.
-                final Map<String, Object> row = new HashMap<>();
-                uncastedRow.forEach((key, value) -> row.put(key.toString(), value));
-
-                // Add row to List of rows.
-                rows.add(row);
-
-                // Get columns from row and put in columns List if they aren't already in there.
-                for (final String key : row.keySet()) {
-                    if (!columns.containsKey(key)) {
-                        final Object value = row.get(key);
-                        if (GremlinTypeMapping.checkContains(value.getClass())) {
-                            columns.put(key, value.getClass());
-                        } else {
-                            columns.put(key, String.class);
-                        }
-                    } else if (columns.get(key) != row.get(key)) {
-                        columns.put(key, String.class);
+                // Convert generic key types to string and add the values to the row, widening the column types.
+                for (final Map.Entry<?, ?> entry : uncastedRow.entrySet()) {
+                    final String key = entry.getKey().toString();
+                    final Object value = entry.getValue();
+                    rows.set(key, value);
+                    if (value != null) {
+                        columns.merge(key, GremlinTypeMapping.getColumnClass(value.getClass()),
+                                GremlinTypeMapping::getWidenedClass);
+                    } else {
+                        // Typed by the first value found, if any.
+                        columns.putIfAbsent(key, null);
                     }
                 }
             } else if (GremlinTypeMapping.checkContains(result.getClass())) {
                 // Result is scalar - generate a new key for the column
-                unnamedColumnIndex = findNextValidColumnIndex(columns, unnamedColumnIndex);
-                final String key = generateColumnKey(unnamedColumnIndex);
-                columns.put(key, result.getClass());
+                if (!singleScalarColumn || scalarColumn == null) {
+                    unnamedColumnIndex = findNextValidColumnIndex(columns, unnamedColumnIndex);
+                    scalarColumn = generateColumnKey(unnamedColumnIndex);
+                }
+                columns.merge(scalarColumn, result.getClass(), GremlinTypeMapping::getWidenedClass);
 
                 // Create and add new row with generated key
-                final Map<String, Object> row = new HashMap<>();
-                row.put(key, result);
-                rows.add(row);
+                rows.addRow();
+                rows.set(scalarColumn, result);
             } else {
                 // If not a map nor scalar best way to handle it seems to be to issue a warning.
                 LOGGER.warn(String.format("Result of type '%s' is not convertible to a Map or Scalar of supported type and will be skipped.",
                         result.getClass().getCanonicalName()));
             }
         }
-
-        final List<String> listColumns = new ArrayList<>(columns.keySet());
-        return (T) new GremlinResultSet.ResultSetInfoWithRows(rows, columns, listColumns);
+        // Columns that only had null values.
+        columns.replaceAll((key, type) -> (type == null) ? String.class : type);
+        return scalarColumn;
     }
 
     @Override
@@ -455,6 +591,10 @@ public class GremlinQueryExecutor extends QueryExecutor {
             if (completableFuture != null && !completableFuture.isDone()) {
                 completableFuture.cancel(true);
             }
+            // The request may have been accepted already, stop waiting for the rest of its results too.
+            if (resultsFuture != null && !resultsFuture.isDone()) {
+                resultsFuture.cancel(true);
+            }
         }
     }
 
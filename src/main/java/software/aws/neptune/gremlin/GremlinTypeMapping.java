@@ -16,10 +16,12 @@
 
 package software.aws.neptune.gremlin;
 
+import com.google.common.collect.ImmutableList;
 import software.aws.neptune.jdbc.utilities.JdbcType;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +29,9 @@ import java.util.Map;
  */
 public class GremlinTypeMapping {
     public static final Map<Class<?>, JdbcType> GREMLIN_TO_JDBC_TYPE_MAP = new HashMap<>();
+    // Numeric classes from narrowest to widest, in the order the SQL schema widens property types.
+    private static final List<Class<?>> NUMERIC_CLASSES =
+            ImmutableList.of(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
 
     static {
         GREMLIN_TO_JDBC_TYPE_MAP.put(String.class, JdbcType.VARCHAR);
@@ -63,4 +68,61 @@ public class GremlinTypeMapping {
     public static boolean checkContains(final Class<?> gremlinClass) {
         return GREMLIN_TO_JDBC_TYPE_MAP.containsKey(gremlinClass);
     }
+
+    /**
+     * Function to get the class of a column from the class of one of its values.
+     *
+     * @param valueClass Class of the value.
+     * @return The class itself if Gremlin has a direct converter for it, String otherwise.
+     */
+    public static Class<?> getColumnClass(final Class<?> valueClass) {
+        return checkContains(valueClass) ? valueClass : String.class;
+    }
+
+    /**
+     * Function to get the class of a column holding values of two column classes.
+     *
+     * @param first  First column class.
+     * @param second Second column class.
+     * @return The wider of the two if both are numeric, the class itself if they are the same, String otherwise.
+     */
+    public static Class<?> getWidenedClass(final Class<?> first, final Class<?> second) {
+        if (first == second) {
+            return first;
+        }
+        final int firstRank = NUMERIC_CLASSES.indexOf(first);
+        final int secondRank = NUMERIC_CLASSES.indexOf(second);
+        if (firstRank >= 0 && secondRank >= 0) {
+            return NUMERIC_CLASSES.get(Math.max(firstRank, secondRank));
+        }
+        return String.class;
+    }
+
+    /**
+     * Function to convert a numeric value to the class of its column if the column was widened to a wider class.
+     *
+     * @param value       Value to convert.
+     * @param columnClass Class of the column.
+     * @return Value of the column class, or the value itself if it is not numeric or not narrower than the column.
+     */
+    public static Object widenValue(final Object value, final Class<?> columnClass) {
+        if (value.getClass() == columnClass) {
+            return value;
+        }
+        final int valueRank = NUMERIC_CLASSES.indexOf(value.getClass());
+        if (valueRank < 0 || valueRank >= NUMERIC_CLASSES.indexOf(columnClass)) {
+            return value;
+        }
+        final Number number = (Number) value;
+        if (columnClass == Double.class) {
+            return number.doubleValue();
+        } else if (columnClass == Float.class) {
+            return number.floatValue();
+        } else if (columnClass == Long.class) {
+            return number.longValue();
+        } else if (columnClass == Integer.class) {
+            return number.intValue();
+        }
+        return number.shortValue();
+    }
 }
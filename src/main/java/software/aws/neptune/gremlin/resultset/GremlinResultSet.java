@@ -18,6 +18,7 @@ package software.aws.neptune.gremlin.resultset;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.apache.tinkerpop.gremlin.driver.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.common.ResultSetInfoWithoutRows;
@@ -27,8 +28,10 @@ import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,8 +41,15 @@ import java.util.Map;
 public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinResultSet.class);
     private final List<String> columns;
-    private final List<Map<String, Object>> rows;
-    private final Map<String, Class<?>> columnTypes;
+    private final GremlinRowBuffer rows;
+    // Index in rows of each column of the result.
+    private final int[] rowColumns;
+    private final Class<?>[] columnClasses;
+    // Only set when streaming, in which case rows holds the current batch.
+    private final Iterator<Result> resultIterator;
+    private final String scalarColumn;
+    private int fetchSize;
+    private int batchIndex = -1;
     private boolean wasNull = false;
 
     /**
@@ -52,7 +62,29 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRows().size());
         this.columns = resultSetInfo.getColumns();
         this.rows = resultSetInfo.getRows();
-        this.columnTypes = resultSetInfo.getColumnsTypes();
+        this.rowColumns = getRowColumns(rows, columns);
+        this.columnClasses = getColumnClasses(resultSetInfo.getColumnsTypes(), columns);
+        this.resultIterator = null;
+        this.scalarColumn = null;
+        this.fetchSize = 0;
+    }
+
+    /**
+     * GremlinResultSet constructor, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public GremlinResultSet(final java.sql.Statement statement, final ResultSetInfoWithStream resultSetInfo) {
+        // 1 for row count as placeholder, the number of rows is not known until the stream is exhausted.
+        super(statement, resultSetInfo.getColumns(), 1);
+        this.columns = resultSetInfo.getColumns();
+        this.rows = resultSetInfo.getRows();
+        this.rowColumns = getRowColumns(rows, columns);
+        this.columnClasses = getColumnClasses(resultSetInfo.getColumnsTypes(), columns);
+        this.resultIterator = resultSetInfo.getResultIterator();
+        this.scalarColumn = resultSetInfo.getScalarColumn();
+        this.fetchSize = resultSetInfo.getFetchSize();
     }
 
     /**
@@ -64,12 +96,129 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     public GremlinResultSet(final java.sql.Statement statement, final ResultSetInfoWithoutRows resultSetInfo) {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRowCount());
         this.columns = resultSetInfo.getColumns();
-        this.columnTypes = new HashMap<>();
+        this.columnClasses = getColumnClasses(new HashMap<>(), columns);
         this.rows = null;
+        this.rowColumns = null;
+        this.resultIterator = null;
+        this.scalarColumn = null;
+        this.fetchSize = 0;
+    }
+
+    private static int[] getRowColumns(final GremlinRowBuffer rows, final List<String> columns) {
+        final int[] rowColumns = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            rowColumns[i] = rows.getColumnIndex(columns.get(i));
+        }
+        return rowColumns;
+    }
+
+    private static Class<?>[] getColumnClasses(final Map<String, Class<?>> columnTypes, final List<String> columns) {
+        final Class<?>[] columnClasses = new Class<?>[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            columnClasses[i] = columnTypes.getOrDefault(columns.get(i), String.class);
+        }
+        return columnClasses;
     }
 
     @Override
     protected void doClose() throws SQLException {
+        if (resultIterator != null) {
+            rows.clear();
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (resultIterator == null) {
+            return super.next();
+        }
+        verifyOpen();
+        if (++batchIndex >= rows.size()) {
+            fetchNextBatch();
+        }
+        return moveToNextRow(batchIndex < rows.size());
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        if (resultIterator == null) {
+            return super.isLast();
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        if (resultIterator == null) {
+            return super.isAfterLast();
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        if (resultIterator == null) {
+            return super.absolute(row);
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    protected int getDriverFetchSize() throws SQLException {
+        return fetchSize;
+    }
+
+    @Override
+    protected void setDriverFetchSize(final int rows) {
+        if (resultIterator != null && rows > 0) {
+            this.fetchSize = rows;
+        }
+    }
+
+    /**
+     * Function to replace the current batch with the next fetch size results from the stream.
+     *
+     * @throws SQLException if reading from the stream fails.
+     */
+    private void fetchNextBatch() throws SQLException {
+        // Drop the previous batch so it can be garbage collected while the next one is read.
+        rows.clear();
+        batchIndex = 0;
+        try {
+            while (rows.size() < fetchSize && resultIterator.hasNext()) {
+                addResult(resultIterator.next().getObject());
+            }
+        } catch (final RuntimeException e) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.QUERY_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Function to add a streamed result as a row using the columns discovered from the first batch.
+     *
+     * @param result Result to add, skipped if it cannot be represented as a row.
+     */
+    private void addResult(final Object result) {
+        if (result instanceof LinkedHashMap) {
+            rows.addRow();
+            ((LinkedHashMap<?, ?>) result).forEach((key, value) -> {
+                // Values of columns that were not in the first batch are dropped.
+                final int column = rows.getColumnIndex(key.toString());
+                if (column >= 0) {
+                    rows.set(column, value);
+                }
+            });
+        } else if (scalarColumn != null && GremlinTypeMapping.checkContains(result.getClass())) {
+            rows.addRow();
+            rows.set(rows.getColumnIndex(scalarColumn), result);
+        } else {
+            LOGGER.warn(String.format(
+                    "Result of type '%s' does not match the columns of the result and will be skipped.",
+                    result.getClass().getCanonicalName()));
+        }
     }
 
     @Override
@@ -79,18 +228,19 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
 
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
-        final List<Class<?>> rowTypes = new ArrayList<>();
-        for (final String column : columns) {
-            rowTypes.add(columnTypes.getOrDefault(column, String.class));
-        }
-        return new GremlinResultSetMetadata(columns, rowTypes);
+        return new GremlinResultSetMetadata(columns, Arrays.asList(columnClasses));
     }
 
     protected Object getConvertedValue(final int columnIndex) throws SQLException {
         final Object value = getValue(columnIndex);
-        return (value == null) || GremlinTypeMapping.checkContains(value.getClass())
-                ? value
-                : value.toString();
+        if (value == null) {
+            return null;
+        }
+        if (!GremlinTypeMapping.checkContains(value.getClass())) {
+            return value.toString();
+        }
+        // Numeric values narrower than their column are returned as the column type reported by the metadata.
+        return GremlinTypeMapping.widenValue(value, columnClasses[columnIndex - 1]);
     }
 
     private Object getValue(final int columnIndex) throws SQLException {
@@ -101,16 +251,36 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
                     SqlState.DATA_EXCEPTION,
                     SqlError.UNSUPPORTED_RESULT_SET_TYPE);
         }
-        validateRowColumn(columnIndex);
+        final int row;
+        if (resultIterator == null) {
+            validateRowColumn(columnIndex);
+            row = getRowIndex();
+        } else {
+            validateStreamedRowColumn(columnIndex);
+            row = batchIndex;
+        }
 
-        final String colName = columns.get(columnIndex - 1);
-        final Map<String, Object> row = rows.get(getRowIndex());
-        final Object value = row.getOrDefault(colName, null);
+        final Object value = rows.get(row, rowColumns[columnIndex - 1]);
         wasNull = (value == null);
 
         return value;
     }
 
+    private void validateStreamedRowColumn(final int columnIndex) throws SQLException {
+        if ((batchIndex < 0) || (batchIndex >= rows.size())) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.INVALID_INDEX, batchIndex + 1, rows.size());
+        }
+        if ((columnIndex <= 0) || (columnIndex > columns.size())) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.INVALID_COLUMN_INDEX, columnIndex, columns.size());
+        }
+    }
+
     @Override
     public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
         LOGGER.trace("Getting column {} as an Object using provided Map.", columnIndex);
@@ -121,7 +291,20 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     @AllArgsConstructor
     @Getter
     public static class ResultSetInfoWithRows {
-        private final List<Map<String, Object>> rows;
+        private final GremlinRowBuffer rows;
+        private final Map<String, Class<?>> columnsTypes;
+        private final List<String> columns;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        // First batch of rows, used to discover the columns.
+        private final GremlinRowBuffer rows;
+        private final Iterator<Result> resultIterator;
+        private final int fetchSize;
+        // Column that scalar results are assigned to, null if the first batch had no scalar results.
+        private final String scalarColumn;
         private final Map<String, Class<?>> columnsTypes;
         private final List<String> columns;
     }
@@ -0,0 +1,303 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of a Gremlin result, stored by column.
+ *
+ * Each column keeps its values in an array specialized on the class of its first value: longs for integral values,
+ * doubles for floating point values, booleans, or dictionary codes for strings. A bitmap records which rows have a
+ * value, all other rows are null. Columns of other classes, or with values of more than one class, keep their values
+ * as objects.
+ */
+public class GremlinRowBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+    // Past this many distinct strings the dictionary saves little, so the column keeps its strings as objects instead.
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final List<Column> columns = new ArrayList<>();
+    private int rowCount = 0;
+
+    /**
+     * Function to add a row with no values, values are then set with {@link #set(String, Object)}.
+     */
+    public void addRow() {
+        rowCount++;
+    }
+
+    /**
+     * Function to set a value of the last row, adding the column if it is new.
+     *
+     * @param column Name of the column.
+     * @param value  Value to set. A null value adds the column but leaves the row without a value.
+     */
+    public void set(final String column, final Object value) {
+        Integer index = columnIndexes.get(column);
+        if (index == null) {
+            index = columns.size();
+            columnIndexes.put(column, index);
+            columns.add(new Column());
+        }
+        set(index, value);
+    }
+
+    /**
+     * Function to set a value of the last row.
+     *
+     * @param column Index of the column, from {@link #getColumnIndex(String)}.
+     * @param value  Value to set, null values are skipped.
+     */
+    public void set(final int column, final Object value) {
+        if (value != null) {
+            columns.get(column).set(rowCount - 1, value);
+        }
+    }
+
+    /**
+     * Function to get the index of a column.
+     *
+     * @param column Name of the column.
+     * @return Index of the column, or -1 if the column was never set.
+     */
+    public int getColumnIndex(final String column) {
+        return columnIndexes.getOrDefault(column, -1);
+    }
+
+    /**
+     * Function to get a value.
+     *
+     * @param row    Index of the row.
+     * @param column Index of the column, from {@link #getColumnIndex(String)}.
+     * @return Value, or null if the row has no value for the column.
+     */
+    public Object get(final int row, final int column) {
+        return (column < 0) ? null : columns.get(column).get(row);
+    }
+
+    /**
+     * Function to get the number of rows.
+     *
+     * @return Number of rows.
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Function to remove all rows. Columns and their arrays are kept to be refilled.
+     */
+    public void clear() {
+        rowCount = 0;
+        columns.forEach(Column::clear);
+    }
+
+    private enum Storage {
+        NONE,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        STRING,
+        OBJECT
+    }
+
+    private static class Column {
+        private final BitSet present = new BitSet();
+        private Storage storage = Storage.NONE;
+        private Class<?> valueClass = null;
+        private long[] longs = null;
+        private double[] doubles = null;
+        private boolean[] booleans = null;
+        private int[] codes = null;
+        private Object[] objects = null;
+        private List<String> dictionary = null;
+        private Map<String, Integer> dictionaryCodes = null;
+
+        void set(final int row, final Object value) {
+            if (storage == Storage.NONE) {
+                initialize(value.getClass());
+            } else if (storage != Storage.OBJECT && value.getClass() != valueClass) {
+                toObjects();
+            }
+            ensureCapacity(row + 1);
+            switch (storage) {
+                case LONG:
+                    longs[row] = ((Number) value).longValue();
+                    break;
+                case DOUBLE:
+                    doubles[row] = ((Number) value).doubleValue();
+                    break;
+                case BOOLEAN:
+                    booleans[row] = (Boolean) value;
+                    break;
+                case STRING:
+                    if (!encode(row, (String) value)) {
+                        toObjects();
+                        objects[row] = value;
+                    }
+                    break;
+                default:
+                    objects[row] = value;
+                    break;
+            }
+            present.set(row);
+        }
+
+        Object get(final int row) {
+            if (!present.get(row)) {
+                return null;
+            }
+            switch (storage) {
+                case LONG:
+                    return boxLong(longs[row]);
+                case DOUBLE:
+                    if (valueClass == Float.class) {
+                        return (float) doubles[row];
+                    }
+                    return doubles[row];
+                case BOOLEAN:
+                    return booleans[row];
+                case STRING:
+                    return dictionary.get(codes[row]);
+                default:
+                    return objects[row];
+            }
+        }
+
+        void clear() {
+            present.clear();
+            if (objects != null) {
+                Arrays.fill(objects, null);
+            }
+            if (dictionary != null) {
+                dictionary.clear();
+                dictionaryCodes.clear();
+            }
+        }
+
+        private void initialize(final Class<?> type) {
+            valueClass = type;
+            if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+                storage = Storage.LONG;
+                longs = new long[0];
+            } else if (type == Double.class || type == Float.class) {
+                storage = Storage.DOUBLE;
+                doubles = new double[0];
+            } else if (type == Boolean.class) {
+                storage = Storage.BOOLEAN;
+                booleans = new boolean[0];
+            } else if (type == String.class) {
+                storage = Storage.STRING;
+                codes = new int[0];
+                dictionary = new ArrayList<>();
+                dictionaryCodes = new HashMap<>();
+            } else {
+                storage = Storage.OBJECT;
+                objects = new Object[0];
+            }
+        }
+
+        private Object boxLong(final long value) {
+            if (valueClass == Integer.class) {
+                return (int) value;
+            } else if (valueClass == Short.class) {
+                return (short) value;
+            } else if (valueClass == Byte.class) {
+                return (byte) value;
+            }
+            return value;
+        }
+
+        private boolean encode(final int row, final String value) {
+            Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+                    return false;
+                }
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryCodes.put(value, code);
+            }
+            codes[row] = code;
+            return true;
+        }
+
+        private int capacity() {
+            switch (storage) {
+                case LONG:
+                    return longs.length;
+                case DOUBLE:
+                    return doubles.length;
+                case BOOLEAN:
+                    return booleans.length;
+                case STRING:
+                    return codes.length;
+                case OBJECT:
+                    return objects.length;
+                default:
+                    return 0;
+            }
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            final int capacity = capacity();
+            if (capacity >= minCapacity) {
+                return;
+            }
+            final int newCapacity = Math.max(minCapacity, Math.max(INITIAL_CAPACITY, capacity * 2));
+            switch (storage) {
+                case LONG:
+                    longs = Arrays.copyOf(longs, newCapacity);
+                    break;
+                case DOUBLE:
+                    doubles = Arrays.copyOf(doubles, newCapacity);
+                    break;
+                case BOOLEAN:
+                    booleans = Arrays.copyOf(booleans, newCapacity);
+                    break;
+                case STRING:
+                    codes = Arrays.copyOf(codes, newCapacity);
+                    break;
+                default:
+                    objects = Arrays.copyOf(objects, newCapacity);
+                    break;
+            }
+        }
+
+        private void toObjects() {
+            final Object[] values = new Object[capacity()];
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                values[row] = get(row);
+            }
+            storage = Storage.OBJECT;
+            valueClass = null;
+            objects = values;
+            longs = null;
+            doubles = null;
+            booleans = null;
+            codes = null;
+            dictionary = null;
+            dictionaryCodes = null;
+        }
+    }
+}
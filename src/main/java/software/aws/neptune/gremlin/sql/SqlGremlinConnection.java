@@ -38,7 +38,7 @@ public class SqlGremlinConnection extends GremlinConnection {
 
     @Override
     public void doClose() {
-        SqlGremlinQueryExecutor.close();
+        SqlGremlinQueryExecutor.close(getGremlinConnectionProperties());
     }
 
     @Override
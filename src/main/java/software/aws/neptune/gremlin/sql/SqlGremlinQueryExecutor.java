@@ -17,23 +17,29 @@
 package software.aws.neptune.gremlin.sql;
 
 import lombok.SneakyThrows;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.remote.DriverRemoteConnection;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.twilmes.sql.gremlin.adapter.converter.SqlConverter;
+import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
 import org.twilmes.sql.gremlin.adapter.results.SqlGremlinQueryResult;
 import software.aws.neptune.common.gremlindatamodel.MetadataCache;
 import software.aws.neptune.gremlin.GremlinConnectionProperties;
 import software.aws.neptune.gremlin.GremlinQueryExecutor;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetColumns;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTables;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
 
@@ -42,10 +48,15 @@ import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalS
  */
 public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlGremlinQueryExecutor.class);
-    private static final Object TRAVERSAL_LOCK = new Object();
     private SqlConverter gremlinSqlConverter = null;
-    private static GraphTraversalSource graphTraversalSource = null;
+    private GremlinSchema converterSchema = null;
+    private GraphTraversalSource graphTraversalSource = null;
+    private Client traversalClient = null;
     private final GremlinConnectionProperties gremlinConnectionProperties;
+    private final Object resultLock = new Object();
+    // Result of the last query, its rows keep streaming from the traversal after runQuery returns.
+    private SqlGremlinQueryResult activeResult = null;
+    private boolean cancelRequested = false;
 
     /**
      * Constructor for SqlGremlinQueryExecutor.
@@ -59,40 +70,36 @@ public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
 
     /**
      * Function to release the SqlGremlinQueryExecutor resources.
+     *
+     * @param gremlinConnectionProperties GremlinConnectionProperties of the connection.
      */
-    public static void close() {
-        try {
-            synchronized (TRAVERSAL_LOCK) {
-                if (graphTraversalSource != null) {
-                    graphTraversalSource.close();
-                }
-                graphTraversalSource = null;
-            }
-        } catch (final Exception e) {
-            LOGGER.warn("Failed to close traversal source", e);
-        }
-        GremlinQueryExecutor.close();
+    public static void close(final GremlinConnectionProperties gremlinConnectionProperties) {
+        GremlinQueryExecutor.close(gremlinConnectionProperties);
     }
 
     private GraphTraversalSource getGraphTraversalSource(
             final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
-        synchronized (TRAVERSAL_LOCK) {
-            if (graphTraversalSource == null) {
-                graphTraversalSource =
-                        traversal().withRemote(DriverRemoteConnection.using(getClient(gremlinConnectionProperties)));
-            }
+        // The remote connection wraps the shared client from the cluster registry and does not close it.
+        final Client client = getClient(gremlinConnectionProperties);
+        if (graphTraversalSource == null || client != traversalClient) {
+            traversalClient = client;
+            graphTraversalSource = traversal().withRemote(DriverRemoteConnection.using(client));
         }
         return graphTraversalSource;
-
     }
 
     private SqlConverter getGremlinSqlConverter(final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
         MetadataCache.updateCacheIfNotUpdated(gremlinConnectionProperties);
-        if (gremlinSqlConverter == null) {
-            gremlinSqlConverter = new SqlConverter(MetadataCache.getGremlinSchema(
-                    gremlinConnectionProperties.getContactPoint()));
+        final GremlinSchema gremlinSchema =
+                MetadataCache.getGremlinSchema(gremlinConnectionProperties.getContactPoint());
+        final boolean implicitOrder = gremlinConnectionProperties.getSqlImplicitOrder();
+        if (gremlinSqlConverter == null || gremlinSchema != converterSchema
+                || implicitOrder != gremlinSqlConverter.isImplicitOrder()) {
+            // The schema was refreshed, plans translated against the previous schema are not reused.
+            converterSchema = gremlinSchema;
+            gremlinSqlConverter = new SqlConverter(gremlinSchema, implicitOrder);
         }
         return gremlinSqlConverter;
     }
@@ -166,15 +173,111 @@ public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
         return runCancellableQuery(constructor, statement, sql);
     }
 
+    @Override
+    public PreparedQuery prepareQuery(final String sql) {
+        return PreparedQuery.parse(sql, PreparedQuery.Syntax.SQL);
+    }
+
+    /**
+     * Function to execute a prepared query. SQL is translated to a traversal with its literals inlined, so parameters
+     * are not supported.
+     *
+     * @param query      Prepared query to execute.
+     * @param parameters Values of the parameters, by index starting at 1.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if the query has parameters, query execution fails, or it was cancelled.
+     */
+    @Override
+    public ResultSet executeQuery(final PreparedQuery query, final Map<Integer, Object> parameters,
+                                  final Statement statement) throws SQLException {
+        if (query.getParameterCount() > 0) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.INVALID_QUERY_EXPRESSION,
+                    SqlError.PARAMETERS_NOT_SUPPORTED);
+        }
+        return executeQuery(query.getQuery(), statement);
+    }
+
+    /**
+     * Function to execute query without blocking the calling thread. SQL queries are translated on the shared thread
+     * pool rather than submitted with the asynchronous Gremlin client, their results are paged as usual.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return Future completed with the java.sql.ResultSet of the query, cancelling it cancels the query.
+     * @throws SQLException if too many queries are waiting for the shared thread pool.
+     */
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql, final Statement statement)
+            throws SQLException {
+        return executeQueryOnExecutor(sql, statement);
+    }
+
     @SneakyThrows
     @Override
     @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) {
-        return (T) getGremlinSqlConverter(gremlinConnectionProperties).executeQuery(getGraphTraversalSource(gremlinConnectionProperties), query);
+        synchronized (resultLock) {
+            // Executing a new query closes the result of the previous one.
+            if (activeResult != null) {
+                activeResult.cancel();
+                activeResult = null;
+            }
+            cancelRequested = false;
+        }
+        // Without a fetch size on the statement, results are read in pages of the default size.
+        final int pageSize = isFetchSizeSet() ? getFetchSize() : SqlGremlinQueryResult.DEFAULT_PAGE_SIZE;
+        GraphTraversalSource g = getGraphTraversalSource(gremlinConnectionProperties);
+        if (isQueryTimeoutSet()) {
+            // The query timeout becomes the evaluation timeout of the traversal, so the server stops it as well.
+            g = g.with(Tokens.ARGS_EVAL_TIMEOUT, getQueryTimeoutMillis());
+        }
+        // Results are read on the driver-wide pagination scheduler, which takes turns between connections.
+        final SqlGremlinQueryResult result = getGremlinSqlConverter(gremlinConnectionProperties)
+                .executeQuery(g, query, pageSize, gremlinConnectionProperties);
+        if (isQueryTimeoutSet()) {
+            // Reading the result waits for rows no longer than the query is allowed to run.
+            result.setResultTimeoutMillis(getQueryTimeoutMillis());
+        }
+        synchronized (resultLock) {
+            activeResult = result;
+            if (cancelRequested) {
+                // Cancelled while the query was being translated, stop the pagination that was just started.
+                result.cancel();
+            }
+        }
+        return (T) result;
+    }
+
+    /**
+     * Function to cancel running query. Unlike other query languages, SQL results are read from the traversal while
+     * the result set is consumed, so a query whose results are still streaming can be cancelled as well.
+     *
+     * @param isClosing Whether the statement is being closed.
+     * @throws SQLException if query cancellation fails.
+     */
+    @Override
+    public void cancelQuery(final boolean isClosing) throws SQLException {
+        synchronized (resultLock) {
+            if (activeResult != null && !activeResult.isDone()) {
+                activeResult.cancel();
+                activeResult = null;
+                LOGGER.debug("Cancelled streaming SQL query.");
+                return;
+            }
+        }
+        super.cancelQuery(isClosing);
     }
 
-    // TODO AN-540: Look into query cancellation.
     @Override
     protected void performCancel() {
+        synchronized (resultLock) {
+            cancelRequested = true;
+            if (activeResult != null) {
+                activeResult.cancel();
+            }
+        }
     }
 }
@@ -73,6 +73,8 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
 
     @Override
     protected void doClose() throws SQLException {
+        // Stop the pagination thread, which may be blocked waiting for rows to be consumed.
+        sqlQueryResult.cancel();
     }
 
     @Override
@@ -102,14 +104,13 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
     }
 
     @Override
-    // TODO use fetch size for page size?
     protected int getDriverFetchSize() throws SQLException {
-        return 0;
+        return sqlQueryResult.getPageSize();
     }
 
     @Override
-    // TODO use fetch size for page size?
     protected void setDriverFetchSize(final int rows) {
+        // The page size and the buffer sized from it are fixed when the query starts, use Statement.setFetchSize.
     }
 
     @Override
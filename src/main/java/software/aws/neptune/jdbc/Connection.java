@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.utilities.CastHelper;
 import software.aws.neptune.jdbc.utilities.ConnectionProperties;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
@@ -37,6 +38,7 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -47,11 +49,20 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public abstract class Connection implements java.sql.Connection {
     private static final Logger LOGGER = LoggerFactory.getLogger(Connection.class);
+    private static final int PREPARED_QUERY_CACHE_SIZE = 256;
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
     private final ConnectionProperties connectionProperties;
     private Map<String, Class<?>> typeMap = new HashMap<>();
     private SQLWarning warnings = null;
     private final SshTunnel sshTunnel;
+    // Parsed queries of prepared statements, least recently prepared queries are evicted first.
+    private final Map<String, PreparedQuery> preparedQueries =
+            new LinkedHashMap<String, PreparedQuery>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, PreparedQuery> eldest) {
+                    return size() > PREPARED_QUERY_CACHE_SIZE;
+                }
+            };
 
     protected Connection(@NonNull final ConnectionProperties connectionProperties) throws SQLException {
         this.connectionProperties = connectionProperties;
@@ -492,7 +503,12 @@ public abstract class Connection implements java.sql.Connection {
 
     @Override
     public java.sql.PreparedStatement prepareStatement(final String sql) throws SQLException {
-        return new PreparedStatement(this, sql, getQueryExecutor());
+        final QueryExecutor queryExecutor = getQueryExecutor();
+        final PreparedQuery preparedQuery;
+        synchronized (preparedQueries) {
+            preparedQuery = preparedQueries.computeIfAbsent(sql, queryExecutor::prepareQuery);
+        }
+        return new PreparedStatement(this, preparedQuery, queryExecutor);
     }
 
     @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Neptune extensions of java.sql.Statement, available through {@link java.sql.Statement#unwrap(Class)}.
+ */
+public interface NeptuneStatement extends java.sql.Statement {
+    /**
+     * Executes the given query without blocking the calling thread.
+     *
+     * As with executeQuery, a statement runs one query at a time and its query timeout and fetch size apply.
+     * Cancelling the returned future cancels the query.
+     *
+     * @param sql Query to execute.
+     * @return Future completed with the ResultSet of the query, or with a SQLException if the query fails, times out
+     * or is cancelled.
+     * @throws SQLException if the statement is closed or the query cannot be started.
+     */
+    CompletableFuture<java.sql.ResultSet> executeQueryAsync(String sql) throws SQLException;
+}
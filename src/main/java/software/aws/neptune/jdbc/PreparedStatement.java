@@ -19,8 +19,10 @@ package software.aws.neptune.jdbc;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -40,14 +42,21 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of PreparedStatement for JDBC Driver.
  */
 public class PreparedStatement extends Statement implements java.sql.PreparedStatement {
     private static final Logger LOGGER = LoggerFactory.getLogger(software.aws.neptune.jdbc.Connection.class);
-    private final String sql;
+    private final PreparedQuery preparedQuery;
+    // Values of the ? parameters of the query, by index starting at 1.
+    private final Map<Integer, Object> parameters = new HashMap<>();
     @Getter
     private final QueryExecutor queryExecutor;
     private ResultSet resultSet;
@@ -62,11 +71,40 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
      */
     public PreparedStatement(final Connection connection, final String sql, final QueryExecutor queryExecutor)
             throws SQLException {
+        this(connection, queryExecutor.prepareQuery(sql), queryExecutor);
+    }
+
+    /**
+     * Constructor for seeding the prepared statement with the parent connection and an already parsed query.
+     *
+     * @param connection    The parent connection.
+     * @param preparedQuery The parsed query.
+     * @param queryExecutor The query executor.
+     * @throws SQLException if error occurs when get type map of connection.
+     */
+    public PreparedStatement(final Connection connection, final PreparedQuery preparedQuery,
+                             final QueryExecutor queryExecutor) throws SQLException {
         super(connection, queryExecutor);
-        this.sql = sql;
+        this.preparedQuery = preparedQuery;
         this.queryExecutor = queryExecutor;
     }
 
+    private void setParameter(final int parameterIndex, final Object value) throws SQLException {
+        verifyOpen();
+        if (parameterIndex < 1 || parameterIndex > preparedQuery.getParameterCount()) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.INVALID_PARAMETER_INDEX, parameterIndex, preparedQuery.getParameterCount());
+        }
+        parameters.put(parameterIndex, value);
+    }
+
+    private static LocalDateTime toLocalDateTime(final java.util.Date x, final Calendar cal) {
+        // The value is the instant of the date and time in the time zone of the calendar.
+        return Instant.ofEpochMilli(x.getTime()).atZone(cal.getTimeZone().toZoneId()).toLocalDateTime();
+    }
+
     @Override
     public void addBatch() throws SQLException {
         verifyOpen();
@@ -92,11 +130,17 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
     }
 
     @Override
-    public void clearParameters() throws SQLException {
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql) throws SQLException {
         verifyOpen();
         throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
     }
 
+    @Override
+    public void clearParameters() throws SQLException {
+        verifyOpen();
+        parameters.clear();
+    }
+
     @Override
     public int executeUpdate() throws SQLException {
         verifyOpen();
@@ -137,8 +181,7 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -183,14 +226,12 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setByte(final int parameterIndex, final byte x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -241,39 +282,35 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setDate(final int parameterIndex, final Date x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setDate(final int parameterIndex, final Date x, final Calendar cal)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, (x == null || cal == null)
+                ? x
+                : Date.valueOf(toLocalDateTime(x, cal).toLocalDate()));
     }
 
     @Override
     public void setDouble(final int parameterIndex, final double x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setFloat(final int parameterIndex, final float x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setInt(final int parameterIndex, final int x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setLong(final int parameterIndex, final long x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -311,42 +348,36 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setNString(final int parameterIndex, final String value) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, value);
     }
 
     @Override
     public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, null);
     }
 
     @Override
     public void setNull(final int parameterIndex, final int sqlType, final String typeName)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, null);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType,
                           final int scaleOrLength)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -369,40 +400,38 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setShort(final int parameterIndex, final short x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setString(final int parameterIndex, final String x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setTime(final int parameterIndex, final Time x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setTime(final int parameterIndex, final Time x, final Calendar cal)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, (x == null || cal == null)
+                ? x
+                : Time.valueOf(toLocalDateTime(x, cal).toLocalTime()));
     }
 
     @Override
     public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, (x == null || cal == null)
+                ? x
+                : Timestamp.valueOf(toLocalDateTime(x, cal).withNano(x.getNanos())));
     }
 
     @Override
@@ -433,7 +462,11 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public java.sql.ResultSet executeQuery() throws SQLException {
-        resultSet = queryExecutor.executeQuery(sql, this);
+        verifyOpen();
+        // Without any parameter values the query runs as written, so a ? taken for a placeholder cannot break it.
+        resultSet = parameters.isEmpty()
+                ? queryExecutor.executeQuery(preparedQuery.getQuery(), this)
+                : queryExecutor.executeQuery(preparedQuery, parameters, this);
         return resultSet;
     }
 
@@ -18,6 +18,7 @@ package software.aws.neptune.jdbc;
 
 import lombok.Getter;
 import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.converters.AbstractConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.utilities.CastHelper;
@@ -67,13 +68,19 @@ public abstract class ResultSet implements java.sql.ResultSet {
     private final java.sql.Statement statement;
     @Getter
     private int rowIndex;
+    private boolean pastLastRow = false;
     private SQLWarning warnings = null;
+    private final Class<?>[] columnSourceTypes;
+    private final AbstractConverter[] columnConverters;
 
     protected ResultSet(final java.sql.Statement statement, final List<String> columns, final int rowCount) {
         this.statement = statement;
         this.columns = columns;
         this.rowCount = rowCount;
         this.rowIndex = -1;
+        final int columnCount = (columns == null) ? 0 : columns.size();
+        this.columnSourceTypes = new Class<?>[columnCount];
+        this.columnConverters = new AbstractConverter[columnCount];
     }
 
     private static Date getCalendarDate(final Date date, final Calendar calendar) {
@@ -146,6 +153,23 @@ public abstract class ResultSet implements java.sql.ResultSet {
         return (this.rowIndex < rowCount);
     }
 
+    /**
+     * Moves the row position of a result set that reads its own rows, such as a streamed result whose row count is
+     * not known up front, so that the row position functions report the row it is on.
+     *
+     * @param hasRow Whether the result set moved to a row, otherwise it moved past the last row.
+     * @return Whether the result set moved to a row.
+     */
+    protected boolean moveToNextRow(final boolean hasRow) {
+        if (hasRow) {
+            this.rowIndex++;
+        } else if (!pastLastRow) {
+            this.rowIndex++;
+            pastLastRow = true;
+        }
+        return hasRow;
+    }
+
     // Warning implementation.
     @Override
     public SQLWarning getWarnings() throws SQLException {
@@ -302,10 +326,18 @@ public abstract class ResultSet implements java.sql.ResultSet {
      *                      * column index is invalid.
      */
     private <T> T getValue(final int columnIndex, final Class<T> targetType) throws SQLException {
-        Object o = getConvertedValue(columnIndex);
+        return convertValue(columnIndex, getConvertedValue(columnIndex), targetType);
+    }
+
+    private <T> T convertValue(final int columnIndex, final Object value, final Class<T> targetType)
+            throws SQLException {
+        Object o = value;
         if (o == null) {
             return null;
         }
+        if (o.getClass() == targetType) {
+            return targetType.cast(o);
+        }
         if (o instanceof LocalTime) {
             o = getCalendarTime(Time.valueOf((LocalTime) o), DEFAULT_CALENDAR);
         } else if (o instanceof LocalDate) {
@@ -319,7 +351,7 @@ public abstract class ResultSet implements java.sql.ResultSet {
         }
 
         try {
-            return JavaToJdbcTypeConverter.get(o.getClass(), targetType).convert(targetType, o);
+            return getConverter(columnIndex, o.getClass(), targetType).convert(targetType, o);
         } catch (final ConversionException e) {
             throw SqlError.createSQLException(LOGGER,
                     SqlState.DATA_EXCEPTION,
@@ -329,55 +361,104 @@ public abstract class ResultSet implements java.sql.ResultSet {
         }
     }
 
+    private AbstractConverter getConverter(final int columnIndex, final Class<?> sourceType,
+                                           final Class<?> targetType) throws SQLException {
+        final int index = columnIndex - 1;
+        if (index < 0 || index >= columnConverters.length) {
+            return JavaToJdbcTypeConverter.get(sourceType, targetType);
+        }
+        // Converters depend only on the class of the value, and the values of a column almost always have the same
+        // class, so the converter of a column is only looked up again if the class changes.
+        if (columnSourceTypes[index] != sourceType) {
+            columnConverters[index] = JavaToJdbcTypeConverter.get(sourceType, targetType);
+            columnSourceTypes[index] = sourceType;
+        }
+        return columnConverters[index];
+    }
+
+    // The getters of primitive types read values of the same or a narrower type directly, without boxing the result.
+    // Other values are converted, which checks that they fit in the target type.
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Boolean.", columnIndex);
-        final Boolean value = getValue(columnIndex, Boolean.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Boolean) {
+            return (Boolean) o;
+        }
+        final Boolean value = convertValue(columnIndex, o, Boolean.class);
         return value != null && value;
     }
 
     @Override
     public byte getByte(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Byte.", columnIndex);
-        final Byte value = getValue(columnIndex, Byte.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Byte) {
+            return (Byte) o;
+        }
+        final Byte value = convertValue(columnIndex, o, Byte.class);
         return (value == null) ? 0 : value;
     }
 
     @Override
     public short getShort(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Short.", columnIndex);
-        final Short value = getValue(columnIndex, Short.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Short || o instanceof Byte) {
+            return ((Number) o).shortValue();
+        }
+        final Short value = convertValue(columnIndex, o, Short.class);
         return (value == null) ? 0 : value;
     }
 
     @Override
     public int getInt(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Integer.", columnIndex);
-        final Integer value = getValue(columnIndex, Integer.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Integer || o instanceof Short || o instanceof Byte) {
+            return ((Number) o).intValue();
+        }
+        final Integer value = convertValue(columnIndex, o, Integer.class);
         return (value == null) ? 0 : value;
     }
 
     @Override
     public long getLong(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Long.", columnIndex);
-        final Long value = getValue(columnIndex, Long.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte) {
+            return ((Number) o).longValue();
+        }
+        final Long value = convertValue(columnIndex, o, Long.class);
         return (value == null) ? 0 : value;
     }
 
     @Override
     public float getFloat(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Float.", columnIndex);
-        final Float value = getValue(columnIndex, Float.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Float || isIntegral(o)) {
+            return ((Number) o).floatValue();
+        }
+        final Float value = convertValue(columnIndex, o, Float.class);
         return (value == null) ? 0 : value;
     }
 
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a Double.", columnIndex);
-        final Double value = getValue(columnIndex, Double.class);
+        final Object o = getConvertedValue(columnIndex);
+        if (o instanceof Double || o instanceof Float || isIntegral(o)) {
+            return ((Number) o).doubleValue();
+        }
+        final Double value = convertValue(columnIndex, o, Double.class);
         return (value == null) ? 0 : value;
     }
 
+    private static boolean isIntegral(final Object o) {
+        return o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte;
+    }
+
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
         LOGGER.trace("Getting column {} as a BigDecimal.", columnIndex);
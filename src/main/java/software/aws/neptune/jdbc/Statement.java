@@ -27,12 +27,13 @@ import software.aws.neptune.jdbc.utilities.Warning;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of Statement for JDBC Driver.
  */
-public class Statement implements java.sql.Statement {
+public class Statement implements java.sql.Statement, NeptuneStatement {
     private static final Logger LOGGER = LoggerFactory.getLogger(Statement.class);
     private final java.sql.Connection connection;
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
@@ -230,6 +231,7 @@ public class Statement implements java.sql.Statement {
 
         // Silently truncate to the maximum number of rows that can be retrieved at a time.
         this.fetchSize = Math.min(rows, queryExecutor.getMaxFetchSize());
+        queryExecutor.setFetchSize(this.fetchSize);
     }
 
     @Override
@@ -434,6 +436,12 @@ public class Statement implements java.sql.Statement {
         return queryExecutor.executeQuery(sql, this);
     }
 
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql) throws SQLException {
+        verifyOpen();
+        return queryExecutor.executeQueryAsync(sql, this);
+    }
+
     @Override
     public int getQueryTimeout() throws SQLException {
         verifyOpen();
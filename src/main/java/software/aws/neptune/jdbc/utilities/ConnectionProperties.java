@@ -54,6 +54,11 @@ public abstract class ConnectionProperties extends Properties {
     public static final String SSH_STRICT_HOST_KEY_CHECKING = "sshStrictHostKeyChecking";
     public static final String SSH_KNOWN_HOSTS_FILE = "sshKnownHostsFile";
     public static final String SERVICE_REGION_KEY = "serviceRegion";
+    public static final String SCHEMA_CACHE_PATH_KEY = "schemaCachePath";
+    public static final String SCHEMA_CACHE_TTL_SECONDS_KEY = "schemaCacheTtl";
+    public static final String SCHEMA_REFRESH_INTERVAL_SECONDS_KEY = "schemaRefreshInterval";
+    public static final String SCHEMA_SCAN_CONCURRENCY_KEY = "schemaScanConcurrency";
+    public static final String SCHEMA_SCAN_BATCHED_KEY = "schemaScanBatched";
     public static final AuthScheme DEFAULT_AUTH_SCHEME = AuthScheme.IAMSigV4;
     public static final SqlSchemaGrabber.ScanType DEFAULT_SCAN_TYPE = SqlSchemaGrabber.ScanType.All;
     public static final int DEFAULT_CONNECTION_TIMEOUT_MILLIS = 5000;
@@ -61,6 +66,11 @@ public abstract class ConnectionProperties extends Properties {
     public static final String DEFAULT_SSH_STRICT_CHECKING = "true";
     public static final Level DEFAULT_LOG_LEVEL = Level.OFF;
     public static final String DEFAULT_SERVICE_REGION = "";
+    public static final String DEFAULT_SCHEMA_CACHE_PATH = "";
+    public static final int DEFAULT_SCHEMA_CACHE_TTL_SECONDS = 24 * 60 * 60;
+    public static final int DEFAULT_SCHEMA_REFRESH_INTERVAL_SECONDS = 0;
+    public static final int DEFAULT_SCHEMA_SCAN_CONCURRENCY = SqlSchemaGrabber.DEFAULT_MAX_CONCURRENCY;
+    public static final boolean DEFAULT_SCHEMA_SCAN_BATCHED = SqlSchemaGrabber.DEFAULT_BATCHED;
 
     public static final Map<String, Object> DEFAULT_PROPERTIES_MAP = new HashMap<>();
     private static final Map<String, ConnectionProperties.PropertyConverter<?>> PROPERTY_CONVERTER_MAP =
@@ -75,6 +85,11 @@ public abstract class ConnectionProperties extends Properties {
         PROPERTY_CONVERTER_MAP.put(CONNECTION_RETRY_COUNT_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(LOG_LEVEL_KEY, ConnectionProperties::toLogLevel);
         PROPERTY_CONVERTER_MAP.put(SERVICE_REGION_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(SCHEMA_CACHE_PATH_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(SCHEMA_CACHE_TTL_SECONDS_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(SCHEMA_REFRESH_INTERVAL_SECONDS_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(SCHEMA_SCAN_CONCURRENCY_KEY, ConnectionProperties::toPositive);
+        PROPERTY_CONVERTER_MAP.put(SCHEMA_SCAN_BATCHED_KEY, ConnectionProperties::toBoolean);
         PROPERTY_CONVERTER_MAP.put(SSH_USER, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(SSH_HOSTNAME, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(SSH_PRIVATE_KEY_FILE, (key, value) -> value);
@@ -90,6 +105,11 @@ public abstract class ConnectionProperties extends Properties {
         DEFAULT_PROPERTIES_MAP.put(AUTH_SCHEME_KEY, DEFAULT_AUTH_SCHEME);
         DEFAULT_PROPERTIES_MAP.put(LOG_LEVEL_KEY, DEFAULT_LOG_LEVEL);
         DEFAULT_PROPERTIES_MAP.put(SERVICE_REGION_KEY, DEFAULT_SERVICE_REGION);
+        DEFAULT_PROPERTIES_MAP.put(SCHEMA_CACHE_PATH_KEY, DEFAULT_SCHEMA_CACHE_PATH);
+        DEFAULT_PROPERTIES_MAP.put(SCHEMA_CACHE_TTL_SECONDS_KEY, DEFAULT_SCHEMA_CACHE_TTL_SECONDS);
+        DEFAULT_PROPERTIES_MAP.put(SCHEMA_REFRESH_INTERVAL_SECONDS_KEY, DEFAULT_SCHEMA_REFRESH_INTERVAL_SECONDS);
+        DEFAULT_PROPERTIES_MAP.put(SCHEMA_SCAN_CONCURRENCY_KEY, DEFAULT_SCHEMA_SCAN_CONCURRENCY);
+        DEFAULT_PROPERTIES_MAP.put(SCHEMA_SCAN_BATCHED_KEY, DEFAULT_SCHEMA_SCAN_BATCHED);
     }
 
     /**
@@ -175,6 +195,14 @@ public abstract class ConnectionProperties extends Properties {
         }
     }
 
+    protected static int toPositive(@NonNull final String key, @NonNull final String value) throws SQLException {
+        final int intValue = toUnsigned(key, value);
+        if (intValue == 0) {
+            throw invalidConnectionPropertyError(key, value);
+        }
+        return intValue;
+    }
+
     protected static boolean toBoolean(@NonNull final String key, @NonNull final String value) throws SQLException {
         if (isWhitespace(value)) {
             if (DEFAULT_PROPERTIES_MAP.containsKey(key)) {
@@ -415,6 +443,108 @@ public abstract class ConnectionProperties extends Properties {
         put(SERVICE_REGION_KEY, region);
     }
 
+    /**
+     * Gets the directory schema snapshots are stored in, empty if schema snapshots are disabled.
+     *
+     * @return The schema cache directory.
+     */
+    public String getSchemaCachePath() {
+        return getProperty(SCHEMA_CACHE_PATH_KEY);
+    }
+
+    /**
+     * Sets the directory schema snapshots are stored in.
+     *
+     * @param schemaCachePath The schema cache directory, empty to disable schema snapshots.
+     */
+    public void setSchemaCachePath(@NonNull final String schemaCachePath) {
+        put(SCHEMA_CACHE_PATH_KEY, schemaCachePath);
+    }
+
+    /**
+     * Gets the time to live of schema snapshots in seconds.
+     *
+     * @return The schema snapshot time to live in seconds.
+     */
+    public int getSchemaCacheTtlSeconds() {
+        return (int) get(SCHEMA_CACHE_TTL_SECONDS_KEY);
+    }
+
+    /**
+     * Sets the time to live of schema snapshots in seconds.
+     *
+     * @param ttlSeconds The schema snapshot time to live in seconds.
+     * @throws SQLException if value is invalid.
+     */
+    public void setSchemaCacheTtlSeconds(final int ttlSeconds) throws SQLException {
+        if (ttlSeconds < 0) {
+            throw invalidConnectionPropertyError(SCHEMA_CACHE_TTL_SECONDS_KEY, ttlSeconds);
+        }
+        put(SCHEMA_CACHE_TTL_SECONDS_KEY, ttlSeconds);
+    }
+
+    /**
+     * Gets the interval in seconds at which cached schemas are rescanned, 0 if schemas are never rescanned.
+     *
+     * @return The schema refresh interval in seconds.
+     */
+    public int getSchemaRefreshIntervalSeconds() {
+        return (int) get(SCHEMA_REFRESH_INTERVAL_SECONDS_KEY);
+    }
+
+    /**
+     * Sets the interval in seconds at which cached schemas are rescanned.
+     *
+     * @param intervalSeconds The schema refresh interval in seconds, 0 to disable refreshing.
+     * @throws SQLException if value is invalid.
+     */
+    public void setSchemaRefreshIntervalSeconds(final int intervalSeconds) throws SQLException {
+        if (intervalSeconds < 0) {
+            throw invalidConnectionPropertyError(SCHEMA_REFRESH_INTERVAL_SECONDS_KEY, intervalSeconds);
+        }
+        put(SCHEMA_REFRESH_INTERVAL_SECONDS_KEY, intervalSeconds);
+    }
+
+    /**
+     * Gets the maximum number of schema queries that run at the same time during a schema scan.
+     *
+     * @return The schema scan concurrency.
+     */
+    public int getSchemaScanConcurrency() {
+        return (int) get(SCHEMA_SCAN_CONCURRENCY_KEY);
+    }
+
+    /**
+     * Sets the maximum number of schema queries that run at the same time during a schema scan.
+     *
+     * @param concurrency The schema scan concurrency.
+     * @throws SQLException if value is invalid.
+     */
+    public void setSchemaScanConcurrency(final int concurrency) throws SQLException {
+        if (concurrency <= 0) {
+            throw invalidConnectionPropertyError(SCHEMA_SCAN_CONCURRENCY_KEY, concurrency);
+        }
+        put(SCHEMA_SCAN_CONCURRENCY_KEY, concurrency);
+    }
+
+    /**
+     * Gets whether schema scans use grouped traversals over many labels instead of queries per label.
+     *
+     * @return True if schema scans are batched, false otherwise.
+     */
+    public boolean getSchemaScanBatched() {
+        return (boolean) get(SCHEMA_SCAN_BATCHED_KEY);
+    }
+
+    /**
+     * Sets whether schema scans use grouped traversals over many labels instead of queries per label.
+     *
+     * @param batched True to batch schema scans, false otherwise.
+     */
+    public void setSchemaScanBatched(final boolean batched) {
+        put(SCHEMA_SCAN_BATCHED_KEY, batched);
+    }
+
     /**
      * Validate properties.
      */
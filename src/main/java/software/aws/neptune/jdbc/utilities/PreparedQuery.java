@@ -0,0 +1,244 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.jdbc.utilities;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Query of a prepared statement with the positions of its ? parameter placeholders.
+ *
+ * A placeholder is a ? outside of string literals, quoted names and comments that is not an operator of the query
+ * language, see {@link Syntax}. Placeholders are replaced by named parameters of the query language, which lets the
+ * server cache one plan for all values of the parameters.
+ */
+public final class PreparedQuery {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedQuery.class);
+    @Getter
+    private final String query;
+    private final int[] placeholders;
+    // Query with its placeholders replaced, by the prefix of the parameter names.
+    private final Map<String, String> namedQueries = new ConcurrentHashMap<>();
+
+    private PreparedQuery(final String query, final int[] placeholders) {
+        this.query = query;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Syntax of a query language, for telling its ? placeholders apart from the other uses of ?.
+     */
+    public enum Syntax {
+        /**
+         * SQL: quoted strings and names, -- line comments and block comments. Every other ? is a placeholder.
+         */
+        SQL,
+        /**
+         * openCypher: quoted strings and names, // line comments and block comments. Every other ? is a placeholder.
+         */
+        CYPHER,
+        /**
+         * Gremlin Groovy: quoted and triple quoted strings, // line comments and block comments. ?. ?: and ?[ are null
+         * safe operators, and a ? after a value, as in a ? b : c, is the ternary operator.
+         */
+        GROOVY,
+        /**
+         * SPARQL: quoted and triple quoted strings, IRIs in angle brackets, # comments. ?name is a variable, and a ?
+         * right after a path element, as in :p? or (:p|:q)?, is the zero or one path modifier.
+         */
+        SPARQL
+    }
+
+    /**
+     * Function to find the parameter placeholders of a query.
+     *
+     * @param query  Query to parse.
+     * @param syntax Syntax of the query language.
+     * @return PreparedQuery of the query.
+     */
+    public static PreparedQuery parse(final String query, final Syntax syntax) {
+        if (query == null) {
+            return new PreparedQuery(null, new int[0]);
+        }
+        final List<Integer> placeholders = new ArrayList<>();
+        // Last character outside of whitespace and comments.
+        char previous = 0;
+        int i = 0;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            final int commentEnd = skipComment(query, i, syntax);
+            if (commentEnd > i) {
+                i = commentEnd;
+                continue;
+            }
+            final int quotedEnd = skipLiteral(query, i, syntax);
+            if (quotedEnd > i) {
+                previous = query.charAt(quotedEnd - 1);
+                i = quotedEnd;
+                continue;
+            }
+            if (c == '?' && isPlaceholder(query, i, previous, syntax)) {
+                placeholders.add(i);
+            }
+            if (!Character.isWhitespace(c)) {
+                previous = c;
+            }
+            i++;
+        }
+        return new PreparedQuery(query, placeholders.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static int skipComment(final String query, final int start, final Syntax syntax) {
+        if (syntax == Syntax.SPARQL) {
+            return query.startsWith("#", start) ? skipLine(query, start) : start;
+        }
+        if (query.startsWith((syntax == Syntax.SQL) ? "--" : "//", start)) {
+            return skipLine(query, start);
+        } else if (query.startsWith("/*", start)) {
+            final int end = query.indexOf("*/", start + 2);
+            return (end < 0) ? query.length() : end + 2;
+        }
+        return start;
+    }
+
+    private static int skipLine(final String query, final int start) {
+        final int end = query.indexOf('\n', start);
+        return (end < 0) ? query.length() : end + 1;
+    }
+
+    private static int skipLiteral(final String query, final int start, final Syntax syntax) {
+        final char c = query.charAt(start);
+        if (c == '\'' || c == '"') {
+            final String tripleQuote = new String(new char[] {c, c, c});
+            if ((syntax == Syntax.GROOVY || syntax == Syntax.SPARQL) && query.startsWith(tripleQuote, start)) {
+                final int end = query.indexOf(tripleQuote, start + 3);
+                return (end < 0) ? query.length() : end + 3;
+            }
+            return skipQuoted(query, start, c);
+        } else if (c == '`' && (syntax == Syntax.SQL || syntax == Syntax.CYPHER)) {
+            return skipQuoted(query, start, c);
+        } else if (c == '<' && syntax == Syntax.SPARQL) {
+            return skipIri(query, start);
+        }
+        return start;
+    }
+
+    private static int skipQuoted(final String query, final int start, final char quote) {
+        int i = start + 1;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private static int skipIri(final String query, final int start) {
+        // An IRI has no whitespace, so a < followed by whitespace before any > is the less than operator.
+        for (int i = start + 1; i < query.length(); i++) {
+            final char c = query.charAt(i);
+            if (c == '>') {
+                return i + 1;
+            } else if (Character.isWhitespace(c) || "<\"{}|^`\\".indexOf(c) >= 0) {
+                return start;
+            }
+        }
+        return start;
+    }
+
+    private static boolean isPlaceholder(final String query, final int index, final char previous,
+                                         final Syntax syntax) {
+        final char next = (index + 1 < query.length()) ? query.charAt(index + 1) : 0;
+        if (syntax == Syntax.GROOVY) {
+            return next != '.' && next != ':' && next != '[' && !isValueEnd(previous);
+        } else if (syntax == Syntax.SPARQL) {
+            final char before = (index > 0) ? query.charAt(index - 1) : 0;
+            return !isNameCharacter(next) && !isNameCharacter(before) && before != '>' && before != ')';
+        }
+        return true;
+    }
+
+    private static boolean isValueEnd(final char c) {
+        return isNameCharacter(c) || c == ')' || c == ']' || c == '\'' || c == '"';
+    }
+
+    private static boolean isNameCharacter(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Function to get the number of parameters of the query.
+     *
+     * @return Number of ? placeholders.
+     */
+    public int getParameterCount() {
+        return placeholders.length;
+    }
+
+    /**
+     * Function to get the query with each placeholder replaced by a named parameter.
+     *
+     * @param prefix Prefix of the parameters in the query, followed by the index of the parameter starting at 1.
+     * @return Query with named parameters.
+     */
+    public String getQuery(final String prefix) {
+        return namedQueries.computeIfAbsent(prefix, key -> {
+            final StringBuilder namedQuery = new StringBuilder(query.length() + placeholders.length * 4);
+            int previous = 0;
+            for (int i = 0; i < placeholders.length; i++) {
+                namedQuery.append(query, previous, placeholders[i]).append(prefix).append(i + 1);
+                previous = placeholders[i] + 1;
+            }
+            return namedQuery.append(query, previous, query.length()).toString();
+        });
+    }
+
+    /**
+     * Function to get the values of the named parameters of the query.
+     *
+     * @param values Values set on the prepared statement, by index starting at 1.
+     * @param prefix Prefix of the parameter names, followed by the index of the parameter starting at 1.
+     * @return Values by parameter name.
+     * @throws SQLException if a parameter of the query has no value.
+     */
+    public Map<String, Object> getParameters(final Map<Integer, Object> values, final String prefix)
+            throws SQLException {
+        final Map<String, Object> parameters = new HashMap<>();
+        for (int i = 1; i <= placeholders.length; i++) {
+            if (!values.containsKey(i)) {
+                throw SqlError.createSQLException(
+                        LOGGER,
+                        SqlState.DATA_EXCEPTION,
+                        SqlError.PARAMETER_NOT_SET, i);
+            }
+            parameters.put(prefix + i, values.get(i));
+        }
+        return parameters;
+    }
+}
@@ -16,6 +16,7 @@
 
 package software.aws.neptune.jdbc.utilities;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -24,10 +25,34 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public abstract class QueryExecutor {
+    public static final String ASYNC_MAX_THREADS_PROPERTY = "neptune.jdbc.async.maxThreads";
+    public static final String ASYNC_MAX_QUEUED_PROPERTY = "neptune.jdbc.async.maxQueued";
+    public static final int DEFAULT_ASYNC_MAX_THREADS = 64;
+    public static final int DEFAULT_ASYNC_MAX_QUEUED = 1024;
     private static final Logger LOGGER = LoggerFactory.getLogger(QueryExecutor.class);
+    private static final long ASYNC_THREAD_KEEP_ALIVE_SECONDS = 60;
+    // Shared by all executors, a watchdog only runs briefly to cancel a query that ran past its timeout.
+    private static final ScheduledExecutorService TIMEOUT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("query-timeout-%d").setDaemon(true).build());
+    // Runs the blocking queries of asynchronous executions, each holds a thread until its query completes. At most
+    // a fixed number run at a time and a bounded number wait, further queries are rejected.
+    private static ThreadPoolExecutor asyncExecutor = null;
     private final Object lock = new Object();
     @Setter
     @Getter
@@ -36,6 +61,58 @@ public abstract class QueryExecutor {
     @Getter
     private int fetchSize = Integer.MAX_VALUE;
     private QueryState queryState = QueryState.NOT_STARTED;
+    private long queryCount = 0;
+
+    /**
+     * Replaces the shared thread pool of asynchronous queries. Queries already running or waiting complete on the
+     * previous pool, whose threads exit once they are done.
+     *
+     * @param maxThreads Maximum number of asynchronous queries running at a time.
+     * @param maxQueued  Maximum number of asynchronous queries waiting to run.
+     */
+    public static synchronized void configureAsyncExecutor(final int maxThreads, final int maxQueued) {
+        final ThreadPoolExecutor previous = asyncExecutor;
+        asyncExecutor = createAsyncExecutor(maxThreads, maxQueued);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    private static synchronized ThreadPoolExecutor getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = createAsyncExecutor(
+                    Integer.getInteger(ASYNC_MAX_THREADS_PROPERTY, DEFAULT_ASYNC_MAX_THREADS),
+                    Integer.getInteger(ASYNC_MAX_QUEUED_PROPERTY, DEFAULT_ASYNC_MAX_QUEUED));
+        }
+        return asyncExecutor;
+    }
+
+    private static ThreadPoolExecutor createAsyncExecutor(final int maxThreads, final int maxQueued) {
+        if (maxThreads <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Maximum threads must be positive and maximum queued not negative.");
+        }
+        final BlockingQueue<Runnable> queue = (maxQueued == 0)
+                ? new SynchronousQueue<>()
+                : new LinkedBlockingQueue<>(maxQueued);
+        final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                ASYNC_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+                new ThreadFactoryBuilder().setNameFormat("query-async-%d").setDaemon(true).build());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    private static void executeAsync(final Runnable task) throws SQLException {
+        final ThreadPoolExecutor executor = getAsyncExecutor();
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.OPERATION_CANCELED,
+                    SqlError.ASYNC_QUEUE_FULL,
+                    executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        }
+    }
 
     protected static boolean propertiesEqual(
             final ConnectionProperties connectionProperties1,
@@ -60,6 +137,45 @@ public abstract class QueryExecutor {
      */
     public abstract int getMaxFetchSize();
 
+    /**
+     * Function to check if a fetch size below the max fetch size has been set for the executor.
+     *
+     * @return true if results should be fetched in batches of the fetch size, otherwise false.
+     */
+    protected boolean isFetchSizeSet() {
+        return fetchSize < getMaxFetchSize();
+    }
+
+    /**
+     * Function to pick the intermediate result type a ResultSet is constructed from. Results are streamed in batches
+     * once a fetch size has been set, otherwise they are read in full before the ResultSet is constructed.
+     *
+     * @param streamed     Intermediate result type of a streamed result.
+     * @param materialized Intermediate result type of a materialized result.
+     * @return The streamed type if a fetch size has been set, otherwise the materialized type.
+     */
+    protected Class<?> getResultSetInfoClass(final Class<?> streamed, final Class<?> materialized) {
+        return isFetchSizeSet() ? streamed : materialized;
+    }
+
+    /**
+     * Function to check if a query timeout has been set for the executor.
+     *
+     * @return true if queries should be limited to the query timeout, otherwise false.
+     */
+    protected boolean isQueryTimeoutSet() {
+        return queryTimeout > 0;
+    }
+
+    /**
+     * Function to get the query timeout in milliseconds, for passing on to the server.
+     *
+     * @return Query timeout in milliseconds.
+     */
+    protected long getQueryTimeoutMillis() {
+        return TimeUnit.SECONDS.toMillis(queryTimeout);
+    }
+
     /**
      * Verify that connection to database is functional.
      *
@@ -79,6 +195,39 @@ public abstract class QueryExecutor {
     public abstract java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement) throws
             SQLException;
 
+    /**
+     * Function to find the ? parameter placeholders of a query, following the syntax of the query language of the
+     * executor. Executors of languages other than SQL override this.
+     *
+     * @param sql Query to parse.
+     * @return PreparedQuery of the query.
+     */
+    public PreparedQuery prepareQuery(final String sql) {
+        return PreparedQuery.parse(sql, PreparedQuery.Syntax.SQL);
+    }
+
+    /**
+     * Function to execute a prepared query with the values of its parameters. By default only queries without
+     * parameters are supported, executors of languages with query parameters override this to send the values
+     * separately from the query.
+     *
+     * @param query      Prepared query to execute.
+     * @param parameters Values of the parameters, by index starting at 1.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if the query has parameters, query execution fails, or it was cancelled.
+     */
+    public java.sql.ResultSet executeQuery(final PreparedQuery query, final Map<Integer, Object> parameters,
+                                           final java.sql.Statement statement) throws SQLException {
+        if (query.getParameterCount() > 0) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.INVALID_QUERY_EXPRESSION,
+                    SqlError.PARAMETERS_NOT_SUPPORTED);
+        }
+        return executeQuery(query.getQuery(), statement);
+    }
+
     /**
      * Function to get tables.
      *
@@ -140,6 +289,48 @@ public abstract class QueryExecutor {
     public abstract java.sql.ResultSet executeGetTypeInfo(final java.sql.Statement statement)
             throws SQLException;
 
+    /**
+     * Function to execute query without blocking the calling thread. By default the query runs on a shared thread
+     * pool, executors with an asynchronous client override this.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return Future completed with the java.sql.ResultSet of the query, cancelling it cancels the query.
+     * @throws SQLException if the query cannot be started.
+     */
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql,
+                                                                   final java.sql.Statement statement)
+            throws SQLException {
+        return executeQueryOnExecutor(sql, statement);
+    }
+
+    /**
+     * Function to execute query on the shared thread pool.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return Future completed with the java.sql.ResultSet of the query, cancelling it cancels the query.
+     * @throws SQLException if too many queries are waiting for the shared thread pool.
+     */
+    protected CompletableFuture<java.sql.ResultSet> executeQueryOnExecutor(final String sql,
+                                                                           final java.sql.Statement statement)
+            throws SQLException {
+        final CompletableFuture<java.sql.ResultSet> result = new CompletableFuture<>();
+        executeAsync(() -> {
+            if (result.isDone()) {
+                // Cancelled before it started.
+                return;
+            }
+            try {
+                completeResult(result, executeQuery(sql, statement));
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        cancelQueryOnCancellation(result);
+        return result;
+    }
+
     /**
      * This function is supposed to run the queries and construct the target ResultSet using reflection.
      *
@@ -152,6 +343,86 @@ public abstract class QueryExecutor {
     protected <T> java.sql.ResultSet runCancellableQuery(final Constructor<?> constructor,
                                                          final java.sql.Statement statement,
                                                          final String query) throws SQLException {
+        return runCancellableQuery(constructor, statement, query, Collections.emptyMap());
+    }
+
+    /**
+     * This function runs a query with named parameters and constructs the target ResultSet using reflection.
+     *
+     * @param constructor Target ResultSet type.
+     * @param statement   Statement which is issuing query.
+     * @param query       Query to execute.
+     * @param parameters  Values of the named parameters of the query.
+     * @return Target ResultSet Object.
+     * @throws SQLException if query execution fails, or it was cancelled.
+     */
+    protected <T> java.sql.ResultSet runCancellableQuery(final Constructor<?> constructor,
+                                                         final java.sql.Statement statement,
+                                                         final String query,
+                                                         final Map<String, Object> parameters)
+            throws SQLException {
+        startQuery();
+        final ScheduledFuture<?> watchdog = scheduleTimeout();
+        try {
+            final T intermediateResult = runQuery(query, parameters);
+            return createResultSet(constructor, statement, intermediateResult);
+        } catch (final Exception e) {
+            throw getQueryException(e);
+        } finally {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * This function is the asynchronous counterpart of runCancellableQuery, it runs the query with runQueryAsync.
+     *
+     * @param constructor Target ResultSet type.
+     * @param statement   Statement which is issuing query.
+     * @param query       Query to execute.
+     * @return Future completed with the target ResultSet Object, cancelling it cancels the query.
+     * @throws SQLException if another query is in progress, or the query cannot be started.
+     */
+    protected <T> CompletableFuture<java.sql.ResultSet> runCancellableQueryAsync(final Constructor<?> constructor,
+                                                                                 final java.sql.Statement statement,
+                                                                                 final String query)
+            throws SQLException {
+        startQuery();
+        final ScheduledFuture<?> watchdog = scheduleTimeout();
+        final CompletableFuture<T> intermediateResult;
+        try {
+            intermediateResult = runQueryAsync(query);
+        } catch (final Exception e) {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+            throw getQueryException(e);
+        }
+
+        final CompletableFuture<java.sql.ResultSet> result = new CompletableFuture<>();
+        intermediateResult.whenComplete((value, error) -> {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+            try {
+                if (error != null) {
+                    final Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                            ? error.getCause()
+                            : error;
+                    result.completeExceptionally(getQueryException(cause));
+                } else {
+                    completeResult(result, createResultSet(constructor, statement, value));
+                }
+            } catch (final Exception e) {
+                result.completeExceptionally(getQueryException(e));
+            }
+        });
+        cancelQueryOnCancellation(result);
+        return result;
+    }
+
+    private void startQuery() throws SQLException {
         synchronized (lock) {
             if (queryState.equals(QueryState.IN_PROGRESS)) {
                 throw SqlError.createSQLException(
@@ -160,51 +431,148 @@ public abstract class QueryExecutor {
                         SqlError.QUERY_IN_PROGRESS);
             }
             queryState = QueryState.IN_PROGRESS;
+            queryCount++;
         }
+    }
 
-        try {
-            final T intermediateResult = runQuery(query);
-            synchronized (lock) {
-                if (queryState.equals(QueryState.CANCELLED)) {
-                    resetQueryState();
-                    throw SqlError.createSQLException(
-                            LOGGER,
-                            SqlState.OPERATION_CANCELED,
-                            SqlError.QUERY_CANCELED);
-                }
-                resetQueryState();
+    private <T> java.sql.ResultSet createResultSet(final Constructor<?> constructor,
+                                                   final java.sql.Statement statement,
+                                                   final T intermediateResult) throws Exception {
+        synchronized (lock) {
+            checkCancelledOrTimedOut();
+            resetQueryState();
+        }
+        return (java.sql.ResultSet) constructor.newInstance(statement, intermediateResult);
+    }
+
+    private SQLException getQueryException(final Throwable e) {
+        synchronized (lock) {
+            try {
+                // A query that failed because the watchdog or a cancel stopped it reports that instead.
+                checkCancelledOrTimedOut();
+            } catch (final SQLException cancelled) {
+                return cancelled;
             }
-            return (java.sql.ResultSet) constructor.newInstance(statement, intermediateResult);
-        } catch (final SQLException e) {
-            throw e;
-        } catch (final Exception e) {
-            synchronized (lock) {
-                if (queryState.equals(QueryState.CANCELLED)) {
-                    resetQueryState();
-                    throw SqlError.createSQLException(
-                            LOGGER,
-                            SqlState.OPERATION_CANCELED,
-                            SqlError.QUERY_CANCELED);
-                } else {
-                    resetQueryState();
-                    final StringWriter sw = new StringWriter();
-                    final PrintWriter pw = new PrintWriter(sw);
-                    e.printStackTrace(pw);
-                    throw SqlError.createSQLException(
-                            LOGGER,
-                            SqlState.OPERATION_CANCELED,
-                            SqlError.QUERY_FAILED, e + "Stack Trace: " + sw.toString());
+            resetQueryState();
+        }
+        if (e instanceof SQLException) {
+            return (SQLException) e;
+        }
+        final StringWriter sw = new StringWriter();
+        final PrintWriter pw = new PrintWriter(sw);
+        e.printStackTrace(pw);
+        return SqlError.createSQLException(
+                LOGGER,
+                SqlState.OPERATION_CANCELED,
+                SqlError.QUERY_FAILED, e + "Stack Trace: " + sw.toString());
+    }
+
+    private static void completeResult(final CompletableFuture<java.sql.ResultSet> result,
+                                       final java.sql.ResultSet resultSet) throws SQLException {
+        if (!result.complete(resultSet)) {
+            // Cancelled after the query completed, nothing will read the result set.
+            resultSet.close();
+        }
+    }
+
+    private void cancelQueryOnCancellation(final CompletableFuture<java.sql.ResultSet> result) {
+        result.whenComplete((resultSet, e) -> {
+            if (result.isCancelled()) {
+                try {
+                    cancelQuery(true);
+                } catch (final SQLException ex) {
+                    LOGGER.debug("Failed to cancel query of cancelled future.", ex);
                 }
             }
-        }
+        });
     }
 
     private void resetQueryState() {
         queryState = QueryState.NOT_STARTED;
     }
 
+    private void checkCancelledOrTimedOut() throws SQLException {
+        if (queryState.equals(QueryState.CANCELLED)) {
+            resetQueryState();
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.OPERATION_CANCELED,
+                    SqlError.QUERY_CANCELED);
+        } else if (queryState.equals(QueryState.TIMED_OUT)) {
+            resetQueryState();
+            throw SqlError.createSQLTimeoutException(LOGGER, SqlError.QUERY_TIMED_OUT);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleTimeout() {
+        if (!isQueryTimeoutSet()) {
+            return null;
+        }
+        final long query;
+        synchronized (lock) {
+            query = queryCount;
+        }
+        return TIMEOUT_EXECUTOR.schedule(() -> timeoutQuery(query), queryTimeout, TimeUnit.SECONDS);
+    }
+
+    private void timeoutQuery(final long query) {
+        synchronized (lock) {
+            // Only time out the query the watchdog was started for, not a later query of this executor.
+            if (query != queryCount || !queryState.equals(QueryState.IN_PROGRESS)) {
+                return;
+            }
+            LOGGER.info("Query ran longer than the query timeout of {} seconds, cancelling it.", queryTimeout);
+            try {
+                performCancel();
+            } catch (final SQLException e) {
+                LOGGER.warn("Failed to cancel query that timed out.", e);
+            }
+            queryState = QueryState.TIMED_OUT;
+        }
+    }
+
     protected abstract <T> T runQuery(final String query) throws SQLException;
 
+    /**
+     * Function to run a query with named parameters. By default only queries without parameters are supported.
+     *
+     * @param query      Query to execute.
+     * @param parameters Values of the named parameters of the query.
+     * @param <T>        Intermediate result type passed to the ResultSet constructor.
+     * @return Intermediate result of the query.
+     * @throws SQLException if the query has parameters, or query execution fails.
+     */
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        if (!parameters.isEmpty()) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.INVALID_QUERY_EXPRESSION,
+                    SqlError.PARAMETERS_NOT_SUPPORTED);
+        }
+        return runQuery(query);
+    }
+
+    /**
+     * Function to run a query without blocking the calling thread. By default runQuery runs on a shared thread pool,
+     * executors with an asynchronous client override this.
+     *
+     * @param query Query to execute.
+     * @param <T>   Intermediate result type passed to the ResultSet constructor.
+     * @return Future completed with the intermediate result of the query.
+     * @throws SQLException if the query cannot be started.
+     */
+    protected <T> CompletableFuture<T> runQueryAsync(final String query) throws SQLException {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executeAsync(() -> {
+            try {
+                future.complete(runQuery(query));
+            } catch (final Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     /**
      * Function to cancel running query.
      * This has to be run in the different thread from the one running the query.
@@ -239,6 +607,7 @@ public abstract class QueryExecutor {
     enum QueryState {
         NOT_STARTED,
         IN_PROGRESS,
-        CANCELLED
+        CANCELLED,
+        TIMED_OUT
     }
 }
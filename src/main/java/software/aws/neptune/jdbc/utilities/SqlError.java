@@ -21,6 +21,7 @@ import java.sql.ClientInfoStatus;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
 import java.util.Map;
 import java.util.ResourceBundle;
 
@@ -30,6 +31,7 @@ import java.util.ResourceBundle;
 public enum SqlError {
     AAD_ACCESS_TOKEN_ERROR,
     ASYNC_RETRIEVAL_ERROR,
+    ASYNC_QUEUE_FULL,
     AAD_ACCESS_TOKEN_REQUEST_FAILED,
     CANNOT_UNWRAP,
     CANNOT_CONVERT_STRING_TO_RESULT_SET,
@@ -64,6 +66,7 @@ public enum SqlError {
     INVALID_ROW_VALUE,
     INVALID_COLUMN_INDEX,
     INVALID_INDEX,
+    INVALID_PARAMETER_INDEX,
     INVALID_TYPE_CONVERSION,
     INVALID_TIMEOUT,
     KNOWN_HOSTS_FILE_NOT_FOUND,
@@ -78,6 +81,8 @@ public enum SqlError {
     OKTA_SESSION_TOKEN_REQUEST_FAILED,
     OKTA_SESSION_TOKEN_ERROR,
     PARAMETERS_NOT_SUPPORTED,
+    PARAMETER_NOT_SET,
+    PARAMETER_PRECISION_LOST,
     QUERY_FAILED,
     QUERY_IN_PROGRESS,
     QUERY_NOT_STARTED_OR_COMPLETE,
@@ -154,6 +159,23 @@ public enum SqlError {
         return new SQLException(error, sqlState.getSqlState());
     }
 
+    /**
+     * Create {@link SQLTimeoutException} of error and log the message with a {@link Logger}.
+     *
+     * @param logger     The {@link Logger} contains log info.
+     * @param key        Resource key for bundle provided to constructor.
+     * @param formatArgs Any additional arguments to format the resource string with.
+     * @return SQLTimeoutException with error message.
+     */
+    public static SQLTimeoutException createSQLTimeoutException(
+            final Logger logger,
+            final SqlError key,
+            final Object... formatArgs) {
+        final String error = lookup(key, formatArgs);
+        logger.error(error);
+        return new SQLTimeoutException(error, SqlState.TIMEOUT_EXPIRED.getSqlState());
+    }
+
     /**
      * Create {@link SQLFeatureNotSupportedException} of error and log the message with a {@link Logger}.
      *
@@ -31,7 +31,8 @@ public enum SqlState {
     RESTRICTED_DATA_TYPE_VIOLATION("07006"),
     NUMERIC_VALUE_OUT_OF_RANGE("22003"),
     NO_RESULT_SET_RETURNED("02001"),
-    OPERATION_CANCELED("HY008");
+    OPERATION_CANCELED("HY008"),
+    TIMEOUT_EXPIRED("HYT00");
 
     /**
      * The SQLSTATE code.
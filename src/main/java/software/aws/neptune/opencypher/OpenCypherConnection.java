@@ -19,6 +19,7 @@ package software.aws.neptune.opencypher;
 import lombok.Getter;
 import lombok.NonNull;
 import software.aws.neptune.NeptuneDatabaseMetadata;
+import software.aws.neptune.common.gremlindatamodel.MetadataCache;
 import software.aws.neptune.jdbc.Connection;
 import software.aws.neptune.jdbc.utilities.ConnectionProperties;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
@@ -40,11 +41,13 @@ public class OpenCypherConnection extends Connection implements java.sql.Connect
     public OpenCypherConnection(@NonNull final ConnectionProperties connectionProperties) throws SQLException {
         super(connectionProperties);
         openCypherConnectionProperties = new OpenCypherConnectionProperties(getConnectionProperties());
+        OpenCypherDriverRegistry.retain(openCypherConnectionProperties);
+        MetadataCache.loadSnapshotIfEnabled(openCypherConnectionProperties);
     }
 
     @Override
     public void doClose() {
-        OpenCypherQueryExecutor.close();
+        OpenCypherQueryExecutor.close(getOpenCypherConnectionProperties());
     }
 
     @Override
@@ -0,0 +1,544 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.neo4j.driver.Driver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of OpenCypher drivers, keyed by endpoint, auth scheme, region and driver configuration.
+ *
+ * Connections with the same key share one driver and its Bolt connection pool. Drivers stay open while any connection
+ * holds a reference and are closed after an idle period once the last reference is released. Drivers using IAM
+ * authentication are rebuilt with a freshly signed token before the signature expires, since the Bolt driver only
+ * accepts an auth token at creation time. Sessions are opened on a lease of the driver, and a replaced driver is only
+ * closed once the last lease on it is released, so that long streamed results can finish reading from it. Drivers are
+ * created and closed outside of the registry lock, so that a slow endpoint only holds up the connections waiting for
+ * its own driver.
+ */
+public final class OpenCypherDriverRegistry {
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60000;
+    // Neptune rejects SigV4 signatures that are more than 5 minutes old.
+    public static final long DEFAULT_TOKEN_REFRESH_MILLIS = 4 * 60 * 1000;
+    // A failed token refresh is retried after this long rather than on every maintenance run.
+    private static final long REFRESH_RETRY_MILLIS = 5000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenCypherDriverRegistry.class);
+    private static final Object LOCK = new Object();
+    private static final Map<DriverKey, DriverEntry> DRIVERS = new HashMap<>();
+    private static long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private static long tokenRefreshMillis = DEFAULT_TOKEN_REFRESH_MILLIS;
+    private static ScheduledThreadPoolExecutor maintenanceExecutor = null;
+    // The one pending maintenance run, each run schedules the next one itself.
+    private static ScheduledFuture<?> maintenanceFuture = null;
+
+    private OpenCypherDriverRegistry() {
+    }
+
+    /**
+     * Function to take a reference on the driver for the given properties, keeping it open until released.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     */
+    public static void retain(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        synchronized (LOCK) {
+            getEntry(openCypherConnectionProperties).referenceCount++;
+        }
+    }
+
+    /**
+     * Function to release a reference on the driver for the given properties.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     */
+    public static void release(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        synchronized (LOCK) {
+            final DriverEntry entry = DRIVERS.get(new DriverKey(openCypherConnectionProperties));
+            if (entry == null || entry.referenceCount == 0) {
+                return;
+            }
+            if (--entry.referenceCount == 0) {
+                entry.idleSinceMillis = System.currentTimeMillis();
+                scheduleMaintenance(idleTimeoutMillis);
+            }
+        }
+    }
+
+    /**
+     * Function to get the shared driver for the given properties, creating it if it is not open yet.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     * @return Driver for the properties.
+     * @throws SQLException if the driver cannot be created from the properties.
+     */
+    public static Driver getDriver(final OpenCypherConnectionProperties openCypherConnectionProperties)
+            throws SQLException {
+        final DriverEntry entry;
+        CompletableFuture<Driver> driver;
+        boolean create = false;
+        boolean refresh = false;
+        synchronized (LOCK) {
+            entry = getEntry(openCypherConnectionProperties);
+            final long now = System.currentTimeMillis();
+            if (entry.driver == null) {
+                // Other connections for the same properties wait on the future instead of creating a driver too.
+                entry.driver = new CompletableFuture<>();
+                entry.createdMillis = now;
+                entry.properties = openCypherConnectionProperties;
+                create = true;
+            } else {
+                if (entry.isRefreshDue(now) && !entry.refreshing) {
+                    // Background refresh fell behind, do not hand out a driver with an expired token.
+                    entry.refreshing = true;
+                    refresh = true;
+                }
+                entry.reuseCount++;
+            }
+            if (entry.referenceCount == 0) {
+                // Used without a connection holding a reference, let it be evicted once idle.
+                entry.idleSinceMillis = now;
+                if (entry.reuseCount == 0) {
+                    scheduleMaintenance(idleTimeoutMillis);
+                }
+            }
+            driver = entry.driver;
+        }
+        if (create) {
+            createDriver(openCypherConnectionProperties, entry, driver);
+        } else if (refresh) {
+            refresh(entry);
+            synchronized (LOCK) {
+                driver = entry.driver;
+            }
+        }
+        try {
+            return driver.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.CONNECTION_FAILURE,
+                    SqlError.CONN_FAILED, e.getCause());
+        }
+    }
+
+    private static void createDriver(final OpenCypherConnectionProperties openCypherConnectionProperties,
+                                     final DriverEntry entry, final CompletableFuture<Driver> driver) {
+        try {
+            final Driver newDriver = OpenCypherQueryExecutor.createDriver(openCypherConnectionProperties);
+            synchronized (LOCK) {
+                scheduleMaintenance(entry);
+            }
+            driver.complete(newDriver);
+        } catch (final SQLException | RuntimeException e) {
+            synchronized (LOCK) {
+                // Let the next call try again.
+                if (entry.driver == driver) {
+                    entry.driver = null;
+                }
+            }
+            driver.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Function to lease the shared driver for the given properties to open a session on. The driver stays open until
+     * the lease is closed, even if it is replaced by a token refresh in the meantime.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     * @return DriverLease of the driver for the properties.
+     * @throws SQLException if the driver cannot be created from the properties.
+     */
+    public static DriverLease acquire(final OpenCypherConnectionProperties openCypherConnectionProperties)
+            throws SQLException {
+        while (true) {
+            final Driver driver = getDriver(openCypherConnectionProperties);
+            synchronized (LOCK) {
+                final DriverEntry entry = getEntry(openCypherConnectionProperties);
+                // The driver may have been replaced and closed, or evicted, since it was returned.
+                if (entry.isOpen(driver)) {
+                    entry.leases.merge(driver, 1, Integer::sum);
+                    return new DriverLease(entry, driver);
+                }
+            }
+        }
+    }
+
+    private static void release(final DriverEntry entry, final Driver driver) {
+        synchronized (LOCK) {
+            final Integer leases = entry.leases.get(driver);
+            if (leases == null) {
+                return;
+            }
+            if (leases > 1) {
+                entry.leases.put(driver, leases - 1);
+                return;
+            }
+            entry.leases.remove(driver);
+            if (entry.referenceCount == 0 && entry.leases.isEmpty()) {
+                entry.idleSinceMillis = System.currentTimeMillis();
+                scheduleMaintenance(idleTimeoutMillis);
+            }
+            if (!entry.retired.remove(driver)) {
+                return;
+            }
+        }
+        // Leases can be released from driver callbacks, which must not block on closing the driver.
+        driver.closeAsync();
+    }
+
+    /**
+     * Function to rebuild the driver for the given properties, as is done when its IAM token is due.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     * @throws SQLException if the new driver cannot be created from the properties.
+     */
+    static void refresh(final OpenCypherConnectionProperties openCypherConnectionProperties) throws SQLException {
+        final DriverEntry entry;
+        synchronized (LOCK) {
+            entry = DRIVERS.get(new DriverKey(openCypherConnectionProperties));
+            if (entry == null || entry.driver == null || !entry.driver.isDone() || entry.refreshing) {
+                return;
+            }
+            entry.refreshing = true;
+        }
+        refresh(entry);
+    }
+
+    /**
+     * Function to get the number of replaced drivers for the given properties that are still open.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     * @return Number of retired drivers, 0 if there is no driver for the properties.
+     */
+    static int getRetiredCount(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        synchronized (LOCK) {
+            final DriverEntry entry = DRIVERS.get(new DriverKey(openCypherConnectionProperties));
+            return (entry == null) ? 0 : entry.retired.size();
+        }
+    }
+
+    /**
+     * Function to get the number of maintenance runs waiting to be run.
+     *
+     * @return Number of pending maintenance runs.
+     */
+    static int getPendingMaintenanceCount() {
+        synchronized (LOCK) {
+            return (maintenanceExecutor == null) ? 0 : maintenanceExecutor.getQueue().size();
+        }
+    }
+
+    /**
+     * Function to get the number of times the driver for the given properties was reused instead of created.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
+     * @return Reuse count, 0 if there is no driver for the properties.
+     */
+    public static long getReuseCount(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        synchronized (LOCK) {
+            final DriverEntry entry = DRIVERS.get(new DriverKey(openCypherConnectionProperties));
+            return (entry == null) ? 0 : entry.reuseCount;
+        }
+    }
+
+    /**
+     * Function to get the number of drivers in the registry.
+     *
+     * @return Number of drivers.
+     */
+    public static int size() {
+        synchronized (LOCK) {
+            return DRIVERS.size();
+        }
+    }
+
+    /**
+     * Function to set how long an unreferenced driver is kept open.
+     *
+     * @param idleTimeout Idle timeout in milliseconds.
+     */
+    public static void setIdleTimeoutMillis(final long idleTimeout) {
+        synchronized (LOCK) {
+            idleTimeoutMillis = idleTimeout;
+        }
+    }
+
+    /**
+     * Function to set how often drivers using IAM authentication are rebuilt with a new token.
+     *
+     * @param tokenRefresh Token refresh interval in milliseconds.
+     */
+    public static void setTokenRefreshMillis(final long tokenRefresh) {
+        synchronized (LOCK) {
+            tokenRefreshMillis = tokenRefresh;
+        }
+    }
+
+    /**
+     * Function to refresh IAM tokens that are due and evict idle drivers.
+     */
+    public static void runMaintenance() {
+        final List<DriverEntry> evicted = new ArrayList<>();
+        final List<DriverEntry> refreshed = new ArrayList<>();
+        synchronized (LOCK) {
+            if (maintenanceFuture != null && maintenanceFuture.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+                // This is the pending run, a later one is scheduled below if needed.
+                maintenanceFuture = null;
+            }
+            final long now = System.currentTimeMillis();
+            long nextRun = Long.MAX_VALUE;
+            final Iterator<DriverEntry> iterator = DRIVERS.values().iterator();
+            while (iterator.hasNext()) {
+                final DriverEntry entry = iterator.next();
+                if (entry.refreshing || (entry.driver != null && !entry.driver.isDone())) {
+                    // Maintenance is scheduled again once the driver is created or refreshed.
+                    continue;
+                }
+                final boolean idle = entry.referenceCount == 0 && entry.leases.isEmpty();
+                if (idle && (now - entry.idleSinceMillis) >= idleTimeoutMillis) {
+                    evicted.add(entry);
+                    iterator.remove();
+                    continue;
+                }
+                if (idle) {
+                    nextRun = Math.min(nextRun, entry.idleSinceMillis + idleTimeoutMillis - now);
+                }
+                if (entry.isRefreshDue(now)) {
+                    entry.refreshing = true;
+                    refreshed.add(entry);
+                } else if (entry.driver != null && entry.usesIam()) {
+                    nextRun = Math.min(nextRun, entry.createdMillis + tokenRefreshMillis - now);
+                }
+            }
+            if (nextRun != Long.MAX_VALUE) {
+                scheduleMaintenance(Math.max(nextRun, 0));
+            } else if (DRIVERS.isEmpty() && maintenanceExecutor != null) {
+                maintenanceExecutor.shutdown();
+                maintenanceExecutor = null;
+                maintenanceFuture = null;
+            }
+        }
+        for (final DriverEntry entry : evicted) {
+            entry.close();
+        }
+        for (final DriverEntry entry : refreshed) {
+            try {
+                refresh(entry);
+            } catch (final SQLException e) {
+                LOGGER.warn("Failed to refresh IAM token for OpenCypher driver.", e);
+            }
+        }
+    }
+
+    /**
+     * Function to replace the driver of an entry that was marked as refreshing. The new driver is created outside of
+     * the lock, while the old one is still handed out.
+     *
+     * @param entry DriverEntry to refresh.
+     * @throws SQLException if the new driver cannot be created.
+     */
+    private static void refresh(final DriverEntry entry) throws SQLException {
+        LOGGER.info("Refreshing IAM token for OpenCypher driver.");
+        final OpenCypherConnectionProperties properties;
+        synchronized (LOCK) {
+            properties = entry.properties;
+        }
+        final Driver refreshed;
+        try {
+            refreshed = OpenCypherQueryExecutor.createDriver(properties);
+        } catch (final SQLException | RuntimeException e) {
+            synchronized (LOCK) {
+                entry.refreshing = false;
+                if (entry.usesIam()) {
+                    scheduleMaintenance(REFRESH_RETRY_MILLIS);
+                }
+            }
+            throw e;
+        }
+        final List<Driver> closed;
+        synchronized (LOCK) {
+            entry.retired.add(entry.driver.getNow(null));
+            entry.driver = CompletableFuture.completedFuture(refreshed);
+            entry.createdMillis = System.currentTimeMillis();
+            entry.refreshing = false;
+            scheduleMaintenance(entry);
+            // Retired drivers with sessions still open are closed once their last lease is released.
+            closed = entry.removeUnleasedRetired();
+        }
+        closed.forEach(DriverEntry::closeDriver);
+    }
+
+    private static DriverEntry getEntry(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        return DRIVERS.computeIfAbsent(new DriverKey(openCypherConnectionProperties), key -> new DriverEntry());
+    }
+
+    private static void scheduleMaintenance(final DriverEntry entry) {
+        if (entry.usesIam()) {
+            scheduleMaintenance(tokenRefreshMillis);
+        }
+        if (entry.referenceCount == 0 && entry.leases.isEmpty()) {
+            scheduleMaintenance(idleTimeoutMillis);
+        }
+    }
+
+    private static void scheduleMaintenance(final long delayMillis) {
+        if (maintenanceFuture != null && maintenanceFuture.getDelay(TimeUnit.MILLISECONDS) <= delayMillis) {
+            // The pending run is due first and schedules the next one.
+            return;
+        }
+        if (maintenanceExecutor == null) {
+            maintenanceExecutor = new ScheduledThreadPoolExecutor(1,
+                    new ThreadFactoryBuilder().setNameFormat("opencypher-driver-maintenance-%d").setDaemon(true)
+                            .build());
+            maintenanceExecutor.setRemoveOnCancelPolicy(true);
+        }
+        if (maintenanceFuture != null) {
+            maintenanceFuture.cancel(false);
+        }
+        maintenanceFuture = maintenanceExecutor.schedule(OpenCypherDriverRegistry::runMaintenance, delayMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class DriverKey {
+        private final String endpoint;
+        private final AuthScheme authScheme;
+        private final String serviceRegion;
+        private final boolean useEncryption;
+        private final int connectionPoolSize;
+        private final int connectionTimeoutMillis;
+
+        DriverKey(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+            this(openCypherConnectionProperties.getEndpoint(),
+                    openCypherConnectionProperties.getAuthScheme(),
+                    openCypherConnectionProperties.getServiceRegion(),
+                    openCypherConnectionProperties.getUseEncryption(),
+                    openCypherConnectionProperties.getConnectionPoolSize(),
+                    openCypherConnectionProperties.getConnectionTimeoutMillis());
+        }
+    }
+
+    /**
+     * Lease of a driver from the registry, keeping the driver open until it is closed.
+     */
+    public static final class DriverLease implements AutoCloseable {
+        private final DriverEntry entry;
+        @Getter
+        private final Driver driver;
+        private boolean closed = false;
+
+        private DriverLease(final DriverEntry entry, final Driver driver) {
+            this.entry = entry;
+            this.driver = driver;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(entry, driver);
+        }
+    }
+
+    private static class DriverEntry {
+        private final List<Driver> retired = new ArrayList<>();
+        // Number of open leases, by driver.
+        private final Map<Driver, Integer> leases = new IdentityHashMap<>();
+        private OpenCypherConnectionProperties properties = null;
+        // While the future is pending the driver is being created.
+        private CompletableFuture<Driver> driver = null;
+        private boolean refreshing = false;
+        private int referenceCount = 0;
+        private long reuseCount = 0;
+        private long createdMillis = 0;
+        private long idleSinceMillis = 0;
+
+        boolean usesIam() {
+            return properties != null && AuthScheme.IAMSigV4.equals(properties.getAuthScheme());
+        }
+
+        boolean isRefreshDue(final long now) {
+            return driver != null && driver.isDone() && usesIam() && (now - createdMillis) >= tokenRefreshMillis;
+        }
+
+        boolean isOpen(final Driver leasedDriver) {
+            return (driver != null && driver.getNow(null) == leasedDriver) || retired.contains(leasedDriver);
+        }
+
+        List<Driver> removeUnleasedRetired() {
+            final List<Driver> unleased = new ArrayList<>();
+            final Iterator<Driver> iterator = retired.iterator();
+            while (iterator.hasNext()) {
+                final Driver retiredDriver = iterator.next();
+                if (!leases.containsKey(retiredDriver)) {
+                    unleased.add(retiredDriver);
+                    iterator.remove();
+                }
+            }
+            return unleased;
+        }
+
+        void close() {
+            for (final Driver retiredDriver : retired) {
+                closeDriver(retiredDriver);
+            }
+            retired.clear();
+            if (driver != null && driver.getNow(null) != null) {
+                closeDriver(driver.getNow(null));
+            }
+            driver = null;
+        }
+
+        private static void closeDriver(final Driver driverToClose) {
+            try {
+                driverToClose.close();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to close OpenCypher driver.", e);
+            }
+        }
+    }
+}
@@ -24,10 +24,15 @@ import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.common.gremlindatamodel.MetadataCache;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
@@ -40,37 +45,42 @@ import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetTables;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetTypeInfo;
 
 import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 public class OpenCypherQueryExecutor extends QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenCypherQueryExecutor.class);
-    private static final Object DRIVER_LOCK = new Object();
-    private static OpenCypherConnectionProperties previousOpenCypherConnectionProperties = null;
-    private static Driver driver = null;
+    // Parameters of prepared queries are referenced as $p1, $p2, ...
+    private static final String PARAMETER_PREFIX = "p";
     private final OpenCypherConnectionProperties openCypherConnectionProperties;
     private final Object sessionLock = new Object();
     private Session session = null;
+    private AsyncSession asyncSession = null;
 
     OpenCypherQueryExecutor(final OpenCypherConnectionProperties openCypherConnectionProperties) {
         this.openCypherConnectionProperties = openCypherConnectionProperties;
     }
 
     /**
-     * Function to close down the driver.
+     * Function to release the connection's reference on its driver, the driver is closed once it is idle.
+     *
+     * @param openCypherConnectionProperties OpenCypherConnectionProperties of the connection.
      */
-    public static void close() {
-        synchronized (DRIVER_LOCK) {
-            if (driver != null) {
-                driver.close();
-                driver = null;
-            }
-        }
+    public static void close(final OpenCypherConnectionProperties openCypherConnectionProperties) {
+        OpenCypherDriverRegistry.release(openCypherConnectionProperties);
     }
 
-    private static Driver createDriver(final Config config,
-                                       final OpenCypherConnectionProperties openCypherConnectionProperties)
+    static Driver createDriver(final OpenCypherConnectionProperties openCypherConnectionProperties)
             throws SQLException {
         AuthToken authToken = AuthTokens.none();
         if (openCypherConnectionProperties.getAuthScheme().equals(AuthScheme.IAMSigV4)) {
@@ -79,22 +89,8 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
                     .getSignedHeader(openCypherConnectionProperties.getEndpoint(),
                             openCypherConnectionProperties.getServiceRegion());
         }
-        return GraphDatabase.driver(openCypherConnectionProperties.getEndpoint(), authToken, config);
-    }
-
-    private static Driver getDriver(final Config config,
-                                    final OpenCypherConnectionProperties openCypherConnectionProperties,
-                                    final boolean returnNew)
-            throws SQLException {
-        if (returnNew) {
-            return createDriver(config, openCypherConnectionProperties);
-        }
-        if ((driver == null) ||
-                !propertiesEqual(previousOpenCypherConnectionProperties, openCypherConnectionProperties)) {
-            previousOpenCypherConnectionProperties = openCypherConnectionProperties;
-            return createDriver(config, openCypherConnectionProperties);
-        }
-        return driver;
+        return GraphDatabase.driver(openCypherConnectionProperties.getEndpoint(), authToken,
+                createConfigBuilder(openCypherConnectionProperties).build());
     }
 
     /**
@@ -114,13 +110,16 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
      * @return true if the connection is valid, otherwise false.
      */
     public boolean isValid(final int timeout) {
-        try {
-            final Config config = createConfigBuilder().withConnectionTimeout(timeout, TimeUnit.SECONDS).build();
-            final Driver tempDriver;
-            synchronized (DRIVER_LOCK) {
-                tempDriver = getDriver(config, openCypherConnectionProperties, true);
+        // Verify through the shared driver so the check borrows a pooled connection instead of a new handshake.
+        try (OpenCypherDriverRegistry.DriverLease driverLease =
+                     OpenCypherDriverRegistry.acquire(openCypherConnectionProperties)) {
+            final CompletableFuture<Void> verification =
+                    driverLease.getDriver().verifyConnectivityAsync().toCompletableFuture();
+            if (timeout > 0) {
+                verification.get(timeout, TimeUnit.SECONDS);
+            } else {
+                verification.get();
             }
-            tempDriver.verifyConnectivity();
             return true;
         } catch (final Exception e) {
             LOGGER.error("Connection to database returned an error:", e);
@@ -128,7 +127,8 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
         }
     }
 
-    private Config.ConfigBuilder createConfigBuilder() {
+    private static Config.ConfigBuilder createConfigBuilder(
+            final OpenCypherConnectionProperties openCypherConnectionProperties) {
         final Config.ConfigBuilder configBuilder = Config.builder();
         final boolean useEncryption = openCypherConnectionProperties.getUseEncryption();
         if (useEncryption) {
@@ -158,17 +158,93 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
     @Override
     public java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement) throws
             SQLException {
-        final Constructor<?> constructor;
+        return runCancellableQuery(getResultSetConstructor(), statement, sql);
+    }
+
+    @Override
+    public PreparedQuery prepareQuery(final String sql) {
+        return PreparedQuery.parse(sql, PreparedQuery.Syntax.CYPHER);
+    }
+
+    /**
+     * Function to execute a prepared query, its parameters are sent as query parameters so the server can reuse the
+     * plan of the query for all values of the parameters.
+     *
+     * @param query      Prepared query to execute.
+     * @param parameters Values of the parameters, by index starting at 1.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if a parameter is not set, query execution fails, or it was cancelled.
+     */
+    @Override
+    public java.sql.ResultSet executeQuery(final PreparedQuery query, final Map<Integer, Object> parameters,
+                                           final java.sql.Statement statement) throws SQLException {
+        final Map<String, Object> queryParameters = query.getParameters(parameters, PARAMETER_PREFIX);
+        for (final Map.Entry<String, Object> parameter : queryParameters.entrySet()) {
+            parameter.setValue(getParameterValue(
+                    Integer.parseInt(parameter.getKey().substring(PARAMETER_PREFIX.length())), parameter.getValue()));
+        }
+        return runCancellableQuery(getResultSetConstructor(), statement, query.getQuery("$" + PARAMETER_PREFIX),
+                queryParameters);
+    }
+
+    /**
+     * Function to convert a parameter value to a type the Bolt driver can send. The driver only takes java.time values
+     * for temporal parameters, and has no decimal type, so BigDecimal values are sent as doubles. A BigDecimal that
+     * does not come back unchanged from a double is rejected rather than rounded.
+     *
+     * @param index Index of the parameter, starting at 1.
+     * @param value Value of the parameter.
+     * @return Value to send.
+     * @throws SQLException if a BigDecimal value cannot be sent as a double without losing precision.
+     */
+    private static Object getParameterValue(final int index, final Object value) throws SQLException {
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate();
+        } else if (value instanceof Time) {
+            return ((Time) value).toLocalTime();
+        } else if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        } else if (value instanceof BigDecimal) {
+            final double doubleValue = ((BigDecimal) value).doubleValue();
+            if (Double.isInfinite(doubleValue)
+                    || BigDecimal.valueOf(doubleValue).compareTo((BigDecimal) value) != 0) {
+                throw SqlError.createSQLException(
+                        LOGGER,
+                        SqlState.DATA_EXCEPTION,
+                        SqlError.PARAMETER_PRECISION_LOST, value, index);
+            }
+            return doubleValue;
+        }
+        return value;
+    }
+
+    /**
+     * Function to execute query without blocking the calling thread, using an asynchronous session.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return Future completed with the java.sql.ResultSet of the query, cancelling it cancels the query.
+     * @throws SQLException if the query cannot be started.
+     */
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql,
+                                                                   final java.sql.Statement statement)
+            throws SQLException {
+        return runCancellableQueryAsync(getResultSetConstructor(), statement, sql);
+    }
+
+    private Constructor<?> getResultSetConstructor() throws SQLException {
         try {
-            constructor = OpenCypherResultSet.class
-                    .getConstructor(java.sql.Statement.class, OpenCypherResultSet.ResultSetInfoWithRows.class);
+            return OpenCypherResultSet.class.getConstructor(java.sql.Statement.class,
+                    getResultSetInfoClass(OpenCypherResultSet.ResultSetInfoWithStream.class,
+                            OpenCypherResultSet.ResultSetInfoWithRows.class));
         } catch (final NoSuchMethodException e) {
             throw SqlError.createSQLException(
                     LOGGER,
                     SqlState.INVALID_QUERY_EXPRESSION,
                     SqlError.QUERY_FAILED, e);
         }
-        return runCancellableQuery(constructor, statement, sql);
     }
 
     /**
@@ -254,24 +330,96 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) throws SQLException {
+        return runQuery(query, Collections.emptyMap());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        // The lease keeps the driver open until the result set closes the session, even across a token refresh.
+        final OpenCypherDriverRegistry.DriverLease driverLease =
+                OpenCypherDriverRegistry.acquire(openCypherConnectionProperties);
+        final Session newSession;
+        try {
+            final Driver driver = driverLease.getDriver();
+            newSession = isFetchSizeSet()
+                    ? driver.session(SessionConfig.builder().withFetchSize(getFetchSize()).build())
+                    : driver.session();
+        } catch (final RuntimeException e) {
+            driverLease.close();
+            throw e;
+        }
         synchronized (sessionLock) {
-            synchronized (DRIVER_LOCK) {
-                driver = getDriver(createConfigBuilder().build(), openCypherConnectionProperties, false);
+            session = newSession;
+        }
+
+        try {
+            // The query timeout becomes the transaction timeout, so the server stops the query as well.
+            final Result result = isQueryTimeoutSet()
+                    ? newSession.run(query, parameters, TransactionConfig.builder()
+                            .withTimeout(Duration.ofMillis(getQueryTimeoutMillis())).build())
+                    : newSession.run(query, parameters);
+            final Object openCypherResultSet;
+            if (isFetchSizeSet()) {
+                // Records are pulled from the server in batches of the fetch size as the result set is iterated.
+                openCypherResultSet = new OpenCypherResultSet.ResultSetInfoWithStream(newSession, driverLease, result,
+                        result.keys(), getFetchSize());
+            } else {
+                final List<Record> rows = result.list();
+                final List<String> columns = result.keys();
+                openCypherResultSet = new OpenCypherResultSet.ResultSetInfoWithRows(newSession, driverLease, result,
+                        rows, columns);
+            }
+            return (T) openCypherResultSet;
+        } catch (final RuntimeException e) {
+            newSession.close();
+            driverLease.close();
+            throw e;
+        } finally {
+            synchronized (sessionLock) {
+                session = null;
             }
-            session = driver.session();
         }
+    }
 
-        final Result result = session.run(query);
-        final List<Record> rows = result.list();
-        final List<String> columns = result.keys();
-        final OpenCypherResultSet.ResultSetInfoWithRows openCypherResultSet =
-                new OpenCypherResultSet.ResultSetInfoWithRows(session, result, rows, columns);
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> CompletableFuture<T> runQueryAsync(final String query) throws SQLException {
+        if (isFetchSizeSet()) {
+            // Streamed results are pulled through a blocking session as the result set is iterated.
+            return super.runQueryAsync(query);
+        }
+        final OpenCypherDriverRegistry.DriverLease driverLease =
+                OpenCypherDriverRegistry.acquire(openCypherConnectionProperties);
+        final AsyncSession newAsyncSession;
+        try {
+            newAsyncSession = driverLease.getDriver().asyncSession();
+        } catch (final RuntimeException e) {
+            driverLease.close();
+            throw e;
+        }
         synchronized (sessionLock) {
-            session = null;
+            asyncSession = newAsyncSession;
         }
-        return (T) openCypherResultSet;
+
+        // The query timeout becomes the transaction timeout, so the server stops the query as well.
+        final CompletionStage<ResultCursor> cursor = isQueryTimeoutSet()
+                ? newAsyncSession.runAsync(query, TransactionConfig.builder()
+                        .withTimeout(Duration.ofMillis(getQueryTimeoutMillis())).build())
+                : newAsyncSession.runAsync(query);
+        return cursor
+                .thenCompose(resultCursor -> resultCursor.listAsync().thenApply(rows ->
+                        // Rows are fully read, so the result set does not hold on to the session.
+                        (T) new OpenCypherResultSet.ResultSetInfoWithRows(null, null, null, rows,
+                                resultCursor.keys())))
+                .whenComplete((result, e) -> {
+                    synchronized (sessionLock) {
+                        asyncSession = null;
+                    }
+                    newAsyncSession.closeAsync().whenComplete((closed, closeError) -> driverLease.close());
+                })
+                .toCompletableFuture();
     }
 
     @Override
@@ -281,6 +429,10 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
                 //noinspection deprecation
                 session.reset();
             }
+            if (asyncSession != null) {
+                // Asynchronous sessions cannot be reset, closing the session discards the rest of the result.
+                asyncSession.closeAsync();
+            }
         }
     }
 }
@@ -30,6 +30,7 @@ import software.aws.neptune.common.ResultSetInfoWithoutRows;
 import software.aws.neptune.jdbc.ResultSet;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
+import software.aws.neptune.opencypher.OpenCypherDriverRegistry;
 import software.aws.neptune.opencypher.OpenCypherTypeMapping;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -47,6 +48,11 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     private final List<Record> rows;
     private final Result result;
     private final Session session;
+    private final OpenCypherDriverRegistry.DriverLease driverLease;
+    // Only used when streaming, in which case rows is null and records are read from the result on next().
+    private final boolean streaming;
+    private final int fetchSize;
+    private Record currentRecord = null;
     private boolean wasNull = false;
 
     // TODO: Separate the result set without info to a common result set that this can use.
@@ -60,9 +66,30 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     public OpenCypherResultSet(final java.sql.Statement statement, final ResultSetInfoWithRows resultSetInfo) {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRows().size());
         this.session = resultSetInfo.getSession();
+        this.driverLease = resultSetInfo.getDriverLease();
         this.result = resultSetInfo.getResult();
         this.columns = resultSetInfo.getColumns();
         this.rows = resultSetInfo.getRows();
+        this.streaming = false;
+        this.fetchSize = 0;
+    }
+
+    /**
+     * OpenCypherResultSet constructor, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public OpenCypherResultSet(final java.sql.Statement statement, final ResultSetInfoWithStream resultSetInfo) {
+        // 1 for row count as placeholder, the number of rows is not known until the result is exhausted.
+        super(statement, resultSetInfo.getColumns(), 1);
+        this.session = resultSetInfo.getSession();
+        this.driverLease = resultSetInfo.getDriverLease();
+        this.result = resultSetInfo.getResult();
+        this.columns = resultSetInfo.getColumns();
+        this.rows = null;
+        this.streaming = true;
+        this.fetchSize = resultSetInfo.getFetchSize();
     }
 
     /**
@@ -74,19 +101,85 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     public OpenCypherResultSet(final java.sql.Statement statement, final ResultSetInfoWithoutRows resultSetInfo) {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRowCount());
         this.session = null;
+        this.driverLease = null;
         this.result = null;
         this.columns = resultSetInfo.getColumns();
         this.rows = null;
+        this.streaming = false;
+        this.fetchSize = 0;
     }
 
     @Override
     protected void doClose() throws SQLException {
-        if (result != null) {
-            result.consume();
+        currentRecord = null;
+        // Consuming fails once a cancel has reset the session, or on a network error; the session and the lease are
+        // released regardless.
+        try {
+            if (result != null) {
+                result.consume();
+            }
+        } finally {
+            try {
+                if (session != null) {
+                    session.close();
+                }
+            } finally {
+                if (driverLease != null) {
+                    driverLease.close();
+                }
+            }
         }
-        if (session != null) {
-            session.close();
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (!streaming) {
+            return super.next();
+        }
+        verifyOpen();
+        try {
+            // Replace the previous record so it can be garbage collected, the driver only buffers the fetch size.
+            currentRecord = result.hasNext() ? result.next() : null;
+        } catch (final RuntimeException e) {
+            currentRecord = null;
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.QUERY_FAILED, e.getMessage());
+        }
+        return moveToNextRow(currentRecord != null);
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        if (!streaming) {
+            return super.isLast();
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        if (!streaming) {
+            return super.isAfterLast();
         }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        if (!streaming) {
+            return super.absolute(row);
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    protected int getDriverFetchSize() throws SQLException {
+        if (!streaming) {
+            return super.getDriverFetchSize();
+        }
+        return fetchSize;
     }
 
     @Override
@@ -97,7 +190,13 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
         final List<Type> rowTypes = new ArrayList<>();
-        if (rows == null) {
+        if (streaming) {
+            // Types come from the current record, or the next one if iteration has not started.
+            final Record record = (currentRecord != null) ? currentRecord : peekRecord();
+            for (int i = 0; i < columns.size(); i++) {
+                rowTypes.add((record == null) ? InternalTypeSystem.TYPE_SYSTEM.STRING() : record.get(i).type());
+            }
+        } else if (rows == null) {
             for (int i = 0; i < columns.size(); i++) {
                 rowTypes.add(InternalTypeSystem.TYPE_SYSTEM.STRING());
             }
@@ -111,6 +210,20 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
         return new OpenCypherResultSetMetadata(columns, rowTypes);
     }
 
+    private Record peekRecord() throws SQLException {
+        if (isClosed()) {
+            return null;
+        }
+        try {
+            return result.hasNext() ? result.peek() : null;
+        } catch (final RuntimeException e) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.QUERY_FAILED, e.getMessage());
+        }
+    }
+
     protected Object getConvertedValue(final int columnIndex) throws SQLException {
         final Value value = getValue(columnIndex);
         final OpenCypherTypeMapping.Converter<?> converter = getConverter(value);
@@ -119,6 +232,23 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
 
     private Value getValue(final int columnIndex) throws SQLException {
         verifyOpen();
+        if (streaming) {
+            if (currentRecord == null) {
+                throw SqlError.createSQLException(
+                        LOGGER,
+                        SqlState.DATA_EXCEPTION,
+                        SqlError.INVALID_INDEX, getRow(), 0);
+            }
+            if ((columnIndex <= 0) || (columnIndex > columns.size())) {
+                throw SqlError.createSQLException(
+                        LOGGER,
+                        SqlState.DATA_EXCEPTION,
+                        SqlError.INVALID_COLUMN_INDEX, columnIndex, columns.size());
+            }
+            final Value value = currentRecord.get(columnIndex - 1);
+            wasNull = value.isNull();
+            return value;
+        }
         if (rows == null) {
             // TODO: investigate and change exception error type if needed
             throw SqlError.createSQLException(
@@ -147,8 +277,19 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     @Getter
     public static class ResultSetInfoWithRows {
         private final Session session;
+        private final OpenCypherDriverRegistry.DriverLease driverLease;
         private final Result result;
         private final List<Record> rows;
         private final List<String> columns;
     }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final Session session;
+        private final OpenCypherDriverRegistry.DriverLease driverLease;
+        private final Result result;
+        private final List<String> columns;
+        private final int fetchSize;
+    }
 }
@@ -20,6 +20,9 @@ import com.google.common.collect.ImmutableSet;
 import lombok.NonNull;
 import org.apache.http.client.HttpClient;
 import org.apache.http.protocol.HttpContext;
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
@@ -52,6 +55,11 @@ public class SparqlConnectionProperties extends ConnectionProperties {
     public static final String ACCEPT_HEADER_DATASET_KEY = "acceptHeaderDataset";
     public static final String HTTP_CLIENT_KEY = "httpClient";
     public static final String HTTP_CONTEXT_KEY = "httpContext";
+    // Number of rows used to infer column types when a result is streamed.
+    public static final String TYPE_INFERENCE_SAMPLE_SIZE_KEY = "typeInferenceSampleSize";
+    // Declared column types for streamed results, e.g. "age:integer,name:string", which skip type inference.
+    public static final String COLUMN_TYPE_HINTS_KEY = "columnTypeHints";
+    public static final int DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE = 1000;
     public static final int DEFAULT_PORT = 8182; // Neptune default port
     // Because RDFConnection builder does not include all the Neptune supported media-types in its default header, we
     // are adding them into DEFAULT_PROPERTIES_MAP. These also include the media-types supported by Jena
@@ -79,6 +87,8 @@ public class SparqlConnectionProperties extends ConnectionProperties {
             .add(PARSE_CHECK_SPARQL_KEY)
             .add(HTTP_CLIENT_KEY)
             .add(HTTP_CONTEXT_KEY)
+            .add(TYPE_INFERENCE_SAMPLE_SIZE_KEY)
+            .add(COLUMN_TYPE_HINTS_KEY)
             .build();
 
     // property converter parses on the in-coming connection string
@@ -93,6 +103,8 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_DATASET_KEY, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_QUERY_KEY, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_SELECT_QUERY_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(TYPE_INFERENCE_SAMPLE_SIZE_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(COLUMN_TYPE_HINTS_KEY, (key, value) -> value);
     }
 
     static {
@@ -102,6 +114,8 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         DEFAULT_PROPERTIES_MAP.put(QUERY_ENDPOINT_KEY, "");
         DEFAULT_PROPERTIES_MAP.put(DESTINATION_KEY, "");
         DEFAULT_PROPERTIES_MAP.put(ACCEPT_HEADER_QUERY_KEY, NEPTUNE_ACCEPTED_HEADERS);
+        DEFAULT_PROPERTIES_MAP.put(TYPE_INFERENCE_SAMPLE_SIZE_KEY, DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE);
+        DEFAULT_PROPERTIES_MAP.put(COLUMN_TYPE_HINTS_KEY, "");
     }
 
     /**
@@ -396,6 +410,74 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         put(PARSE_CHECK_SPARQL_KEY, parseCheckSparql);
     }
 
+    /**
+     * Gets the number of rows used to infer column types when a result is streamed.
+     *
+     * @return The type inference sample size.
+     */
+    public int getTypeInferenceSampleSize() {
+        return (int) get(TYPE_INFERENCE_SAMPLE_SIZE_KEY);
+    }
+
+    /**
+     * Sets the number of rows used to infer column types when a result is streamed.
+     *
+     * @param typeInferenceSampleSize The type inference sample size.
+     * @throws SQLException if value is invalid.
+     */
+    public void setTypeInferenceSampleSize(final int typeInferenceSampleSize) throws SQLException {
+        if (typeInferenceSampleSize < 0) {
+            throw invalidConnectionPropertyError(TYPE_INFERENCE_SAMPLE_SIZE_KEY, typeInferenceSampleSize);
+        }
+        put(TYPE_INFERENCE_SAMPLE_SIZE_KEY, typeInferenceSampleSize);
+    }
+
+    /**
+     * Gets the declared column types, as comma separated column:xsdType pairs.
+     *
+     * @return The column type hints.
+     */
+    public String getColumnTypeHints() {
+        return getProperty(COLUMN_TYPE_HINTS_KEY);
+    }
+
+    /**
+     * Sets the declared column types, as comma separated column:xsdType pairs.
+     *
+     * @param columnTypeHints The column type hints.
+     * @throws SQLException if value is invalid.
+     */
+    public void setColumnTypeHints(@NonNull final String columnTypeHints) throws SQLException {
+        setProperty(COLUMN_TYPE_HINTS_KEY,
+                (String) PROPERTY_CONVERTER_MAP.get(COLUMN_TYPE_HINTS_KEY).convert(COLUMN_TYPE_HINTS_KEY,
+                        columnTypeHints));
+    }
+
+    /**
+     * Gets the declared column types as a map of column name to XSD datatype.
+     *
+     * @return Map of column name to datatype, empty if no hints are set.
+     * @throws SQLException if a hint is malformed or names an unknown XSD datatype.
+     */
+    public Map<String, Object> getColumnTypeHintMap() throws SQLException {
+        final Map<String, Object> columnTypeHintMap = new HashMap<>();
+        final String columnTypeHints = getColumnTypeHints();
+        if (columnTypeHints == null || "".equals(columnTypeHints.trim())) {
+            return columnTypeHintMap;
+        }
+        for (final String hint : columnTypeHints.split(",")) {
+            final String[] columnAndType = hint.trim().split(":");
+            final RDFDatatype datatype = (columnAndType.length == 2)
+                    ? TypeMapper.getInstance().getTypeByName(XSDDatatype.XSD + "#" + columnAndType[1].trim())
+                    : null;
+            if (datatype == null) {
+                throw invalidConnectionPropertyValueError(COLUMN_TYPE_HINTS_KEY, hint);
+            }
+            columnTypeHintMap.put(columnAndType[0].trim(), datatype);
+        }
+        return columnTypeHintMap;
+    }
+
     /**
      * Validate the supported properties.
      */
@@ -424,6 +506,9 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         }
 
         setDestination(destination);
+
+        // Parse the column type hints up front so that malformed hints fail when connecting.
+        getColumnTypeHintMap();
     }
 
 
@@ -28,14 +28,18 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.protocol.HttpContext;
 import org.apache.jena.atlas.iterator.PeekIterator;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.query.ParameterizedSparqlString;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.QueryType;
+import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdfconnection.RDFConnection;
 import org.apache.jena.rdfconnection.RDFConnectionRemote;
 import org.apache.jena.rdfconnection.RDFConnectionRemoteBuilder;
@@ -45,6 +49,7 @@ import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
 import software.aws.neptune.common.ResultSetInfoWithoutRows;
 import software.aws.neptune.common.gremlindatamodel.resultset.ResultSetGetTables;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.PreparedQuery;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
@@ -59,9 +64,12 @@ import software.aws.neptune.sparql.resultset.SparqlSelectResultSet;
 import software.aws.neptune.sparql.resultset.SparqlTriplesResultSet;
 
 import java.lang.reflect.Constructor;
+import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -71,12 +79,14 @@ import java.util.concurrent.TimeUnit;
 
 public class SparqlQueryExecutor extends QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(SparqlQueryExecutor.class);
+    // Parameters of prepared queries become the variables ?_p1, ?_p2, ... before their values are substituted.
+    private static final String VARIABLE_PREFIX = "_p";
     private static final Object RDF_CONNECTION_LOCK = new Object();
     private static RDFConnection rdfConnection = null;
     private static SparqlConnectionProperties previousSparqlConnectionProperties = null;
-    private static QueryExecution queryExecution = null;
     private final Object queryExecutionLock = new Object();
     private final SparqlConnectionProperties sparqlConnectionProperties;
+    private QueryExecution queryExecution = null;
 
     SparqlQueryExecutor(final SparqlConnectionProperties sparqlConnectionProperties) throws SQLException {
         this.sparqlConnectionProperties = sparqlConnectionProperties;
@@ -241,6 +251,49 @@ public class SparqlQueryExecutor extends QueryExecutor {
         return runCancellableQuery(constructor, statement, sparql);
     }
 
+    @Override
+    public PreparedQuery prepareQuery(final String sql) {
+        return PreparedQuery.parse(sql, PreparedQuery.Syntax.SPARQL);
+    }
+
+    /**
+     * Function to execute a prepared query. SPARQL has no query parameters, so their values are substituted into the
+     * query as typed literals, escaped by the client.
+     *
+     * @param query      Prepared query to execute.
+     * @param parameters Values of the parameters, by index starting at 1.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if a parameter is not set or null, query execution fails, or it was cancelled.
+     */
+    @Override
+    public ResultSet executeQuery(final PreparedQuery query, final Map<Integer, Object> parameters,
+                                  final Statement statement) throws SQLException {
+        final ParameterizedSparqlString sparql = new ParameterizedSparqlString(query.getQuery("?" + VARIABLE_PREFIX));
+        for (final Map.Entry<String, Object> parameter : query.getParameters(parameters, VARIABLE_PREFIX).entrySet()) {
+            sparql.setLiteral(parameter.getKey(), getParameterLiteral(parameter.getValue()));
+        }
+        return executeQuery(sparql.toString(), statement);
+    }
+
+    private static Literal getParameterLiteral(final Object value) throws SQLException {
+        if (value == null) {
+            // RDF has no null literal.
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION_NULL_VALUE,
+                    SqlError.UNSUPPORTED_TYPE, "NULL");
+        } else if (value instanceof Date) {
+            return ResourceFactory.createTypedLiteral(value.toString(), XSDDatatype.XSDdate);
+        } else if (value instanceof Time) {
+            return ResourceFactory.createTypedLiteral(value.toString(), XSDDatatype.XSDtime);
+        } else if (value instanceof Timestamp) {
+            return ResourceFactory.createTypedLiteral(((Timestamp) value).toLocalDateTime().toString(),
+                    XSDDatatype.XSDdateTime);
+        }
+        return ResourceFactory.createTypedLiteral(value);
+    }
+
     /**
      * Private function to get constructor based on the given query type
      */
@@ -250,9 +303,9 @@ public class SparqlQueryExecutor extends QueryExecutor {
             final Query query = QueryFactory.create(sparql);
             switch (query.queryType()) {
                 case SELECT:
-                    constructor = SparqlSelectResultSet.class
-                            .getConstructor(java.sql.Statement.class,
-                                    SparqlSelectResultSet.ResultSetInfoWithRows.class);
+                    constructor = SparqlSelectResultSet.class.getConstructor(java.sql.Statement.class,
+                            getResultSetInfoClass(SparqlSelectResultSet.ResultSetInfoWithStream.class,
+                                    SparqlSelectResultSet.ResultSetInfoWithRows.class));
                     break;
                 case ASK:
                     constructor = SparqlAskResultSet.class
@@ -260,9 +313,9 @@ public class SparqlQueryExecutor extends QueryExecutor {
                     break;
                 case CONSTRUCT:
                 case DESCRIBE:
-                    constructor = SparqlTriplesResultSet.class
-                            .getConstructor(java.sql.Statement.class,
-                                    SparqlTriplesResultSet.ResultSetInfoWithRows.class);
+                    constructor = SparqlTriplesResultSet.class.getConstructor(java.sql.Statement.class,
+                            getResultSetInfoClass(SparqlTriplesResultSet.ResultSetInfoWithStream.class,
+                                    SparqlTriplesResultSet.ResultSetInfoWithRows.class));
                     break;
                 default:
                     throw SqlError
@@ -358,13 +411,20 @@ public class SparqlQueryExecutor extends QueryExecutor {
                 rdfConnection = getRdfConnection(sparqlConnectionProperties);
             }
             queryExecution = rdfConnection.query(query);
+            if (isQueryTimeoutSet()) {
+                // Bounds the whole execution of the query, including reading the results.
+                queryExecution.setTimeout(getQueryTimeoutMillis(), TimeUnit.MILLISECONDS);
+            }
         }
 
         final QueryType queryType = queryExecution.getQuery().queryType();
         final Object sparqlResultSet = getResultSetBasedOnQueryType(queryType);
 
         synchronized (queryExecutionLock) {
-            queryExecution.close();
+            // Streamed result sets read from the open query execution and close it themselves.
+            if (!isFetchSizeSet() || queryType == QueryType.ASK) {
+                queryExecution.close();
+            }
             queryExecution = null;
         }
 
@@ -402,15 +462,21 @@ public class SparqlQueryExecutor extends QueryExecutor {
     /**
      * Private function to get select result set
      */
-    private Object getSelectResultSet(final org.apache.jena.query.ResultSet selectResult) {
+    private Object getSelectResultSet(final org.apache.jena.query.ResultSet selectResult) throws SQLException {
         final List<QuerySolution> selectRows = new ArrayList<>();
         final List<String> columns = selectResult.getResultVars();
 
         final List<String> tempColumns = new ArrayList<>(columns);
         final Map<String, Object> tempColumnType = new LinkedHashMap<>();
+        applyColumnTypeHints(tempColumns, tempColumnType);
+
+        // When streaming only a sample window is read up front, the rest is read as the result set is iterated.
+        final int rowLimit = isFetchSizeSet()
+                ? sparqlConnectionProperties.getTypeInferenceSampleSize()
+                : Integer.MAX_VALUE;
 
         // TODO: Revisit type promotion in performance testing ticket
-        while (selectResult.hasNext()) {
+        while (selectRows.size() < rowLimit && selectResult.hasNext()) {
             final QuerySolution row = selectResult.next();
             selectRows.add(row);
             final Iterator<String> tempColumnIterator = tempColumns.iterator();
@@ -429,6 +495,10 @@ public class SparqlQueryExecutor extends QueryExecutor {
         final Map<String, Object> selectColumnType = new LinkedHashMap<>();
         columns.forEach(c -> selectColumnType.put(c, tempColumnType.getOrDefault(c, String.class)));
 
+        if (isFetchSizeSet()) {
+            return new SparqlSelectResultSet.ResultSetInfoWithStream(queryExecution, selectRows, selectResult,
+                    columns, new ArrayList<>(selectColumnType.values()));
+        }
         return new SparqlSelectResultSet.ResultSetInfoWithRows(selectRows, columns,
                 new ArrayList<>(selectColumnType.values()));
     }
@@ -441,8 +511,14 @@ public class SparqlQueryExecutor extends QueryExecutor {
 
         final List<String> tempColumns = new ArrayList<>(SparqlTriplesResultSet.TRIPLES_COLUMN_LIST);
         final Map<String, Object> tempColumnType = new LinkedHashMap<>();
+        applyColumnTypeHints(tempColumns, tempColumnType);
 
-        while (triplesResult.hasNext()) {
+        // When streaming only a sample window is read up front, the rest is read as the result set is iterated.
+        final int rowLimit = isFetchSizeSet()
+                ? sparqlConnectionProperties.getTypeInferenceSampleSize()
+                : Integer.MAX_VALUE;
+
+        while (describeRows.size() < rowLimit && triplesResult.hasNext()) {
             final Triple row = triplesResult.next();
             describeRows.add(row);
             final Iterator<String> tempColumnIterator = tempColumns.iterator();
@@ -460,10 +536,27 @@ public class SparqlQueryExecutor extends QueryExecutor {
         SparqlTriplesResultSet.TRIPLES_COLUMN_LIST
                 .forEach(c -> triplesColumnType.put(c, tempColumnType.getOrDefault(c, String.class)));
 
+        if (isFetchSizeSet()) {
+            return new SparqlTriplesResultSet.ResultSetInfoWithStream(queryExecution, describeRows, triplesResult,
+                    new ArrayList<>(triplesColumnType.values()));
+        }
         return new SparqlTriplesResultSet.ResultSetInfoWithRows(describeRows,
                 new ArrayList<>(triplesColumnType.values()));
     }
 
+    /**
+     * Private function to apply the declared column types, which are then excluded from type inference
+     */
+    private void applyColumnTypeHints(final List<String> tempColumns, final Map<String, Object> tempColumnType)
+            throws SQLException {
+        final Map<String, Object> columnTypeHints = sparqlConnectionProperties.getColumnTypeHintMap();
+        for (final Map.Entry<String, Object> columnTypeHint : columnTypeHints.entrySet()) {
+            if (tempColumns.remove(columnTypeHint.getKey())) {
+                tempColumnType.put(columnTypeHint.getKey(), columnTypeHint.getValue());
+            }
+        }
+    }
+
     /**
      * Private function to get node type from result set
      */
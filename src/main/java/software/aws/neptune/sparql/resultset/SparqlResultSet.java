@@ -16,22 +16,133 @@
 
 package software.aws.neptune.sparql.resultset;
 
+import com.google.common.collect.Iterators;
+import org.apache.jena.query.QueryExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.ResultSet;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.List;
 
 public abstract class SparqlResultSet extends ResultSet {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SparqlResultSet.class);
+    // Only set when streaming, in which case rows are read from the iterator on next().
+    private final QueryExecution queryExecution;
+    private final Iterator<?> rowIterator;
+    private final int columnCount;
+    private Object currentRow = null;
     private boolean wasNull = false;
 
     protected SparqlResultSet(final Statement statement, final List<String> columns,
                               final int rowCount) {
         super(statement, columns, rowCount);
+        this.queryExecution = null;
+        this.rowIterator = null;
+        this.columnCount = columns.size();
+    }
+
+    /**
+     * SparqlResultSet constructor for streamed results.
+     *
+     * @param statement      Statement Object.
+     * @param columns        Columns of the result.
+     * @param queryExecution Open query execution, closed when the result set is closed.
+     * @param sampleRows     Rows already read from the result to infer the column types.
+     * @param remainingRows  Iterator over the rest of the result.
+     */
+    protected SparqlResultSet(final Statement statement, final List<String> columns,
+                              final QueryExecution queryExecution, final List<?> sampleRows,
+                              final Iterator<?> remainingRows) {
+        // 1 for row count as placeholder, the number of rows is not known until the result is exhausted.
+        super(statement, columns, 1);
+        this.queryExecution = queryExecution;
+        // Sample rows are removed as they are consumed so they can be garbage collected.
+        this.rowIterator = Iterators.concat(Iterators.consumingIterator(new ArrayDeque<>(sampleRows).iterator()),
+                remainingRows);
+        this.columnCount = columns.size();
     }
 
     @Override
     protected void doClose() throws SQLException {
+        currentRow = null;
+        if (queryExecution != null) {
+            queryExecution.close();
+        }
+    }
+
+    protected boolean isStreaming() {
+        return rowIterator != null;
+    }
+
+    /**
+     * Gets the current row of a streamed result after validating the column index.
+     *
+     * @param columnIndex Column index to validate.
+     * @return The current row.
+     * @throws SQLException if there is no current row or the column index is invalid.
+     */
+    protected Object getCurrentRow(final int columnIndex) throws SQLException {
+        if (currentRow == null) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.INVALID_INDEX, getRow(), 0);
+        }
+        if ((columnIndex <= 0) || (columnIndex > columnCount)) {
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.INVALID_COLUMN_INDEX, columnIndex, columnCount);
+        }
+        return currentRow;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (!isStreaming()) {
+            return super.next();
+        }
+        verifyOpen();
+        try {
+            currentRow = rowIterator.hasNext() ? rowIterator.next() : null;
+        } catch (final RuntimeException e) {
+            currentRow = null;
+            throw SqlError.createSQLException(
+                    LOGGER,
+                    SqlState.DATA_EXCEPTION,
+                    SqlError.QUERY_FAILED, e.getMessage());
+        }
+        return moveToNextRow(currentRow != null);
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        if (!isStreaming()) {
+            return super.isLast();
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        if (!isStreaming()) {
+            return super.isAfterLast();
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        if (!isStreaming()) {
+            return super.absolute(row);
+        }
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
     }
 
     @Override
@@ -20,6 +20,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.jena.datatypes.RDFDatatype;
 import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.RDFNode;
@@ -31,6 +32,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -53,6 +55,20 @@ public class SparqlSelectResultSet extends SparqlResultSet {
         this.columnTypes = resultSetInfo.getColumnTypes();
     }
 
+    /**
+     * SparqlResultSet constructor for streamed results, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public SparqlSelectResultSet(final Statement statement, final ResultSetInfoWithStream resultSetInfo) {
+        super(statement, resultSetInfo.getColumns(), resultSetInfo.getQueryExecution(),
+                resultSetInfo.getSampleRows(), resultSetInfo.getRemainingRows());
+        this.rows = null;
+        this.columns = resultSetInfo.getColumns();
+        this.columnTypes = resultSetInfo.getColumnTypes();
+    }
+
     /**
      * SparqlResultSet constructor, initializes super class.
      *
@@ -96,10 +112,15 @@ public class SparqlSelectResultSet extends SparqlResultSet {
 
     private RDFNode getValue(final int columnIndex) throws SQLException {
         verifyOpen();
-        validateRowColumn(columnIndex);
+        final QuerySolution row;
+        if (isStreaming()) {
+            row = (QuerySolution) getCurrentRow(columnIndex);
+        } else {
+            validateRowColumn(columnIndex);
+            row = rows.get(getRowIndex());
+        }
 
         final String colName = columns.get(columnIndex - 1);
-        final QuerySolution row = rows.get(getRowIndex());
         final RDFNode value = row.get(colName);
         // literal: primitives
         // resource: relationships
@@ -114,7 +135,7 @@ public class SparqlSelectResultSet extends SparqlResultSet {
 
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
-        if (rows.isEmpty()) {
+        if (rows != null && rows.isEmpty()) {
             // TODO: AN-562 see other ways to address empty result lists
             final List<Object> emptyColumnTypes = new ArrayList<>();
             for (final String column : columns) {
@@ -133,4 +154,14 @@ public class SparqlSelectResultSet extends SparqlResultSet {
         private final List<String> columns;
         private final List<Object> columnTypes;
     }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final QueryExecution queryExecution;
+        private final List<QuerySolution> sampleRows;
+        private final Iterator<QuerySolution> remainingRows;
+        private final List<String> columns;
+        private final List<Object> columnTypes;
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.impl.LiteralLabel;
+import org.apache.jena.query.QueryExecution;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.common.ResultSetInfoWithoutRows;
@@ -34,6 +35,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -65,6 +67,20 @@ public class SparqlTriplesResultSet extends SparqlResultSet {
         this.columnTypes = resultSetInfo.getColumnTypes();
     }
 
+    /**
+     * SparqlResultSet constructor for streamed results, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public SparqlTriplesResultSet(final Statement statement, final ResultSetInfoWithStream resultSetInfo) {
+        super(statement, resultSetInfo.getColumns(), resultSetInfo.getQueryExecution(),
+                resultSetInfo.getSampleRows(), resultSetInfo.getRemainingRows());
+        this.rows = null;
+        this.columns = resultSetInfo.getColumns();
+        this.columnTypes = resultSetInfo.getColumnTypes();
+    }
+
     /**
      * SparqlResultSet constructor, initializes super class.
      *
@@ -108,9 +124,14 @@ public class SparqlTriplesResultSet extends SparqlResultSet {
 
     private Node getValue(final int columnIndex) throws SQLException {
         verifyOpen();
-        validateRowColumn(columnIndex);
+        final Triple row;
+        if (isStreaming()) {
+            row = (Triple) getCurrentRow(columnIndex);
+        } else {
+            validateRowColumn(columnIndex);
+            row = rows.get(getRowIndex());
+        }
 
-        final Triple row = rows.get(getRowIndex());
         final Node value = getNodeFromColumnIndex(row, columnIndex);
         setWasNull(value == null);
 
@@ -123,7 +144,7 @@ public class SparqlTriplesResultSet extends SparqlResultSet {
 
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
-        if (rows.isEmpty()) {
+        if (rows != null && rows.isEmpty()) {
             // TODO: AN-562 see other ways to address empty result lists
             final List<Object> emptyColumnTypes = new ArrayList<>();
             for (int i = 1; i <= 3; i++) {
@@ -164,4 +185,14 @@ public class SparqlTriplesResultSet extends SparqlResultSet {
         private final List<String> columns = TRIPLES_COLUMN_LIST;
         private final List<Object> columnTypes;
     }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final QueryExecution queryExecution;
+        private final List<Triple> sampleRows;
+        private final Iterator<Triple> remainingRows;
+        private final List<String> columns = TRIPLES_COLUMN_LIST;
+        private final List<Object> columnTypes;
+    }
 }
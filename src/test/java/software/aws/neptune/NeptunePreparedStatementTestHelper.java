@@ -96,7 +96,7 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
     public void testMisc() {
         Assertions.assertThrows(SQLFeatureNotSupportedException.class, preparedStatement::executeUpdate);
         Assertions.assertThrows(SQLFeatureNotSupportedException.class, preparedStatement::addBatch);
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class, preparedStatement::clearParameters);
+        Assertions.assertDoesNotThrow(preparedStatement::clearParameters);
         Assertions.assertThrows(SQLFeatureNotSupportedException.class, preparedStatement::getParameterMetaData);
     }
 
@@ -114,7 +114,7 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
                 () -> preparedStatement.setAsciiStream(0, null, (long) 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setAsciiStream(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setBigDecimal(0, null));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setBinaryStream(0, null, 0));
@@ -128,9 +128,9 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
                 () -> preparedStatement.setBlob(0, null, 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setBlob(0, (InputStream) null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setBoolean(0, false));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setByte(0, (byte) 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setBytes(0, null));
@@ -146,17 +146,17 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
                 () -> preparedStatement.setClob(0, null, 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setClob(0, (Reader) null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setDate(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setDate(0, null, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setDouble(0, 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setFloat(0, (float) 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setInt(0, 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setLong(0, 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setNCharacterStream(0, null, 0));
@@ -168,17 +168,17 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
                 () -> preparedStatement.setNClob(0, null, 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setNClob(0, (Reader) null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setNString(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setNull(0, 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setNull(0, 0, ""));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setObject(0, null, 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setObject(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setObject(0, null, 0, 0));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setRef(0, null));
@@ -186,17 +186,17 @@ public class NeptunePreparedStatementTestHelper extends NeptuneStatementTestHelp
                 () -> preparedStatement.setRowId(0, null));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setSQLXML(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setShort(0, (short) 0));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setString(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setTime(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setTime(0, null, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setTimestamp(0, null));
-        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+        Assertions.assertThrows(SQLException.class,
                 () -> preparedStatement.setTimestamp(0, null, null));
         Assertions.assertThrows(SQLFeatureNotSupportedException.class,
                 () -> preparedStatement.setURL(0, null));
@@ -0,0 +1,136 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.common.gremlindatamodel;
+
+import org.apache.calcite.util.Pair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
+import org.twilmes.sql.gremlin.adapter.converter.schema.calcite.GremlinSchema;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinEdgeTable;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinProperty;
+import org.twilmes.sql.gremlin.adapter.converter.schema.gremlin.GremlinVertexTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SchemaSnapshotTest {
+    private static final String ENDPOINT = "snapshot-endpoint";
+    private static final int PORT = 8182;
+
+    private static GremlinSchema getSchema() {
+        final GremlinVertexTable person = new GremlinVertexTable("person",
+                new ArrayList<>(Arrays.asList(new GremlinProperty("name", "string"),
+                        new GremlinProperty("age", "integer"))),
+                new ArrayList<>(Collections.singletonList("knows")),
+                new ArrayList<>(Collections.singletonList("knows")));
+        final GremlinEdgeTable knows = new GremlinEdgeTable("knows",
+                new ArrayList<>(Collections.singletonList(new GremlinProperty("since", "long"))),
+                new ArrayList<>(Collections.singletonList(new Pair<>("person", "person"))));
+        return new GremlinSchema(new ArrayList<>(Collections.singletonList(person)),
+                new ArrayList<>(Collections.singletonList(knows)));
+    }
+
+    private static String getFingerprint(final SqlSchemaGrabber.ScanType scanType) {
+        return SchemaSnapshot.fingerprint(ENDPOINT, PORT, MetadataCache.PathType.Gremlin, scanType,
+                SqlSchemaGrabber.DEFAULT_BATCHED);
+    }
+
+    @Test
+    void testRoundTrip(@TempDir final Path directory) {
+        final GremlinSchema schema = getSchema();
+        final Path file = SchemaSnapshot.getSnapshotFile(directory, ENDPOINT);
+        SchemaSnapshot.of(schema, getFingerprint(SqlSchemaGrabber.ScanType.All)).write(file);
+
+        final SchemaSnapshot snapshot = SchemaSnapshot.read(file);
+        Assertions.assertNotNull(snapshot);
+        Assertions.assertEquals(getFingerprint(SqlSchemaGrabber.ScanType.All), snapshot.getFingerprint());
+        Assertions.assertFalse(snapshot.isExpired(TimeUnit.HOURS.toMillis(1)));
+        Assertions.assertTrue(snapshot.isExpired(0));
+
+        final GremlinSchema loaded = snapshot.toGremlinSchema();
+        Assertions.assertEquals(1, loaded.getVertices().size());
+        Assertions.assertEquals(1, loaded.getEdges().size());
+        final GremlinVertexTable person = loaded.getVertices().get(0);
+        Assertions.assertEquals(schema.getVertices().get(0).getColumns().keySet(), person.getColumns().keySet());
+        Assertions.assertEquals("integer", person.getColumns().get("age").getType());
+        Assertions.assertEquals(Collections.singletonList("knows"), person.getInEdges());
+        final GremlinEdgeTable knows = loaded.getEdges().get(0);
+        Assertions.assertEquals(schema.getEdges().get(0).getColumns().keySet(), knows.getColumns().keySet());
+        Assertions.assertTrue(knows.hasInVertex("person"));
+    }
+
+    @Test
+    void testFingerprint() {
+        Assertions.assertEquals(getFingerprint(SqlSchemaGrabber.ScanType.All),
+                getFingerprint(SqlSchemaGrabber.ScanType.All));
+        Assertions.assertNotEquals(getFingerprint(SqlSchemaGrabber.ScanType.All),
+                getFingerprint(SqlSchemaGrabber.ScanType.First));
+        Assertions.assertNotEquals(
+                SchemaSnapshot.fingerprint(ENDPOINT, PORT, MetadataCache.PathType.Gremlin,
+                        SqlSchemaGrabber.ScanType.All, false),
+                SchemaSnapshot.fingerprint(ENDPOINT, PORT, MetadataCache.PathType.Gremlin,
+                        SqlSchemaGrabber.ScanType.All, true));
+    }
+
+    @Test
+    void testFailedWriteRemovesTemporaryFile(@TempDir final Path directory) throws IOException {
+        // The snapshot cannot be moved over a non-empty directory, so the write fails after the temporary file.
+        final Path file = SchemaSnapshot.getSnapshotFile(directory, ENDPOINT);
+        Files.createDirectories(file.resolve("child"));
+        SchemaSnapshot.of(getSchema(), getFingerprint(SqlSchemaGrabber.ScanType.All)).write(file);
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testInvalidSnapshot(@TempDir final Path directory) throws IOException {
+        final Path file = SchemaSnapshot.getSnapshotFile(directory, ENDPOINT);
+        Assertions.assertNull(SchemaSnapshot.read(file));
+        Files.write(file, "not a snapshot".getBytes());
+        Assertions.assertNull(SchemaSnapshot.read(file));
+    }
+
+    @Test
+    void testLoadSnapshot(@TempDir final Path directory) {
+        final String endpoint = ENDPOINT + "-load";
+        SchemaSnapshot.of(getSchema(),
+                SchemaSnapshot.fingerprint(endpoint, PORT, MetadataCache.PathType.Gremlin,
+                        SqlSchemaGrabber.ScanType.All, SqlSchemaGrabber.DEFAULT_BATCHED))
+                .write(SchemaSnapshot.getSnapshotFile(directory, endpoint));
+
+        // A snapshot taken with a different scan type is not used.
+        Assertions.assertFalse(MetadataCache.loadSnapshot(endpoint, PORT, false, false,
+                MetadataCache.PathType.Gremlin, SqlSchemaGrabber.ScanType.First, directory,
+                TimeUnit.HOURS.toMillis(1)));
+        Assertions.assertFalse(MetadataCache.isMetadataCached(endpoint));
+
+        Assertions.assertTrue(MetadataCache.loadSnapshot(endpoint, PORT, false, false,
+                MetadataCache.PathType.Gremlin, SqlSchemaGrabber.ScanType.All, directory,
+                TimeUnit.HOURS.toMillis(1)));
+        Assertions.assertTrue(MetadataCache.isMetadataCached(endpoint));
+        Assertions.assertEquals("person", MetadataCache.getGremlinSchema(endpoint).getVertices().get(0).getLabel());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static software.aws.neptune.gremlin.GremlinConnectionProperties.MAX_CONTENT_LENGTH_KEY;
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+public class GremlinClusterRegistryTest {
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 8181; // Mock server uses 8181.
+
+    /**
+     * Function to initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() throws IOException, InterruptedException {
+        MockGremlinDatabase.startGraph();
+    }
+
+    /**
+     * Function to shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() throws IOException, InterruptedException {
+        MockGremlinDatabase.stopGraph();
+    }
+
+    @AfterEach
+    void resetIdleTimeout() {
+        GremlinClusterRegistry.setIdleTimeoutMillis(GremlinClusterRegistry.DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void testClientSharedBetweenConnections() throws SQLException {
+        final GremlinConnectionProperties properties = new GremlinConnectionProperties(getProperties(HOSTNAME, PORT));
+        final java.sql.Connection connection1 = new GremlinConnection(properties);
+        final java.sql.Connection connection2 = new GremlinConnection(properties);
+        connection1.createStatement().executeQuery("g.inject(1)");
+        final long reuseCount = GremlinClusterRegistry.getReuseCount(properties);
+        connection2.createStatement().executeQuery("g.inject(1)");
+        Assertions.assertEquals(reuseCount + 1, GremlinClusterRegistry.getReuseCount(properties));
+        Assertions.assertSame(GremlinClusterRegistry.getClient(properties),
+                GremlinClusterRegistry.getClient(properties));
+
+        // Cluster is kept while a connection holds a reference, even once idle.
+        GremlinClusterRegistry.setIdleTimeoutMillis(0);
+        connection1.close();
+        GremlinClusterRegistry.evictIdle();
+        Assertions.assertTrue(GremlinClusterRegistry.getReuseCount(properties) > 0);
+
+        connection2.close();
+        GremlinClusterRegistry.evictIdle();
+        Assertions.assertEquals(0, GremlinClusterRegistry.getReuseCount(properties));
+    }
+
+    @Test
+    void testConcurrentCallsShareCreatedClient() throws Exception {
+        final Properties concurrentProperties = getProperties(HOSTNAME, PORT);
+        concurrentProperties.put(MAX_CONTENT_LENGTH_KEY, 2 * 1024 * 1024);
+        final GremlinConnectionProperties properties = new GremlinConnectionProperties(concurrentProperties);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Client>> clients = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                clients.add(executor.submit(() -> GremlinClusterRegistry.getClient(properties)));
+            }
+            // Callers arriving while the cluster is created wait for it instead of creating their own.
+            final Client client = clients.get(0).get(30, TimeUnit.SECONDS);
+            for (final Future<Client> other : clients) {
+                Assertions.assertSame(client, other.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDifferentPropertiesUseDifferentClients() throws SQLException {
+        final Properties otherProperties = getProperties(HOSTNAME, PORT);
+        otherProperties.put(MAX_CONTENT_LENGTH_KEY, 1024 * 1024);
+        final GremlinConnectionProperties properties1 =
+                new GremlinConnectionProperties(getProperties(HOSTNAME, PORT));
+        final GremlinConnectionProperties properties2 = new GremlinConnectionProperties(otherProperties);
+        final java.sql.Connection connection1 = new GremlinConnection(properties1);
+        final java.sql.Connection connection2 = new GremlinConnection(properties2);
+
+        final Client client1 = GremlinClusterRegistry.getClient(properties1);
+        final Client client2 = GremlinClusterRegistry.getClient(properties2);
+        Assertions.assertNotSame(client1, client2);
+        // Using one endpoint's cluster does not evict the other.
+        Assertions.assertSame(client1, GremlinClusterRegistry.getClient(properties1));
+        Assertions.assertSame(client2, GremlinClusterRegistry.getClient(properties2));
+
+        connection1.close();
+        connection2.close();
+    }
+}
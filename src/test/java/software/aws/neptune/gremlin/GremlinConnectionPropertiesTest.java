@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.twilmes.sql.gremlin.adapter.converter.schema.SqlSchemaGrabber;
 import software.aws.neptune.ConnectionPropertiesTestBase;
 import software.aws.neptune.jdbc.helpers.HelperFunctions;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
@@ -122,6 +123,46 @@ class GremlinConnectionPropertiesTest extends ConnectionPropertiesTestBase {
         Assertions.assertEquals(AuthScheme.None, connectionProperties.getAuthScheme());
     }
 
+    @Test
+    void testScanType() throws SQLException {
+        final Properties properties = new Properties();
+        properties.put(ConnectionProperties.SCAN_TYPE_KEY, "sample(500)");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.sample(500), connectionProperties.getScanType());
+
+        properties.put(ConnectionProperties.SCAN_TYPE_KEY, "TimeBudget");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(
+                SqlSchemaGrabber.ScanType.timeBudget(SqlSchemaGrabber.ScanType.DEFAULT_TIME_BUDGET_MILLIS),
+                connectionProperties.getScanType());
+
+        properties.put(ConnectionProperties.SCAN_TYPE_KEY, "first");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(SqlSchemaGrabber.ScanType.First, connectionProperties.getScanType());
+
+        properties.put(ConnectionProperties.SCAN_TYPE_KEY, "sample(0)");
+        assertThrowsOnNewConnectionProperties(properties);
+        properties.put(ConnectionProperties.SCAN_TYPE_KEY, "first(2)");
+        assertThrowsOnNewConnectionProperties(properties);
+    }
+
+    @Test
+    void testSchemaScanConcurrency() throws SQLException {
+        assertDoesNotThrowOnNewConnectionProperties(new Properties());
+        Assertions.assertEquals(ConnectionProperties.DEFAULT_SCHEMA_SCAN_CONCURRENCY,
+                connectionProperties.getSchemaScanConcurrency());
+
+        final Properties properties = new Properties();
+        properties.put(ConnectionProperties.SCHEMA_SCAN_CONCURRENCY_KEY, "4");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(4, connectionProperties.getSchemaScanConcurrency());
+
+        properties.put(ConnectionProperties.SCHEMA_SCAN_CONCURRENCY_KEY, "0");
+        assertThrowsOnNewConnectionProperties(properties);
+        properties.put(ConnectionProperties.SCHEMA_SCAN_CONCURRENCY_KEY, "-1");
+        assertThrowsOnNewConnectionProperties(properties);
+    }
+
     @Test
     void testContactPoint() throws SQLException {
         testStringPropertyViaConstructor(
@@ -23,15 +23,19 @@ import org.junit.jupiter.api.Test;
 import software.aws.neptune.gremlin.GremlinConnection;
 import software.aws.neptune.gremlin.GremlinConnectionProperties;
 import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+import software.aws.neptune.jdbc.NeptuneStatement;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import static software.aws.neptune.gremlin.GremlinHelper.createVertex;
 import static software.aws.neptune.gremlin.GremlinHelper.dropVertex;
 import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
 import static software.aws.neptune.gremlin.GremlinHelper.getVertex;
+import static software.aws.neptune.gremlin.GremlinHelper.getVertexQuery;
 
 class GremlinResultSetTest {
     private static final String HOSTNAME = "localhost";
@@ -180,5 +184,152 @@ class GremlinResultSetTest {
 
         Assertions.assertEquals(VERTEX_PROPERTIES_MAP.keySet().size(), unnamedColumnsFound);
     }
-}
 
+    @Test
+    void testStreamedScalarResults() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        // Fetch size smaller than the number of results so that multiple batches are read from the stream.
+        statement.setFetchSize(2);
+        final GremlinResultSet scalarResultSet = (GremlinResultSet) statement
+                .executeQuery(String.format("g.V().hasLabel('%s').properties().key()", VERTEX));
+        Assertions.assertNotNull(scalarResultSet);
+        Assertions.assertEquals(2, scalarResultSet.getFetchSize());
+        Assertions.assertThrows(SQLException.class, scalarResultSet::isLast);
+
+        final int col = scalarResultSet.findColumn("_col0");
+        int rowsFound = 0;
+        Assertions.assertTrue(scalarResultSet.isBeforeFirst());
+        Assertions.assertEquals(0, scalarResultSet.getRow());
+        while (scalarResultSet.next()) {
+            // The row position carries on across batches.
+            Assertions.assertEquals(rowsFound + 1, scalarResultSet.getRow());
+            Assertions.assertEquals(rowsFound == 0, scalarResultSet.isFirst());
+            Assertions.assertFalse(scalarResultSet.isBeforeFirst());
+            Assertions.assertTrue(VERTEX_PROPERTIES_MAP.containsKey(scalarResultSet.getString(col)));
+            rowsFound++;
+        }
+
+        Assertions.assertEquals(VERTEX_PROPERTIES_MAP.keySet().size(), rowsFound);
+        Assertions.assertFalse(scalarResultSet.next());
+        Assertions.assertFalse(scalarResultSet.isBeforeFirst());
+        Assertions.assertFalse(scalarResultSet.isFirst());
+    }
+
+    @Test
+    void testStreamedMapResult() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(1);
+        final java.sql.ResultSet streamedResultSet = statement
+                .executeQuery(getVertexQuery(VERTEX));
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertEquals(VERTEX_PROPERTIES_MAP.get("name"),
+                streamedResultSet.getString(streamedResultSet.findColumn("name")));
+        Assertions.assertFalse(streamedResultSet.next());
+    }
+
+    @Test
+    void testStreamedColumnNullInFirstBatch() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(1);
+        final java.sql.ResultSet streamedResultSet = statement
+                .executeQuery("g.inject([name: null, id: 1], [name: 'Mars', id: 2])");
+        final int nameCol = streamedResultSet.findColumn("name");
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertNull(streamedResultSet.getString(nameCol));
+        Assertions.assertTrue(streamedResultSet.wasNull());
+
+        // The column only had nulls in the first batch, later values are still read.
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertEquals("Mars", streamedResultSet.getString(nameCol));
+        Assertions.assertFalse(streamedResultSet.next());
+    }
+
+    @Test
+    void testWidenedColumnTypes() throws SQLException {
+        final java.sql.ResultSet widenedResultSet = connection.createStatement()
+                .executeQuery("g.inject(1, 2L).project('number', 'mixed')"
+                        + ".by(identity()).by(choose(is(1), constant('one'), identity()))");
+        final int numberCol = widenedResultSet.findColumn("number");
+        final int mixedCol = widenedResultSet.findColumn("mixed");
+        Assertions.assertEquals(Types.BIGINT, widenedResultSet.getMetaData().getColumnType(numberCol));
+        Assertions.assertEquals(Types.VARCHAR, widenedResultSet.getMetaData().getColumnType(mixedCol));
+
+        Assertions.assertTrue(widenedResultSet.next());
+        Assertions.assertEquals(1L, widenedResultSet.getObject(numberCol));
+        Assertions.assertEquals("one", widenedResultSet.getString(mixedCol));
+        Assertions.assertTrue(widenedResultSet.next());
+        Assertions.assertEquals(2L, widenedResultSet.getObject(numberCol));
+        Assertions.assertEquals("2", widenedResultSet.getString(mixedCol));
+        Assertions.assertFalse(widenedResultSet.next());
+    }
+
+    @Test
+    void testScalarColumnTypes() throws SQLException {
+        // Materialized scalars each get their own column.
+        final java.sql.ResultSet materializedResultSet = connection.createStatement().executeQuery("g.inject(1, 2L)");
+        Assertions.assertEquals(Types.INTEGER,
+                materializedResultSet.getMetaData().getColumnType(materializedResultSet.findColumn("_col0")));
+        Assertions.assertEquals(Types.BIGINT,
+                materializedResultSet.getMetaData().getColumnType(materializedResultSet.findColumn("_col1")));
+
+        // Streamed scalars share one column, widened across the first batch.
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(2);
+        final java.sql.ResultSet streamedResultSet = statement.executeQuery("g.inject(1, 2L)");
+        final int col = streamedResultSet.findColumn("_col0");
+        Assertions.assertEquals(1, streamedResultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(Types.BIGINT, streamedResultSet.getMetaData().getColumnType(col));
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertEquals(1L, streamedResultSet.getObject(col));
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertEquals(2L, streamedResultSet.getObject(col));
+        Assertions.assertFalse(streamedResultSet.next());
+    }
+
+    @Test
+    void testExecuteQueryAsync() throws Exception {
+        final NeptuneStatement statement = connection.createStatement().unwrap(NeptuneStatement.class);
+        final java.sql.ResultSet asyncResultSet = statement.executeQueryAsync("g.V().count()").get();
+        Assertions.assertTrue(asyncResultSet.next());
+        Assertions.assertEquals(1, asyncResultSet.getLong(asyncResultSet.findColumn("_col0")));
+        Assertions.assertFalse(asyncResultSet.next());
+
+        // The statement runs the next query once the previous one completed.
+        statement.setFetchSize(1);
+        final java.sql.ResultSet streamedResultSet = statement.executeQueryAsync(getVertexQuery(VERTEX)).get();
+        Assertions.assertTrue(streamedResultSet.next());
+        Assertions.assertEquals(VERTEX_PROPERTIES_MAP.get("name"),
+                streamedResultSet.getString(streamedResultSet.findColumn("name")));
+        Assertions.assertFalse(streamedResultSet.next());
+    }
+
+    @Test
+    void testPreparedStatementBindings() throws SQLException {
+        final java.sql.PreparedStatement statement = connection.prepareStatement("g.V().hasLabel(?).values(?)");
+        statement.setString(1, VERTEX);
+        statement.setString(2, "name");
+        final java.sql.ResultSet preparedResultSet = statement.executeQuery();
+        Assertions.assertTrue(preparedResultSet.next());
+        Assertions.assertEquals(VERTEX_PROPERTIES_MAP.get("name"),
+                preparedResultSet.getString(preparedResultSet.findColumn("_col0")));
+        Assertions.assertFalse(preparedResultSet.next());
+
+        // The same prepared query runs again with other values bound.
+        statement.setString(2, "continents");
+        final java.sql.ResultSet reboundResultSet = statement.executeQuery();
+        Assertions.assertTrue(reboundResultSet.next());
+        Assertions.assertEquals(VERTEX_PROPERTIES_MAP.get("continents"),
+                reboundResultSet.getInt(reboundResultSet.findColumn("_col0")));
+
+        statement.clearParameters();
+        Assertions.assertThrows(SQLException.class, statement::executeQuery);
+    }
+
+    @Test
+    void testExecuteQueryAsyncFailure() {
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> connection.createStatement().unwrap(NeptuneStatement.class)
+                        .executeQueryAsync("g.V().notAStep()").get());
+        Assertions.assertTrue(exception.getCause() instanceof SQLException);
+    }
+}
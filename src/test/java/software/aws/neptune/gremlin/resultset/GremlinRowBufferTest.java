@@ -0,0 +1,112 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.Date;
+
+class GremlinRowBufferTest {
+    @Test
+    void testTypedColumns() {
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
+        final Date date = new Date(0);
+        for (int i = 0; i < 100; i++) {
+            rows.addRow();
+            rows.set("int", i);
+            rows.set("long", (long) i);
+            rows.set("short", (short) i);
+            rows.set("float", i + 0.5f);
+            rows.set("double", i + 0.25);
+            rows.set("boolean", i % 2 == 0);
+            rows.set("string", "value" + (i % 3));
+            rows.set("date", date);
+        }
+
+        Assertions.assertEquals(100, rows.size());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, rows.get(i, rows.getColumnIndex("int")));
+            Assertions.assertEquals((long) i, rows.get(i, rows.getColumnIndex("long")));
+            Assertions.assertEquals((short) i, rows.get(i, rows.getColumnIndex("short")));
+            Assertions.assertEquals(i + 0.5f, rows.get(i, rows.getColumnIndex("float")));
+            Assertions.assertEquals(i + 0.25, rows.get(i, rows.getColumnIndex("double")));
+            Assertions.assertEquals(i % 2 == 0, rows.get(i, rows.getColumnIndex("boolean")));
+            Assertions.assertEquals("value" + (i % 3), rows.get(i, rows.getColumnIndex("string")));
+            Assertions.assertEquals(date, rows.get(i, rows.getColumnIndex("date")));
+        }
+    }
+
+    @Test
+    void testNullValues() {
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
+        rows.addRow();
+        rows.set("a", 1L);
+        rows.addRow();
+        rows.set("a", null);
+        rows.set("b", "late");
+        rows.set("c", null);
+        rows.addRow();
+
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals(-1, rows.getColumnIndex("d"));
+        Assertions.assertNull(rows.get(0, rows.getColumnIndex("d")));
+        // Columns set only with nulls are still added, so values can be set for them later.
+        Assertions.assertTrue(rows.getColumnIndex("c") >= 0);
+        Assertions.assertNull(rows.get(1, rows.getColumnIndex("c")));
+        rows.set(rows.getColumnIndex("c"), "set");
+        Assertions.assertEquals("set", rows.get(2, rows.getColumnIndex("c")));
+        Assertions.assertEquals(1L, rows.get(0, rows.getColumnIndex("a")));
+        Assertions.assertNull(rows.get(1, rows.getColumnIndex("a")));
+        Assertions.assertNull(rows.get(2, rows.getColumnIndex("a")));
+        Assertions.assertNull(rows.get(0, rows.getColumnIndex("b")));
+        Assertions.assertEquals("late", rows.get(1, rows.getColumnIndex("b")));
+        Assertions.assertNull(rows.get(2, rows.getColumnIndex("b")));
+    }
+
+    @Test
+    void testMixedColumn() {
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
+        final Object[] values = {1, "two", 3L, null, 4.5, true, "two"};
+        for (final Object value : values) {
+            rows.addRow();
+            rows.set("mixed", value);
+        }
+
+        final int column = rows.getColumnIndex("mixed");
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(values[i], rows.get(i, column));
+        }
+    }
+
+    @Test
+    void testClear() {
+        final GremlinRowBuffer rows = new GremlinRowBuffer();
+        rows.addRow();
+        rows.set("a", "first");
+        rows.set("b", 1);
+        final int columnA = rows.getColumnIndex("a");
+        final int columnB = rows.getColumnIndex("b");
+
+        rows.clear();
+        Assertions.assertEquals(0, rows.size());
+        Assertions.assertEquals(columnA, rows.getColumnIndex("a"));
+        rows.addRow();
+        rows.set(columnA, "second");
+        Assertions.assertEquals("second", rows.get(0, columnA));
+        Assertions.assertNull(rows.get(0, columnB));
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import software.aws.neptune.jdbc.helpers.HelperFunctions;
 import software.aws.neptune.jdbc.mock.MockConnection;
 import software.aws.neptune.jdbc.mock.MockPreparedStatement;
+import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.opencypher.OpenCypherConnectionProperties;
 import java.io.InputStream;
 import java.io.Reader;
@@ -28,6 +29,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.sql.Types;
 
 /**
  * Test for abstract PreparedStatement Object.
@@ -53,10 +55,29 @@ public class PreparedStatementTest {
     @Test
     void testMisc() {
         HelperFunctions.expectFunctionThrows(() -> preparedStatement.addBatch());
-        HelperFunctions.expectFunctionThrows(() -> preparedStatement.clearParameters());
+        HelperFunctions.expectFunctionDoesntThrow(() -> preparedStatement.clearParameters());
         HelperFunctions.expectFunctionThrows(() -> preparedStatement.getParameterMetaData());
     }
 
+    @Test
+    void testParameters() throws SQLException {
+        final java.sql.PreparedStatement parameterizedStatement =
+                new MockPreparedStatement(connection, "g.V().has(?, ?)");
+        HelperFunctions.expectFunctionDoesntThrow(() -> parameterizedStatement.setString(1, "name"));
+        HelperFunctions.expectFunctionDoesntThrow(() -> parameterizedStatement.setInt(2, 1));
+        HelperFunctions.expectFunctionDoesntThrow(() -> parameterizedStatement.setNull(2, Types.INTEGER));
+        HelperFunctions.expectFunctionThrows(SqlError.lookup(SqlError.INVALID_PARAMETER_INDEX, 3, 2),
+                () -> parameterizedStatement.setInt(3, 1));
+
+        // The mock executor, like the SQL executor, does not support parameters.
+        HelperFunctions.expectFunctionThrows(SqlError.PARAMETERS_NOT_SUPPORTED, parameterizedStatement::executeQuery);
+        parameterizedStatement.clearParameters();
+        // Without parameter values the query runs as written.
+        HelperFunctions.expectFunctionDoesntThrow(parameterizedStatement::executeQuery);
+        parameterizedStatement.close();
+        HelperFunctions.expectFunctionThrows(() -> parameterizedStatement.setInt(1, 1));
+    }
+
     @Test
     void testSet() {
         HelperFunctions.expectFunctionThrows(() -> preparedStatement.setArray(0, null));
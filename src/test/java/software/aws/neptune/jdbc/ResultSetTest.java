@@ -16,6 +16,8 @@
 
 package software.aws.neptune.jdbc;
 
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.aws.neptune.jdbc.helpers.HelperFunctions;
@@ -28,8 +30,10 @@ import java.io.Reader;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -325,4 +329,90 @@ public class ResultSetTest {
         HelperFunctions.expectFunctionDoesntThrow(() -> resultSet.clearWarnings());
         HelperFunctions.expectFunctionDoesntThrow(() -> resultSet.getWarnings(), null);
     }
+
+    @Test
+    void testPrimitiveGetters() throws SQLException {
+        final List<List<Object>> rows = ImmutableList.of(
+                ImmutableList.of(1, 2L, true, (byte) 3),
+                ImmutableList.of(4L, (short) 5, false, 6.5));
+        final java.sql.ResultSet rowResultSet = new RowResultSet(statement, rows);
+
+        Assertions.assertTrue(rowResultSet.next());
+        Assertions.assertEquals(1L, rowResultSet.getLong(1));
+        Assertions.assertEquals(1.0, rowResultSet.getDouble(1));
+        Assertions.assertEquals(2, rowResultSet.getInt(2));
+        Assertions.assertEquals(2.0f, rowResultSet.getFloat(2));
+        Assertions.assertTrue(rowResultSet.getBoolean(3));
+        Assertions.assertEquals(3, rowResultSet.getInt(4));
+        Assertions.assertEquals("3", rowResultSet.getString(4));
+        Assertions.assertEquals("1", rowResultSet.getString(1));
+
+        // The classes of the values in columns 2 and 4 change on this row.
+        Assertions.assertTrue(rowResultSet.next());
+        Assertions.assertEquals(4, rowResultSet.getInt(1));
+        Assertions.assertEquals((byte) 5, rowResultSet.getByte(2));
+        Assertions.assertEquals(5L, rowResultSet.getLong(2));
+        Assertions.assertFalse(rowResultSet.getBoolean(3));
+        Assertions.assertEquals(6.5, rowResultSet.getDouble(4));
+        Assertions.assertEquals(6, rowResultSet.getInt(4));
+        Assertions.assertEquals("6.5", rowResultSet.getString(4));
+        Assertions.assertFalse(rowResultSet.next());
+    }
+
+    @Test
+    void testPrimitiveGettersNull() throws SQLException {
+        final List<Object> row = new java.util.ArrayList<>();
+        row.add(null);
+        final java.sql.ResultSet rowResultSet = new RowResultSet(statement, ImmutableList.of(row));
+
+        Assertions.assertTrue(rowResultSet.next());
+        Assertions.assertFalse(rowResultSet.getBoolean(1));
+        Assertions.assertEquals(0, rowResultSet.getByte(1));
+        Assertions.assertEquals(0, rowResultSet.getShort(1));
+        Assertions.assertEquals(0, rowResultSet.getInt(1));
+        Assertions.assertEquals(0L, rowResultSet.getLong(1));
+        Assertions.assertEquals(0.0f, rowResultSet.getFloat(1));
+        Assertions.assertEquals(0.0, rowResultSet.getDouble(1));
+    }
+
+    /**
+     * ResultSet over fixed rows of values.
+     */
+    private static class RowResultSet extends ResultSet {
+        private final List<List<Object>> rows;
+
+        RowResultSet(final java.sql.Statement statement, final List<List<Object>> rows) {
+            super(statement, ImmutableList.of("a", "b", "c", "d").subList(0, rows.get(0).size()), rows.size());
+            this.rows = rows;
+        }
+
+        @Override
+        protected void doClose() {
+        }
+
+        @Override
+        protected int getDriverFetchSize() {
+            return 0;
+        }
+
+        @Override
+        protected void setDriverFetchSize(final int rows) {
+        }
+
+        @Override
+        protected Object getConvertedValue(final int columnIndex) throws SQLException {
+            verifyOpen();
+            return rows.get(getRowIndex()).get(columnIndex - 1);
+        }
+
+        @Override
+        protected ResultSetMetaData getResultMetadata() {
+            return null;
+        }
+
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+    }
 }
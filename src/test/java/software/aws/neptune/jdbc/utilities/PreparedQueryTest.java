@@ -0,0 +1,115 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.jdbc.utilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.helpers.HelperFunctions;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PreparedQueryTest {
+    @Test
+    void testPlaceholders() {
+        final PreparedQuery query = PreparedQuery.parse("g.V().has('name', ?).has(\"age\", gt(?)).limit(?)",
+                PreparedQuery.Syntax.GROOVY);
+        Assertions.assertEquals(3, query.getParameterCount());
+        Assertions.assertEquals("g.V().has('name', _p1).has(\"age\", gt(_p2)).limit(_p3)", query.getQuery("_p"));
+        Assertions.assertEquals("g.V().has('name', ?).has(\"age\", gt(?)).limit(?)", query.getQuery());
+        Assertions.assertEquals(0, getParameterCount(null, PreparedQuery.Syntax.SQL));
+    }
+
+    @Test
+    void testIgnoredQuestionMarks() {
+        Assertions.assertEquals(0, getParameterCount("g.V().has('name', 'who?')", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V().has(\"name\", \"\\\"?\")", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V().has('''it's?''')", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V() // why?\n", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V() /* why? */", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("MATCH (n) RETURN n.`what?`", PreparedQuery.Syntax.CYPHER));
+        Assertions.assertEquals(0, getParameterCount("MATCH (n) // why?\nRETURN n", PreparedQuery.Syntax.CYPHER));
+        Assertions.assertEquals(0, getParameterCount("SELECT 1 -- why?\n", PreparedQuery.Syntax.SQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT \"why?\" FROM t", PreparedQuery.Syntax.SQL));
+    }
+
+    @Test
+    void testGroovyOperators() {
+        Assertions.assertEquals(0, getParameterCount("g.V().map { it.get() ? 1 : 0 }", PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V().map { it.get()?.value('a') }",
+                PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("g.V().map { it.get().value('a') ?: 0 }",
+                PreparedQuery.Syntax.GROOVY));
+        Assertions.assertEquals(0, getParameterCount("x = [1]; x?[0]", PreparedQuery.Syntax.GROOVY));
+
+        final PreparedQuery query = PreparedQuery.parse("g.V().map { it.get() ? ? : 'none' }.limit(?)",
+                PreparedQuery.Syntax.GROOVY);
+        Assertions.assertEquals("g.V().map { it.get() ? _p1 : 'none' }.limit(_p2)", query.getQuery("_p"));
+    }
+
+    @Test
+    void testSparql() {
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s ?p ?o WHERE { ?s ?p ?o }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s ?o WHERE { ?s :p? ?o }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s ?o WHERE { ?s :p?/:q ?o }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s ?o WHERE { ?s (:p|<http://ex.org/q>)? ?o }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s ?o WHERE { ?s <http://ex.org/p>? ?o }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s WHERE { ?s ?p <http://ex.org/o?a=1> }",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s WHERE { ?s ?p ?o } # why?",
+                PreparedQuery.Syntax.SPARQL));
+        Assertions.assertEquals(0, getParameterCount("SELECT ?s WHERE { ?s ?p \"\"\"why?\"\"\" }",
+                PreparedQuery.Syntax.SPARQL));
+
+        final PreparedQuery query = PreparedQuery.parse("SELECT ?s WHERE { ?s ?p ? } # ?s",
+                PreparedQuery.Syntax.SPARQL);
+        Assertions.assertEquals(1, query.getParameterCount());
+        Assertions.assertEquals("SELECT ?s WHERE { ?s ?p ?_p1 } # ?s", query.getQuery("?_p"));
+
+        // The // of an IRI does not start a comment, so placeholders after it are found.
+        final PreparedQuery iriQuery = PreparedQuery.parse(
+                "SELECT ?o WHERE { <http://ex.org/s> ?p ?o FILTER(?o < ?) }", PreparedQuery.Syntax.SPARQL);
+        Assertions.assertEquals("SELECT ?o WHERE { <http://ex.org/s> ?p ?o FILTER(?o < ?_p1) }",
+                iriQuery.getQuery("?_p"));
+    }
+
+    @Test
+    void testParameters() {
+        final PreparedQuery query = PreparedQuery.parse("MATCH (n {name: ?, age: ?}) RETURN n",
+                PreparedQuery.Syntax.CYPHER);
+        Assertions.assertEquals("MATCH (n {name: $p1, age: $p2}) RETURN n", query.getQuery("$p"));
+
+        final Map<Integer, Object> values = new HashMap<>();
+        values.put(1, "Earth");
+        HelperFunctions.expectFunctionThrows(SqlError.lookup(SqlError.PARAMETER_NOT_SET, 2),
+                () -> query.getParameters(values, "p"));
+
+        values.put(2, null);
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("p1", "Earth");
+        expected.put("p2", null);
+        HelperFunctions.expectFunctionDoesntThrow(() -> query.getParameters(values, "p"), expected);
+    }
+
+    private static int getParameterCount(final String query, final PreparedQuery.Syntax syntax) {
+        return PreparedQuery.parse(query, syntax).getParameterCount();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.jdbc.utilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.helpers.HelperFunctions;
+import software.aws.neptune.jdbc.mock.MockQueryExecutor;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class QueryExecutorTest {
+    @Test
+    void testQueryTimeout() {
+        final BlockingQueryExecutor queryExecutor = new BlockingQueryExecutor();
+        queryExecutor.setQueryTimeout(1);
+        final long start = System.nanoTime();
+        final SQLException e = Assertions.assertThrows(SQLException.class,
+                () -> queryExecutor.runCancellableQuery(null, null, "query"));
+        Assertions.assertTrue(e instanceof SQLTimeoutException);
+        Assertions.assertEquals(SqlState.TIMEOUT_EXPIRED.getSqlState(), e.getSQLState());
+        Assertions.assertEquals(0, queryExecutor.cancelled.getCount());
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+
+        // The executor can run the next query once the timed out one is done.
+        Assertions.assertThrows(SQLTimeoutException.class,
+                () -> queryExecutor.runCancellableQuery(null, null, "query"));
+    }
+
+    @Test
+    void testNoQueryTimeout() {
+        final MockQueryExecutor queryExecutor = new MockQueryExecutor();
+        Assertions.assertFalse(queryExecutor.isQueryTimeoutSet());
+        queryExecutor.setQueryTimeout(0);
+        Assertions.assertFalse(queryExecutor.isQueryTimeoutSet());
+        queryExecutor.setQueryTimeout(5);
+        Assertions.assertTrue(queryExecutor.isQueryTimeoutSet());
+        Assertions.assertEquals(5000, queryExecutor.getQueryTimeoutMillis());
+    }
+
+    @Test
+    void testAsyncQueriesBounded() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        QueryExecutor.configureAsyncExecutor(1, 1);
+        try {
+            final CompletableFuture<java.sql.ResultSet> running =
+                    new ReleasedQueryExecutor(release).runCancellableQueryAsync(null, null, "query");
+            final CompletableFuture<java.sql.ResultSet> queued =
+                    new ReleasedQueryExecutor(release).runCancellableQueryAsync(null, null, "query");
+
+            // The thread is busy and the queue is full, so the next query is rejected rather than given a thread.
+            final ReleasedQueryExecutor rejectedExecutor = new ReleasedQueryExecutor(release);
+            HelperFunctions.expectFunctionThrows(SqlError.lookup(SqlError.ASYNC_QUEUE_FULL, 1),
+                    () -> rejectedExecutor.runCancellableQueryAsync(null, null, "query"));
+
+            release.countDown();
+            Assertions.assertThrows(Exception.class, () -> running.get(30, TimeUnit.SECONDS));
+            Assertions.assertThrows(Exception.class, () -> queued.get(30, TimeUnit.SECONDS));
+
+            // The rejected executor did not keep its query in progress.
+            Assertions.assertThrows(Exception.class,
+                    () -> rejectedExecutor.runCancellableQueryAsync(null, null, "query").get(30, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            QueryExecutor.configureAsyncExecutor(QueryExecutor.DEFAULT_ASYNC_MAX_THREADS,
+                    QueryExecutor.DEFAULT_ASYNC_MAX_QUEUED);
+        }
+    }
+
+    /**
+     * Query executor whose queries fail once they are released.
+     */
+    private static class ReleasedQueryExecutor extends MockQueryExecutor {
+        private final CountDownLatch release;
+
+        ReleasedQueryExecutor(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected <T> T runQuery(final String query) throws SQLException {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SQLException("Query was released.");
+        }
+    }
+
+    /**
+     * Query executor whose queries only finish when they are cancelled.
+     */
+    private static class BlockingQueryExecutor extends MockQueryExecutor {
+        private volatile CountDownLatch cancelled = new CountDownLatch(1);
+
+        @Override
+        protected <T> T runQuery(final String query) throws SQLException {
+            cancelled = new CountDownLatch(1);
+            try {
+                if (!cancelled.await(30, TimeUnit.SECONDS)) {
+                    Assertions.fail("Query was not cancelled by the query timeout.");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SQLException("Query was cancelled.");
+        }
+
+        @Override
+        protected void performCancel() {
+            cancelled.countDown();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright <2022> Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.ConnectionProperties;
+import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import software.aws.neptune.opencypher.mock.MockOpenCypherNodes;
+import software.aws.neptune.opencypher.resultset.OpenCypherResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+public class OpenCypherDriverRegistryTest {
+    private static final String HOSTNAME = "localhost";
+    private static final Properties PROPERTIES = new Properties();
+    private static MockOpenCypherDatabase database;
+
+    /**
+     * Function to get a random available port and initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() {
+        database = MockOpenCypherDatabase.builder(HOSTNAME, OpenCypherDriverRegistryTest.class.getName())
+                .withNode(MockOpenCypherNodes.LYNDON)
+                .build();
+        PROPERTIES.put(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://%s:%d", HOSTNAME, database.getPort()));
+        PROPERTIES.put(ConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None);
+    }
+
+    /**
+     * Function to get a shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() {
+        database.shutdown();
+    }
+
+    @AfterEach
+    void resetIdleTimeout() {
+        OpenCypherDriverRegistry.setIdleTimeoutMillis(OpenCypherDriverRegistry.DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void testDriverSharedBetweenConnections() throws SQLException {
+        final OpenCypherConnectionProperties properties = new OpenCypherConnectionProperties(PROPERTIES);
+        final java.sql.Connection connection1 = new OpenCypherConnection(properties);
+        final java.sql.Connection connection2 = new OpenCypherConnection(properties);
+        connection1.createStatement().executeQuery("RETURN 1").close();
+        final long reuseCount = OpenCypherDriverRegistry.getReuseCount(properties);
+        connection2.createStatement().executeQuery("RETURN 1").close();
+        Assertions.assertEquals(reuseCount + 1, OpenCypherDriverRegistry.getReuseCount(properties));
+
+        // Validation goes through the shared driver rather than building a new one.
+        Assertions.assertTrue(connection1.isValid(1));
+        Assertions.assertEquals(reuseCount + 2, OpenCypherDriverRegistry.getReuseCount(properties));
+
+        // Driver is kept while a connection holds a reference, even once idle.
+        OpenCypherDriverRegistry.setIdleTimeoutMillis(0);
+        connection1.close();
+        OpenCypherDriverRegistry.runMaintenance();
+        Assertions.assertTrue(OpenCypherDriverRegistry.getReuseCount(properties) > 0);
+
+        connection2.close();
+        OpenCypherDriverRegistry.runMaintenance();
+        Assertions.assertEquals(0, OpenCypherDriverRegistry.getReuseCount(properties));
+    }
+
+    @Test
+    void testRetiredDriverKeptWhileSessionOpen() throws SQLException {
+        final OpenCypherConnectionProperties properties = new OpenCypherConnectionProperties(PROPERTIES);
+        final OpenCypherDriverRegistry.DriverLease driverLease = OpenCypherDriverRegistry.acquire(properties);
+        final Session session = driverLease.getDriver().session();
+        try {
+            OpenCypherDriverRegistry.refresh(properties);
+            OpenCypherDriverRegistry.refresh(properties);
+            Assertions.assertNotSame(driverLease.getDriver(), OpenCypherDriverRegistry.getDriver(properties));
+
+            // Only the driver with an open session outlives the refreshes, and the session can still read from it.
+            Assertions.assertEquals(1, OpenCypherDriverRegistry.getRetiredCount(properties));
+            Assertions.assertEquals(1, session.run("RETURN 1").single().get(0).asInt());
+        } finally {
+            session.close();
+            driverLease.close();
+        }
+        Assertions.assertEquals(0, OpenCypherDriverRegistry.getRetiredCount(properties));
+    }
+
+    @Test
+    void testLeaseReleasedWhenConsumeFails() throws SQLException {
+        final OpenCypherConnectionProperties properties = new OpenCypherConnectionProperties(PROPERTIES);
+        final OpenCypherDriverRegistry.DriverLease driverLease = OpenCypherDriverRegistry.acquire(properties);
+        final Session session = Mockito.mock(Session.class);
+        final Result result = Mockito.mock(Result.class);
+        Mockito.when(result.consume()).thenThrow(new ServiceUnavailableException("Connection lost."));
+        final java.sql.ResultSet resultSet = new OpenCypherResultSet(null,
+                new OpenCypherResultSet.ResultSetInfoWithStream(session, driverLease, result,
+                        Collections.singletonList("x"), 1));
+        OpenCypherDriverRegistry.refresh(properties);
+        Assertions.assertEquals(1, OpenCypherDriverRegistry.getRetiredCount(properties));
+
+        Assertions.assertThrows(ServiceUnavailableException.class, resultSet::close);
+        Mockito.verify(session).close();
+        Assertions.assertEquals(0, OpenCypherDriverRegistry.getRetiredCount(properties));
+    }
+
+    @Test
+    void testMaintenanceScheduledOnce() throws SQLException {
+        final OpenCypherConnectionProperties properties = new OpenCypherConnectionProperties(PROPERTIES);
+        for (int i = 0; i < 50; i++) {
+            OpenCypherDriverRegistry.retain(properties);
+            OpenCypherDriverRegistry.acquire(properties).close();
+            OpenCypherDriverRegistry.release(properties);
+        }
+        OpenCypherDriverRegistry.runMaintenance();
+
+        // Connection churn moves the one pending run earlier at most, it does not add runs.
+        Assertions.assertTrue(OpenCypherDriverRegistry.getPendingMaintenanceCount() <= 1);
+    }
+
+    @Test
+    void testDifferentEndpointsUseDifferentDrivers() throws SQLException {
+        final Properties otherProperties = new Properties();
+        otherProperties.putAll(PROPERTIES);
+        otherProperties.put(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://127.0.0.1:%d", database.getPort()));
+        final OpenCypherConnectionProperties properties1 = new OpenCypherConnectionProperties(PROPERTIES);
+        final OpenCypherConnectionProperties properties2 = new OpenCypherConnectionProperties(otherProperties);
+
+        final int size = OpenCypherDriverRegistry.size();
+        Assertions.assertNotSame(OpenCypherDriverRegistry.getDriver(properties1),
+                OpenCypherDriverRegistry.getDriver(properties2));
+        Assertions.assertSame(OpenCypherDriverRegistry.getDriver(properties1),
+                OpenCypherDriverRegistry.getDriver(properties1));
+        Assertions.assertTrue(OpenCypherDriverRegistry.size() >= size + 1);
+    }
+}
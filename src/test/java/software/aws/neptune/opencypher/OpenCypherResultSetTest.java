@@ -22,7 +22,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Properties;
@@ -447,4 +449,53 @@ public class OpenCypherResultSetTest {
         Assertions.assertTrue(resultSet.next());
 
     }
+
+    @Test
+    void testPreparedDecimalParameter() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement =
+                statement.getConnection().prepareStatement("RETURN ? AS x");
+        preparedStatement.setBigDecimal(1, new BigDecimal("1.5"));
+        final java.sql.ResultSet resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1.5, resultSet.getDouble(1));
+        resultSet.close();
+
+        // Decimals that a double would round are rejected instead of silently losing precision.
+        final BigDecimal precise = new BigDecimal("0.12345678901234567890");
+        preparedStatement.setBigDecimal(1, precise);
+        final SQLException e = Assertions.assertThrows(SQLException.class, preparedStatement::executeQuery);
+        Assertions.assertEquals(SqlError.lookup(SqlError.PARAMETER_PRECISION_LOST, precise, 1), e.getMessage());
+        preparedStatement.close();
+    }
+
+    @Test
+    void testStreamedResult() throws SQLException {
+        final java.sql.Statement streamingStatement = statement.getConnection().createStatement();
+        // Fetch size smaller than the number of records so that multiple batches are pulled from the server.
+        streamingStatement.setFetchSize(3);
+        final java.sql.ResultSet resultSet = streamingStatement.executeQuery("UNWIND range(1, 10) AS x RETURN x");
+        Assertions.assertEquals(3, resultSet.getFetchSize());
+        Assertions.assertEquals(java.sql.Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertThrows(SQLException.class, resultSet::isLast);
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        Assertions.assertEquals(0, resultSet.getRow());
+
+        long expected = 1L;
+        while (resultSet.next()) {
+            Assertions.assertEquals(expected, resultSet.getRow());
+            Assertions.assertEquals(expected == 1L, resultSet.isFirst());
+            Assertions.assertFalse(resultSet.isBeforeFirst());
+            Assertions.assertEquals(expected++, resultSet.getLong(1));
+        }
+        Assertions.assertEquals(11L, expected);
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertFalse(resultSet.isBeforeFirst());
+        // Reading past the last record reports the row it is on.
+        final SQLException e = Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+        Assertions.assertEquals(SqlError.lookup(SqlError.INVALID_INDEX, 11, 0), e.getMessage());
+        resultSet.close();
+        streamingStatement.close();
+    }
 }
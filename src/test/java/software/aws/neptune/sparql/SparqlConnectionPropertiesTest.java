@@ -20,6 +20,7 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.protocol.HttpContext;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -364,6 +365,35 @@ public class SparqlConnectionPropertiesTest {
         assertDoesNotThrowOnNewConnectionProperties(properties);
     }
 
+    @Test
+    void testTypeInferenceSampleSize() throws SQLException {
+        connectionProperties = new SparqlConnectionProperties();
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_TYPE_INFERENCE_SAMPLE_SIZE,
+                connectionProperties.getTypeInferenceSampleSize());
+        connectionProperties.setTypeInferenceSampleSize(randomIntValue);
+        Assertions.assertEquals(randomIntValue, connectionProperties.getTypeInferenceSampleSize());
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.setTypeInferenceSampleSize(-1));
+    }
+
+    @Test
+    void testColumnTypeHints() throws SQLException {
+        connectionProperties = new SparqlConnectionProperties();
+        Assertions.assertTrue(connectionProperties.getColumnTypeHintMap().isEmpty());
+
+        connectionProperties.setColumnTypeHints("age:integer, name:string");
+        Assertions.assertEquals(XSDDatatype.XSDinteger, connectionProperties.getColumnTypeHintMap().get("age"));
+        Assertions.assertEquals(XSDDatatype.XSDstring, connectionProperties.getColumnTypeHintMap().get("name"));
+
+        connectionProperties.setColumnTypeHints("age:notAType");
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.getColumnTypeHintMap());
+
+        final Properties properties = new Properties();
+        properties.put("endpointURL", "mock");
+        properties.put("port", "1234");
+        properties.put(SparqlConnectionProperties.COLUMN_TYPE_HINTS_KEY, "age");
+        assertThrowsOnNewConnectionProperties(properties);
+    }
+
     @Test
     void testChangeAuthSchemeToNone() throws SQLException {
         // Use encryption is always set because Neptune only supports encrypted connections on SPARQL.
@@ -702,4 +702,75 @@ public class SparqlResultSetTest {
             Assertions.assertNotNull(resultSet.getString(OBJECT_COLUMN_INDEX));
         }
     }
+
+    @Test
+    void testStreamedSelectResult() throws SQLException {
+        int expectedRowCount = 0;
+        final java.sql.ResultSet materializedResultSet =
+                statement.executeQuery(SparqlMockDataQuery.ALL_DATA_TWO_COLUMNS_QUERY);
+        while (materializedResultSet.next()) {
+            expectedRowCount++;
+        }
+
+        // Sample window smaller than the result so that rows are read from both the sample and the open iterator.
+        final Properties properties = sparqlProperties();
+        properties.put(SparqlConnectionProperties.TYPE_INFERENCE_SAMPLE_SIZE_KEY, 2);
+        final java.sql.Connection streamingConnection =
+                new SparqlConnection(new SparqlConnectionProperties(properties));
+        final java.sql.Statement streamingStatement = streamingConnection.createStatement();
+        streamingStatement.setFetchSize(1);
+        final java.sql.ResultSet resultSet =
+                streamingStatement.executeQuery(SparqlMockDataQuery.ALL_DATA_TWO_COLUMNS_QUERY);
+        Assertions.assertThrows(SQLException.class, resultSet::isLast);
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        Assertions.assertEquals(0, resultSet.getRow());
+        int rowCount = 0;
+        while (resultSet.next()) {
+            Assertions.assertEquals(rowCount + 1, resultSet.getRow());
+            Assertions.assertEquals(rowCount == 0, resultSet.isFirst());
+            Assertions.assertFalse(resultSet.isBeforeFirst());
+            Assertions.assertNotNull(resultSet.getString(1));
+            rowCount++;
+        }
+        Assertions.assertEquals(expectedRowCount, rowCount);
+        Assertions.assertFalse(resultSet.isBeforeFirst());
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getString(1));
+        resultSet.close();
+        streamingConnection.close();
+    }
+
+    @Test
+    void testStreamedSelectResultWithTypeHint() throws SQLException {
+        final Properties properties = sparqlProperties();
+        properties.put(SparqlConnectionProperties.TYPE_INFERENCE_SAMPLE_SIZE_KEY, 0);
+        properties.put(SparqlConnectionProperties.COLUMN_TYPE_HINTS_KEY, "long:long");
+        final java.sql.Connection streamingConnection =
+                new SparqlConnection(new SparqlConnectionProperties(properties));
+        final java.sql.Statement streamingStatement = streamingConnection.createStatement();
+        streamingStatement.setFetchSize(1);
+        final java.sql.ResultSet resultSet = streamingStatement.executeQuery(SparqlMockDataQuery.LONG_QUERY);
+        Assertions.assertEquals(java.sql.Types.BIGINT, resultSet.getMetaData().getColumnType(SELECT_RESULT_INDEX));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(EXPECTED_LONG_VALUE, resultSet.getLong(SELECT_RESULT_INDEX));
+        resultSet.close();
+        streamingConnection.close();
+    }
+
+    @Test
+    void testStreamedDescribeResult() throws SQLException {
+        final java.sql.Statement streamingStatement = connection.createStatement();
+        streamingStatement.setFetchSize(1);
+        final java.sql.ResultSet resultSet = streamingStatement.executeQuery("DESCRIBE <http://somewhere/JohnSmith>");
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertTrue(resultSet.isFirst());
+        int row = 1;
+        do {
+            Assertions.assertEquals(row++, resultSet.getRow());
+            Assertions.assertFalse(resultSet.isBeforeFirst());
+            Assertions.assertNotNull(resultSet.getString(SUBJECT_COLUMN_INDEX));
+            Assertions.assertNotNull(resultSet.getString(PREDICATE_COLUMN_INDEX));
+            Assertions.assertNotNull(resultSet.getString(OBJECT_COLUMN_INDEX));
+        } while (resultSet.next());
+    }
 }